@@ -0,0 +1,31 @@
+package io.cucumber.cdi2;
+
+import org.apiguardian.api.API;
+
+import javax.enterprise.context.NormalScope;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies that a bean is scenario scoped.
+ * <p>
+ * A scenario scoped bean is created once per scenario and destroyed when the
+ * scenario ends. Use this scope for step definitions and their state when the
+ * container is reused between scenarios.
+ *
+ * @see Cdi2Factory
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+@Target({ ElementType.TYPE, ElementType.METHOD, ElementType.FIELD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@NormalScope
+public @interface ScenarioScoped {
+
+}
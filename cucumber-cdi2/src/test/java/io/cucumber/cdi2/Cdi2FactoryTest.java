@@ -6,10 +6,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Vetoed;
 import javax.inject.Inject;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
@@ -70,6 +73,10 @@ class Cdi2FactoryTest {
     @ApplicationScoped
     static class ApplicationScopedBean {
 
+        ApplicationScopedBean self() {
+            return this;
+        }
+
     }
 
     @ParameterizedTest
@@ -86,6 +93,93 @@ class Cdi2FactoryTest {
         factory.stop();
     }
 
+    @ScenarioScoped
+    static class ScenarioScopedBean {
+
+        static final AtomicInteger destroyed = new AtomicInteger();
+
+        private int value;
+
+        int getValue() {
+            return value;
+        }
+
+        void setValue(int value) {
+            this.value = value;
+        }
+
+        @PreDestroy
+        void preDestroy() {
+            destroyed.incrementAndGet();
+        }
+
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void shouldReuseContainerAndCreateScenarioScopedInstanceForEachScenario(boolean ignoreLocalBeansXml) {
+        IgnoreLocalBeansXmlClassLoader.setClassLoader(ignoreLocalBeansXml);
+        ScenarioScopedBean.destroyed.set(0);
+        Cdi2Factory reusingFactory = new Cdi2Factory(true);
+        reusingFactory.addClass(ApplicationScopedBean.class);
+        reusingFactory.addClass(ScenarioScopedBean.class);
+        try {
+            // Scenario 1
+            reusingFactory.start();
+            ApplicationScopedBean a = reusingFactory.getInstance(ApplicationScopedBean.class).self();
+            reusingFactory.getInstance(ScenarioScopedBean.class).setValue(42);
+            assertThat(reusingFactory.getInstance(ScenarioScopedBean.class).getValue(), is(42));
+            reusingFactory.stop();
+            assertThat(ScenarioScopedBean.destroyed.get(), is(1));
+
+            // Scenario 2
+            reusingFactory.start();
+            ApplicationScopedBean b = reusingFactory.getInstance(ApplicationScopedBean.class).self();
+            assertThat(reusingFactory.getInstance(ScenarioScopedBean.class).getValue(), is(0));
+            reusingFactory.stop();
+            assertThat(ScenarioScopedBean.destroyed.get(), is(2));
+
+            assertThat(a, is(b));
+        } finally {
+            reusingFactory.closeContainer();
+        }
+    }
+
+    static class DependentStepDefinitions {
+
+        static final AtomicInteger destroyed = new AtomicInteger();
+
+        @PreDestroy
+        void preDestroy() {
+            destroyed.incrementAndGet();
+        }
+
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void shouldDestroyDependentInstancesAfterEachScenarioWhenReusingContainer(boolean ignoreLocalBeansXml) {
+        IgnoreLocalBeansXmlClassLoader.setClassLoader(ignoreLocalBeansXml);
+        DependentStepDefinitions.destroyed.set(0);
+        Cdi2Factory reusingFactory = new Cdi2Factory(true);
+        reusingFactory.addClass(DependentStepDefinitions.class);
+        try {
+            // Scenario 1
+            reusingFactory.start();
+            assertThat(reusingFactory.getInstance(DependentStepDefinitions.class), is(notNullValue()));
+            reusingFactory.stop();
+            assertThat(DependentStepDefinitions.destroyed.get(), is(1));
+
+            // Scenario 2
+            reusingFactory.start();
+            assertThat(reusingFactory.getInstance(DependentStepDefinitions.class), is(notNullValue()));
+            reusingFactory.stop();
+            assertThat(DependentStepDefinitions.destroyed.get(), is(2));
+        } finally {
+            reusingFactory.closeContainer();
+        }
+    }
+
     static class UnmanagedBean {
 
     }
@@ -0,0 +1,64 @@
+package io.cucumber.cdi2;
+
+import io.cucumber.cdi2.example.Belly;
+import io.cucumber.cdi2.example.BellyStepDefinitions;
+
+import java.util.Arrays;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Measures the overhead per scenario of a {@link Cdi2Factory} that starts a
+ * container for every scenario and of one that reuses its container.
+ * <p>
+ * Each run uses a new factory, so the reused container is started once per
+ * run. The container is bootstrapped on several threads, so the median wall
+ * clock time is reported rather than the CPU time of the current thread.
+ * <p>
+ * Like the benchmarks in cucumber-core this is a plain main class that is not
+ * run by the build.
+ */
+public class ContainerReuseBenchmark {
+
+    private static final int SCENARIOS = 50;
+    private static final int WARMUPS = 1;
+    private static final int ITERATIONS = 3;
+
+    public static void main(String[] args) {
+        System.out.printf("%-30s %12s %12s%n", "workload", "us/scenario", "time (ms)");
+        measure("container per scenario", false);
+        measure("reused container", true);
+    }
+
+    private static void measure(String name, boolean reuseContainer) {
+        for (int i = 0; i < WARMUPS; i++) {
+            run(reuseContainer);
+        }
+        long[] times = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            run(reuseContainer);
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        long time = times[ITERATIONS / 2];
+        System.out.printf("%-30s %12d %12d%n", name, NANOSECONDS.toMicros(time) / SCENARIOS,
+            NANOSECONDS.toMillis(time));
+    }
+
+    private static void run(boolean reuseContainer) {
+        Cdi2Factory factory = new Cdi2Factory(reuseContainer);
+        factory.addClass(BellyStepDefinitions.class);
+        try {
+            for (int i = 0; i < SCENARIOS; i++) {
+                factory.start();
+                factory.getInstance(BellyStepDefinitions.class);
+                factory.getInstance(Belly.class);
+                factory.stop();
+            }
+        } finally {
+            factory.closeContainer();
+        }
+    }
+
+}
@@ -9,6 +9,16 @@ public interface Glue {
 
     void addAfterAllHook(StaticHookDefinition afterAllHook);
 
+    @API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+    default void addBeforeFeatureHook(StaticHookDefinition beforeFeatureHook) {
+        throw new UnsupportedOperationException("BeforeFeature hooks are not supported by " + getClass().getName());
+    }
+
+    @API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+    default void addAfterFeatureHook(StaticHookDefinition afterFeatureHook) {
+        throw new UnsupportedOperationException("AfterFeature hooks are not supported by " + getClass().getName());
+    }
+
     void addStepDefinition(StepDefinition stepDefinition);
 
     void addBeforeHook(HookDefinition beforeHook);
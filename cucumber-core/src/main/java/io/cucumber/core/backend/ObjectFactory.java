@@ -30,4 +30,16 @@ public interface ObjectFactory extends Container, Lookup {
      */
     void stop();
 
+    /**
+     * Disposes the object factory. Invoked when the test run has finished,
+     * after the last scenario was stopped.
+     * <p>
+     * Object factories that keep instances between scenarios should dispose
+     * of them. May be invoked more than once.
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+    default void dispose() {
+
+    }
+
 }
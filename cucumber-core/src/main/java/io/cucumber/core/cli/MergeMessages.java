@@ -0,0 +1,121 @@
+package io.cucumber.core.cli;
+
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.eventbus.RandomUuidGenerator;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.options.RuntimeOptionsBuilder;
+import io.cucumber.core.plugin.MessagesMerger;
+import io.cucumber.core.plugin.PluginFactory;
+import io.cucumber.core.plugin.Plugins;
+import io.cucumber.core.replay.MessagesReplay;
+import io.cucumber.core.runtime.TimeServiceEventBus;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Merges the message NDJSON files of several test runs into a single report.
+ * <p>
+ * Usage: {@code MergeMessages [--plugin PLUGIN[:PATH|[URI [OPTIONS]]] ...] FILE...}
+ * <p>
+ * The files are read one message at a time and merged into a single stream of
+ * messages. This stream is replayed to all plugins, e.g. {@code html},
+ * {@code json} or {@code message} to write the merged messages. Given a single
+ * file, the test run is replayed as is. This can be used to create reports from
+ * a previous test run without executing it again.
+ *
+ * @see MessagesMerger
+ * @see MessagesReplay
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+public final class MergeMessages {
+
+    private static final String USAGE = "" +
+            "Usage: java io.cucumber.core.cli.MergeMessages [options] FILE...\n" +
+            "\n" +
+            "Merges message NDJSON files produced by the message plugin and replays\n" +
+            "them to plugins.\n" +
+            "\n" +
+            "Options:\n" +
+            "\n" +
+            "  -p, --plugin PLUGIN[:[PATH|[URI [OPTIONS]]]\n" +
+            "                           Register a plugin that receives the\n" +
+            "                           replayed test run, e.g. html:report.html.\n" +
+            "                           May be repeated.\n" +
+            "  -h, --help               You're looking at it.\n";
+
+    private MergeMessages() {
+
+    }
+
+    public static void main(String... argv) {
+        byte exitStatus = run(argv);
+        System.exit(exitStatus);
+    }
+
+    /**
+     * Merges message NDJSON files and replays them to plugins.
+     *
+     * @param  argv plugins and files to merge
+     * @return      0 if all merged test runs were successful, 1 if they were
+     *              not, 2 if the arguments were invalid
+     */
+    public static byte run(String... argv) {
+        return run(System.out, argv);
+    }
+
+    static byte run(PrintStream out, String... argv) {
+        RuntimeOptionsBuilder builder = new RuntimeOptionsBuilder();
+        List<Path> files = new ArrayList<>();
+        List<String> args = new ArrayList<>(Arrays.asList(argv));
+        while (!args.isEmpty()) {
+            String arg = args.remove(0).trim();
+            if (arg.equals("--help") || arg.equals("-h")) {
+                out.print(USAGE);
+                return 0;
+            } else if (arg.equals("--plugin") || arg.equals("-p")) {
+                if (args.isEmpty()) {
+                    out.println("Missing argument for " + arg);
+                    return 2;
+                }
+                builder.addPluginName(args.remove(0));
+            } else if (arg.startsWith("-")) {
+                out.println("Unknown option: " + arg);
+                out.print(USAGE);
+                return 2;
+            } else {
+                files.add(Paths.get(arg));
+            }
+        }
+        if (files.isEmpty()) {
+            out.print(USAGE);
+            return 2;
+        }
+
+        RuntimeOptions runtimeOptions = builder.build();
+        Plugins plugins = new Plugins(new PluginFactory(), runtimeOptions);
+        EventBus eventBus = new TimeServiceEventBus(Clock.systemUTC(), new RandomUuidGenerator()::generateId);
+        plugins.setEventBusOnEventListenerPlugins(eventBus);
+
+        MessagesReplay replay = new MessagesReplay(eventBus);
+        boolean[] success = { true };
+        try {
+            new MessagesMerger(files).merge(envelope -> {
+                envelope.getTestRunFinished().ifPresent(testRunFinished -> success[0] = testRunFinished.getSuccess());
+                replay.replay(envelope);
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return success[0] ? (byte) 0 : (byte) 1;
+    }
+
+}
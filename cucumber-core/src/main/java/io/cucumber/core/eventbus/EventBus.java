@@ -5,10 +5,32 @@ import io.cucumber.plugin.event.EventPublisher;
 import java.time.Instant;
 import java.util.UUID;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
+
 public interface EventBus extends EventPublisher {
 
+    /**
+     * Returns the current wall clock time. Used to time stamp events.
+     *
+     * @return the current instant
+     */
     Instant getInstant();
 
+    /**
+     * Returns the current value of a monotonic time source in nanoseconds.
+     * Used to measure durations. The value has no relation to the wall clock
+     * time and is only meaningful when compared to other values returned by
+     * this method.
+     * <p>
+     * Defaults to the nano seconds since the epoch of {@link #getInstant()}.
+     *
+     * @return the current value of the time source in nanoseconds
+     */
+    default long getNanoTime() {
+        Instant instant = getInstant();
+        return SECONDS.toNanos(instant.getEpochSecond()) + instant.getNano();
+    }
+
     UUID generateId();
 
     <T> void send(T event);
@@ -0,0 +1,46 @@
+package io.cucumber.core.filter;
+
+import io.cucumber.tagexpressions.Expression;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A tag expression that is evaluated at most once per {@link TagSet}.
+ * <p>
+ * Suites typically contain many scenarios but only few distinct combinations
+ * of tags. The results are remembered per interned tag set, so evaluating the
+ * same expression against scenarios with the same tags is a single lookup.
+ */
+public final class CompiledTagExpression {
+
+    private final Expression expression;
+    private final Map<TagSet, Boolean> results = new ConcurrentHashMap<>();
+
+    public CompiledTagExpression(Expression expression) {
+        this.expression = requireNonNull(expression);
+    }
+
+    public boolean evaluate(TagSet tags) {
+        Boolean result = results.get(tags);
+        if (result == null) {
+            // Evaluating is pure, a concurrent evaluation yields the same
+            // result.
+            result = expression.evaluate(tags.getTags());
+            results.putIfAbsent(tags, result);
+        }
+        return result;
+    }
+
+    public Expression getExpression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return expression.toString();
+    }
+
+}
@@ -15,9 +15,13 @@ public final class Filters implements Predicate<Pickle> {
     private Predicate<Pickle> filter = t -> true;
 
     public Filters(Options options) {
+        this(options, new TagSets());
+    }
+
+    public Filters(Options options, TagSets tagSets) {
         List<Expression> tagExpressions = options.getTagExpressions();
         if (!tagExpressions.isEmpty()) {
-            this.filter = this.filter.and(new TagPredicate(tagExpressions));
+            this.filter = this.filter.and(new TagPredicate(tagExpressions, tagSets));
         }
         List<Pattern> nameFilters = options.getNameFilters();
         if (!nameFilters.isEmpty()) {
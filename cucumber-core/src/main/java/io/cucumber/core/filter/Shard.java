@@ -0,0 +1,198 @@
+package io.cucumber.core.filter;
+
+import io.cucumber.core.exception.CucumberException;
+import io.cucumber.core.gherkin.Pickle;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Selects the pickles executed by one of several shards.
+ * <p>
+ * Every shard must be given the same pickles, in any order, and selects a
+ * disjoint subset of them. Together the shards select all pickles.
+ * <p>
+ * Without timings pickles are assigned by a hash of their location. With
+ * timings pickles are assigned, longest first, to the shard with the least
+ * total duration so far. Pickles without a recorded duration are assumed to
+ * take the average recorded duration.
+ * <p>
+ * The timings file contains one pickle per line, formatted as
+ * {@code <location> <duration in milliseconds>}. The location uses the same
+ * format as the rerun formatter, e.g. {@code file:path/to/example.feature:42}.
+ * This file is written by the {@code timings} plugin.
+ */
+public final class Shard {
+
+    private final int index;
+    private final int total;
+    private final Map<String, Long> durations;
+
+    private Shard(int index, int total, Map<String, Long> durations) {
+        this.index = index;
+        this.total = total;
+        this.durations = durations;
+    }
+
+    /**
+     * @param  index                    the zero-based index of this shard
+     * @param  total                    the total number of shards
+     * @param  timings                  an optional timings file, may be null
+     * @return                          the shard
+     * @throws IllegalArgumentException when the index is not within the range
+     *                                  of shards
+     */
+    public static Shard create(int index, int total, Path timings) {
+        if (total < 1) {
+            throw new IllegalArgumentException("The total number of shards must be positive but was " + total);
+        }
+        if (index < 0 || index >= total) {
+            throw new IllegalArgumentException(
+                "The shard index must be between 0 and " + (total - 1) + " but was " + index);
+        }
+        Map<String, Long> durations = timings == null ? Collections.emptyMap() : readTimings(timings);
+        return new Shard(index, total, durations);
+    }
+
+    private static Map<String, Long> readTimings(Path timings) {
+        Map<String, Long> durations = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(timings, UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                int separator = line.lastIndexOf(' ');
+                if (separator < 0) {
+                    continue;
+                }
+                durations.put(line.substring(0, separator).trim(), Long.parseLong(line.substring(separator + 1)));
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new CucumberException("Failed to read timings from " + timings, e);
+        }
+        return durations;
+    }
+
+    /**
+     * Creates the location of a pickle as used in the timings file. File URIs
+     * are made relative to the current working directory so the location is
+     * the same on machines with a different checkout directory.
+     *
+     * @param  uri  of the feature
+     * @param  line of the pickle
+     * @return      the location of the pickle
+     */
+    public static String location(URI uri, int line) {
+        return relativize(uri) + ":" + line;
+    }
+
+    private static URI relativize(URI uri) {
+        if (!"file".equals(uri.getScheme()) || !uri.isAbsolute()) {
+            return uri;
+        }
+        try {
+            URI relative = new File("").toURI().relativize(uri);
+            // Scheme is lost by relativize
+            return new URI("file", relative.getSchemeSpecificPart(), relative.getFragment());
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param  pickles all pickles
+     * @return         the pickles selected by this shard, in their original
+     *                 order
+     */
+    public List<Pickle> select(List<Pickle> pickles) {
+        if (total == 1) {
+            return pickles;
+        }
+        if (durations.isEmpty()) {
+            return selectByHash(pickles);
+        }
+        return selectByDuration(pickles);
+    }
+
+    private List<Pickle> selectByHash(List<Pickle> pickles) {
+        List<Pickle> selected = new ArrayList<>();
+        for (Pickle pickle : pickles) {
+            if (Math.floorMod(location(pickle).hashCode(), total) == index) {
+                selected.add(pickle);
+            }
+        }
+        return selected;
+    }
+
+    private List<Pickle> selectByDuration(List<Pickle> pickles) {
+        long averageDuration = Math.max(1, (long) durations.values().stream()
+                .mapToLong(Long::longValue)
+                .average()
+                .orElse(1));
+
+        List<TimedPickle> timedPickles = new ArrayList<>(pickles.size());
+        for (Pickle pickle : pickles) {
+            String location = location(pickle);
+            long duration = durations.getOrDefault(location, averageDuration);
+            timedPickles.add(new TimedPickle(pickle, location, duration));
+        }
+        // Ties are broken by location so every shard computes the same
+        // assignment regardless of the order of the pickles
+        timedPickles.sort(Comparator.<TimedPickle> comparingLong(timed -> timed.duration)
+                .reversed()
+                .thenComparing(timed -> timed.location));
+
+        long[] load = new long[total];
+        Set<Pickle> assigned = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (TimedPickle timed : timedPickles) {
+            int lightest = 0;
+            for (int shard = 1; shard < total; shard++) {
+                if (load[shard] < load[lightest]) {
+                    lightest = shard;
+                }
+            }
+            load[lightest] += timed.duration;
+            if (lightest == index) {
+                assigned.add(timed.pickle);
+            }
+        }
+
+        return pickles.stream()
+                .filter(assigned::contains)
+                .collect(toList());
+    }
+
+    private static String location(Pickle pickle) {
+        return location(pickle.getUri(), pickle.getLocation().getLine());
+    }
+
+    private static final class TimedPickle {
+
+        private final Pickle pickle;
+        private final String location;
+        private final long duration;
+
+        TimedPickle(Pickle pickle, String location, long duration) {
+            this.pickle = pickle;
+            this.location = location;
+            this.duration = duration;
+        }
+
+    }
+
+}
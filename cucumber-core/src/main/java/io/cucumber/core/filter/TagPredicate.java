@@ -4,15 +4,19 @@ import io.cucumber.core.gherkin.Pickle;
 import io.cucumber.tagexpressions.Expression;
 
 import java.util.List;
-import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 final class TagPredicate implements Predicate<Pickle> {
 
-    private final List<Expression> expressions;
+    private final TagSets tagSets;
+    private final List<CompiledTagExpression> expressions;
 
-    TagPredicate(List<Expression> tagExpressions) {
-        expressions = Objects.requireNonNull(tagExpressions);
+    TagPredicate(List<Expression> tagExpressions, TagSets tagSets) {
+        this.tagSets = tagSets;
+        expressions = tagExpressions.stream()
+                .map(CompiledTagExpression::new)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -21,9 +25,13 @@ final class TagPredicate implements Predicate<Pickle> {
             return true;
         }
 
-        List<String> tags = pickle.getTags();
-        return expressions.stream()
-                .allMatch(expression -> expression.evaluate(tags));
+        TagSet tags = tagSets.of(pickle);
+        for (CompiledTagExpression expression : expressions) {
+            if (!expression.evaluate(tags)) {
+                return false;
+            }
+        }
+        return true;
     }
 
 }
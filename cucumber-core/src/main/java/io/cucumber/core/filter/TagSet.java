@@ -0,0 +1,43 @@
+package io.cucumber.core.filter;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An interned set of tags.
+ * <p>
+ * Each distinct combination of tags is represented by a single tag set per
+ * {@link TagSets}. Tag expressions only depend on which tags are present, so
+ * the result of evaluating an expression against a tag set can be remembered.
+ * See {@link CompiledTagExpression}.
+ */
+public final class TagSet {
+
+    private final Set<String> distinctTags;
+    private final List<String> tags;
+
+    TagSet(Set<String> distinctTags, List<String> tags) {
+        this.distinctTags = distinctTags;
+        this.tags = tags;
+    }
+
+    List<String> getTags() {
+        return tags;
+    }
+
+    /**
+     * Returns true iff this tag set contains {@code tag}.
+     *
+     * @param  tag the tag, e.g. {@code @smoke}
+     * @return     true iff this tag set contains the tag
+     */
+    public boolean contains(String tag) {
+        return distinctTags.contains(tag);
+    }
+
+    @Override
+    public String toString() {
+        return tags.toString();
+    }
+
+}
@@ -0,0 +1,49 @@
+package io.cucumber.core.filter;
+
+import io.cucumber.core.gherkin.Pickle;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * Interns the {@link TagSet tag sets} of a single test run.
+ * <p>
+ * The tag set of each pickle is computed once and shared by the filters and
+ * the runners of the run. Because tag sets are only interned for as long as
+ * this instance is referenced, a new instance should be used for each run.
+ */
+public final class TagSets {
+
+    private final Map<Set<String>, TagSet> tagSets = new ConcurrentHashMap<>();
+    private final Map<String, TagSet> tagSetsByPickleId = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the interned tag set containing the tags of {@code pickle}.
+     *
+     * @param  pickle the pickle
+     * @return        the interned tag set
+     */
+    public TagSet of(Pickle pickle) {
+        return tagSetsByPickleId.computeIfAbsent(pickle.getId(), id -> of(pickle.getTags()));
+    }
+
+    /**
+     * Returns the interned tag set containing {@code tags}.
+     *
+     * @param  tags the tags, e.g. {@code @smoke}
+     * @return      the interned tag set
+     */
+    public TagSet of(List<String> tags) {
+        Set<String> distinctTags = unmodifiableSet(new HashSet<>(tags));
+        return tagSets.computeIfAbsent(distinctTags,
+            key -> new TagSet(key, unmodifiableList(new ArrayList<>(tags))));
+    }
+
+}
@@ -18,6 +18,30 @@ public final class Constants {
      */
     public static final String CUCUMBER_PROPERTIES_FILE_NAME = "cucumber.properties";
 
+    /**
+     * Property name used to enable parallel transformation of large data
+     * tables: {@value}
+     * <p>
+     * Data tables with at least this number of rows that are transformed by a
+     * data table type that was declared thread safe are transformed in the
+     * common fork join pool. Glue that depends on the thread that executes the
+     * scenario, e.g. scenario scoped Spring beans or Guice objects, can not be
+     * used by these data table types.
+     * <p>
+     * By default, data tables are not transformed in parallel.
+     */
+    public static final String DATATABLE_PARALLEL_TRANSFORMATION_THRESHOLD_PROPERTY_NAME = "cucumber.datatable.parallel-transformation.threshold";
+
+    /**
+     * Property name used to set the number of chunks a data table is split
+     * into when transformed in parallel: {@value}
+     * <p>
+     * By default, the number of available processors.
+     *
+     * @see #DATATABLE_PARALLEL_TRANSFORMATION_THRESHOLD_PROPERTY_NAME
+     */
+    public static final String DATATABLE_PARALLEL_TRANSFORMATION_PARALLELISM_PROPERTY_NAME = "cucumber.datatable.parallel-transformation.parallelism";
+
     /**
      * Property name used to enable dry-run: {@value}
      * <p>
@@ -46,6 +70,49 @@ public final class Constants {
      */
     public static final String EXECUTION_ORDER_PROPERTY_NAME = "cucumber.execution.order";
 
+    /**
+     * Property name used to select the unit of work distributed over threads
+     * when executing in parallel: {@value}
+     * <p>
+     * Valid values are {@code scenario} or {@code feature}. When set to
+     * {@code feature} all scenarios of a feature are executed on the same
+     * thread and the largest features are started first.
+     * <p>
+     * By default, scenarios are executed on any available thread
+     */
+    public static final String EXECUTION_PARALLEL_GRANULARITY_PROPERTY_NAME = "cucumber.execution.parallel.granularity";
+
+    /**
+     * Property name used to select the shard executed by this process: {@value}
+     * <p>
+     * The zero-based index of the shard. Must be less than
+     * {@value EXECUTION_SHARD_TOTAL_PROPERTY_NAME}. Every shard must select the
+     * same features and use the same filters.
+     * <p>
+     * By default, the first shard is executed.
+     */
+    public static final String EXECUTION_SHARD_INDEX_PROPERTY_NAME = "cucumber.execution.shard.index";
+
+    /**
+     * Property name used to set the total number of shards: {@value}
+     * <p>
+     * By default, all scenarios are executed by a single shard.
+     */
+    public static final String EXECUTION_SHARD_TOTAL_PROPERTY_NAME = "cucumber.execution.shard.total";
+
+    /**
+     * Property name used to set a file with historical scenario durations:
+     * {@value}
+     * <p>
+     * When set, scenarios are distributed over shards such that each shard
+     * takes about the same time. This file can be created with the
+     * {@code timings} plugin.
+     * <p>
+     * By default, scenarios are distributed over shards by a stable hash of
+     * their location.
+     */
+    public static final String EXECUTION_SHARD_TIMINGS_PROPERTY_NAME = "cucumber.execution.shard.timings";
+
     /**
      * Property name used to enable wip execution: {@value}
      * <p>
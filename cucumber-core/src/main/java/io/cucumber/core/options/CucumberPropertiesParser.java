@@ -6,6 +6,7 @@ import io.cucumber.core.logging.Logger;
 import io.cucumber.core.logging.LoggerFactory;
 import io.cucumber.tagexpressions.TagExpressionParser;
 
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -14,9 +15,15 @@ import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import static io.cucumber.core.options.Constants.ANSI_COLORS_DISABLED_PROPERTY_NAME;
+import static io.cucumber.core.options.Constants.DATATABLE_PARALLEL_TRANSFORMATION_PARALLELISM_PROPERTY_NAME;
+import static io.cucumber.core.options.Constants.DATATABLE_PARALLEL_TRANSFORMATION_THRESHOLD_PROPERTY_NAME;
 import static io.cucumber.core.options.Constants.EXECUTION_DRY_RUN_PROPERTY_NAME;
 import static io.cucumber.core.options.Constants.EXECUTION_LIMIT_PROPERTY_NAME;
 import static io.cucumber.core.options.Constants.EXECUTION_ORDER_PROPERTY_NAME;
+import static io.cucumber.core.options.Constants.EXECUTION_PARALLEL_GRANULARITY_PROPERTY_NAME;
+import static io.cucumber.core.options.Constants.EXECUTION_SHARD_INDEX_PROPERTY_NAME;
+import static io.cucumber.core.options.Constants.EXECUTION_SHARD_TIMINGS_PROPERTY_NAME;
+import static io.cucumber.core.options.Constants.EXECUTION_SHARD_TOTAL_PROPERTY_NAME;
 import static io.cucumber.core.options.Constants.FEATURES_PROPERTY_NAME;
 import static io.cucumber.core.options.Constants.FILTER_NAME_PROPERTY_NAME;
 import static io.cucumber.core.options.Constants.FILTER_TAGS_PROPERTY_NAME;
@@ -55,6 +62,16 @@ public final class CucumberPropertiesParser {
             BooleanString::parseBoolean,
             builder::setDryRun);
 
+        parse(properties,
+            DATATABLE_PARALLEL_TRANSFORMATION_THRESHOLD_PROPERTY_NAME,
+            Integer::parseInt,
+            builder::setDataTableParallelTransformationThreshold);
+
+        parse(properties,
+            DATATABLE_PARALLEL_TRANSFORMATION_PARALLELISM_PROPERTY_NAME,
+            Integer::parseInt,
+            builder::setDataTableParallelTransformationParallelism);
+
         parse(properties,
             EXECUTION_LIMIT_PROPERTY_NAME,
             Integer::parseInt,
@@ -65,6 +82,26 @@ public final class CucumberPropertiesParser {
             PickleOrderParser::parse,
             builder::setPickleOrder);
 
+        parse(properties,
+            EXECUTION_PARALLEL_GRANULARITY_PROPERTY_NAME,
+            ParallelGranularity::parse,
+            builder::setParallelGranularity);
+
+        parse(properties,
+            EXECUTION_SHARD_INDEX_PROPERTY_NAME,
+            Integer::parseInt,
+            builder::setShardIndex);
+
+        parse(properties,
+            EXECUTION_SHARD_TOTAL_PROPERTY_NAME,
+            Integer::parseInt,
+            builder::setShardTotal);
+
+        parse(properties,
+            EXECUTION_SHARD_TIMINGS_PROPERTY_NAME,
+            Paths::get,
+            builder::setShardTimings);
+
         parseAll(properties,
             FEATURES_PROPERTY_NAME,
             splitAndMap(FeatureWithLinesOrRerunPath::parse),
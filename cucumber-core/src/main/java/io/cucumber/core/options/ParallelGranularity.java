@@ -0,0 +1,24 @@
+package io.cucumber.core.options;
+
+import java.util.Locale;
+
+/**
+ * The unit of work distributed over threads when executing in parallel.
+ */
+public enum ParallelGranularity {
+
+    /**
+     * Scenarios are executed on any available thread.
+     */
+    SCENARIO,
+
+    /**
+     * All scenarios of a feature are executed on the same thread.
+     */
+    FEATURE;
+
+    static ParallelGranularity parse(String value) {
+        return valueOf(value.toUpperCase(Locale.ROOT));
+    }
+
+}
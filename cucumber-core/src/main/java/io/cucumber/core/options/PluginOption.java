@@ -14,6 +14,7 @@ import io.cucumber.core.plugin.RerunFormatter;
 import io.cucumber.core.plugin.TeamCityPlugin;
 import io.cucumber.core.plugin.TestNGFormatter;
 import io.cucumber.core.plugin.TimelineFormatter;
+import io.cucumber.core.plugin.TimingsFormatter;
 import io.cucumber.core.plugin.UnusedStepsSummaryPrinter;
 import io.cucumber.core.plugin.UsageFormatter;
 import io.cucumber.plugin.ConcurrentEventListener;
@@ -53,6 +54,7 @@ public class PluginOption implements Options.Plugin {
         plugins.put("summary", DefaultSummaryPrinter.class);
         plugins.put("testng", TestNGFormatter.class);
         plugins.put("timeline", TimelineFormatter.class);
+        plugins.put("timings", TimingsFormatter.class);
         plugins.put("unused", UnusedStepsSummaryPrinter.class);
         plugins.put("usage", UsageFormatter.class);
         plugins.put("teamcity", TeamCityPlugin.class);
@@ -12,11 +12,13 @@ import io.cucumber.core.snippets.SnippetType;
 import io.cucumber.tagexpressions.Expression;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -49,6 +51,12 @@ public final class RuntimeOptions implements
     private boolean wip = false;
     private SnippetType snippetType = SnippetType.UNDERSCORE;
     private int threads = 1;
+    private ParallelGranularity parallelGranularity = ParallelGranularity.SCENARIO;
+    private int shardIndex = 0;
+    private int shardTotal = 1;
+    private Path shardTimings;
+    private int dataTableParallelTransformationThreshold = 0;
+    private int dataTableParallelTransformationParallelism = Runtime.getRuntime().availableProcessors();
     private PickleOrder pickleOrder = StandardPickleOrders.lexicalUriOrder();
     private int count = 0;
     private Class<? extends ObjectFactory> objectFactoryClass;
@@ -103,6 +111,38 @@ public final class RuntimeOptions implements
         this.threads = threads;
     }
 
+    public ParallelGranularity getParallelGranularity() {
+        return parallelGranularity;
+    }
+
+    void setParallelGranularity(ParallelGranularity parallelGranularity) {
+        this.parallelGranularity = parallelGranularity;
+    }
+
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    void setShardIndex(int shardIndex) {
+        this.shardIndex = shardIndex;
+    }
+
+    public int getShardTotal() {
+        return shardTotal;
+    }
+
+    void setShardTotal(int shardTotal) {
+        this.shardTotal = shardTotal;
+    }
+
+    public Optional<Path> getShardTimings() {
+        return Optional.ofNullable(shardTimings);
+    }
+
+    void setShardTimings(Path shardTimings) {
+        this.shardTimings = shardTimings;
+    }
+
     @Override
     public List<Plugin> plugins() {
         Set<Plugin> plugins = new LinkedHashSet<>();
@@ -160,6 +200,24 @@ public final class RuntimeOptions implements
         return snippetType;
     }
 
+    @Override
+    public int getDataTableParallelTransformationThreshold() {
+        return dataTableParallelTransformationThreshold;
+    }
+
+    void setDataTableParallelTransformationThreshold(int threshold) {
+        this.dataTableParallelTransformationThreshold = threshold;
+    }
+
+    @Override
+    public int getDataTableParallelTransformationParallelism() {
+        return dataTableParallelTransformationParallelism;
+    }
+
+    void setDataTableParallelTransformationParallelism(int parallelism) {
+        this.dataTableParallelTransformationParallelism = parallelism;
+    }
+
     @Override
     public Class<? extends ObjectFactory> getObjectFactoryClass() {
         return objectFactoryClass;
@@ -10,6 +10,7 @@ import io.cucumber.core.snippets.SnippetType;
 import io.cucumber.tagexpressions.Expression;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -25,6 +26,12 @@ public final class RuntimeOptionsBuilder {
     private final List<Options.Plugin> plugins = new ArrayList<>();
     private List<FeatureWithLines> parsedRerunPaths = null;
     private Integer parsedThreads = null;
+    private ParallelGranularity parsedParallelGranularity = null;
+    private Integer parsedShardIndex = null;
+    private Integer parsedShardTotal = null;
+    private Path parsedShardTimings = null;
+    private Integer parsedDataTableParallelTransformationThreshold = null;
+    private Integer parsedDataTableParallelTransformationParallelism = null;
     private Boolean parsedDryRun = null;
     private Boolean parsedMonochrome = null;
     private SnippetType parsedSnippetType = null;
@@ -88,6 +95,32 @@ public final class RuntimeOptionsBuilder {
             runtimeOptions.setThreads(this.parsedThreads);
         }
 
+        if (this.parsedParallelGranularity != null) {
+            runtimeOptions.setParallelGranularity(this.parsedParallelGranularity);
+        }
+
+        if (this.parsedShardIndex != null) {
+            runtimeOptions.setShardIndex(this.parsedShardIndex);
+        }
+
+        if (this.parsedShardTotal != null) {
+            runtimeOptions.setShardTotal(this.parsedShardTotal);
+        }
+
+        if (this.parsedShardTimings != null) {
+            runtimeOptions.setShardTimings(this.parsedShardTimings);
+        }
+
+        if (this.parsedDataTableParallelTransformationThreshold != null) {
+            runtimeOptions.setDataTableParallelTransformationThreshold(
+                this.parsedDataTableParallelTransformationThreshold);
+        }
+
+        if (this.parsedDataTableParallelTransformationParallelism != null) {
+            runtimeOptions.setDataTableParallelTransformationParallelism(
+                this.parsedDataTableParallelTransformationParallelism);
+        }
+
         if (this.parsedDryRun != null) {
             runtimeOptions.setDryRun(this.parsedDryRun);
         }
@@ -213,6 +246,36 @@ public final class RuntimeOptionsBuilder {
         return this;
     }
 
+    public RuntimeOptionsBuilder setParallelGranularity(ParallelGranularity parallelGranularity) {
+        this.parsedParallelGranularity = parallelGranularity;
+        return this;
+    }
+
+    public RuntimeOptionsBuilder setShardIndex(int shardIndex) {
+        this.parsedShardIndex = shardIndex;
+        return this;
+    }
+
+    public RuntimeOptionsBuilder setShardTotal(int shardTotal) {
+        this.parsedShardTotal = shardTotal;
+        return this;
+    }
+
+    public RuntimeOptionsBuilder setShardTimings(Path shardTimings) {
+        this.parsedShardTimings = shardTimings;
+        return this;
+    }
+
+    public RuntimeOptionsBuilder setDataTableParallelTransformationThreshold(int threshold) {
+        this.parsedDataTableParallelTransformationThreshold = threshold;
+        return this;
+    }
+
+    public RuntimeOptionsBuilder setDataTableParallelTransformationParallelism(int parallelism) {
+        this.parsedDataTableParallelTransformationParallelism = parallelism;
+        return this;
+    }
+
     public RuntimeOptionsBuilder setWip(boolean wip) {
         this.parsedWip = wip;
         return this;
@@ -2,16 +2,28 @@ package io.cucumber.core.plugin;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.cfg.ConstructorDetector;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedParameter;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 
+import java.lang.reflect.Executable;
+import java.lang.reflect.Member;
+import java.lang.reflect.Parameter;
+
 final class Jackson {
     public static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
             .addModule(new Jdk8Module())
+            .annotationIntrospector(AnnotationIntrospector.pair(
+                new JacksonAnnotationIntrospector(),
+                new ParameterNamesIntrospector()))
             .serializationInclusion(Include.NON_ABSENT)
             .constructorDetector(ConstructorDetector.USE_PROPERTIES_BASED)
             .enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)
@@ -24,4 +36,29 @@ final class Jackson {
     private Jackson() {
     }
 
+    /**
+     * Uses the parameter names of constructors to deserialize messages. The
+     * message types are compiled with parameter names but have no Jackson
+     * annotations.
+     */
+    private static final class ParameterNamesIntrospector extends NopAnnotationIntrospector {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public String findImplicitPropertyName(AnnotatedMember member) {
+            if (!(member instanceof AnnotatedParameter)) {
+                return null;
+            }
+            AnnotatedParameter annotatedParameter = (AnnotatedParameter) member;
+            Member owner = annotatedParameter.getOwner().getMember();
+            if (!(owner instanceof Executable)) {
+                return null;
+            }
+            Parameter parameter = ((Executable) owner).getParameters()[annotatedParameter.getIndex()];
+            return parameter.isNamePresent() ? parameter.getName() : null;
+        }
+
+    }
+
 }
@@ -0,0 +1,369 @@
+package io.cucumber.core.plugin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Exception;
+import io.cucumber.messages.types.TestRunFinished;
+import io.cucumber.messages.types.TestRunStarted;
+import io.cucumber.messages.types.Timestamp;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static io.cucumber.messages.TimeConversion.javaInstantToTimestamp;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Merges the message streams of several test runs into a single stream.
+ * <p>
+ * The runs are expected to have executed different scenarios from the same
+ * feature files, e.g. because they were executed as separate shards. The
+ * merged stream contains:
+ * <ul>
+ * <li>The {@code Meta} message of the first run</li>
+ * <li>Each {@code Source}, {@code GherkinDocument} and {@code Pickle} once.
+ * Ids of duplicates in later runs are mapped to the ids of the first
+ * occurrence</li>
+ * <li>A single {@code TestRunStarted} message with the earliest timestamp</li>
+ * <li>All other messages of each run, in order, with their ids made unique by
+ * prefixing them with the index of the run</li>
+ * <li>A single {@code TestRunFinished} message with the latest timestamp that
+ * is only successful if all runs were successful</li>
+ * </ul>
+ * Runs are read one after the other, one message at a time. Runs in files
+ * with the {@code .gz} extension are decompressed with gzip. Only the gherkin
+ * documents and the ids of pickles are retained while merging. Results and
+ * attachments are not.
+ */
+public final class MessagesMerger {
+
+    private static final Comparator<Timestamp> TIMESTAMP_ORDER = Comparator
+            .comparing(Timestamp::getSeconds)
+            .thenComparing(Timestamp::getNanos);
+
+    private final List<Path> runs;
+
+    public MessagesMerger(List<Path> runs) {
+        this.runs = runs;
+    }
+
+    /**
+     * Reads all runs and writes the merged stream to the consumer.
+     *
+     * @param  consumer    of the merged messages
+     * @throws IOException when a run could not be read
+     */
+    public void merge(Consumer<Envelope> consumer) throws IOException {
+        Merge merge = new Merge(consumer, findEarliestTestRunStarted());
+        for (int index = 0; index < runs.size(); index++) {
+            merge.mergeRun(index, runs.get(index));
+        }
+        merge.finish();
+    }
+
+    private Timestamp findEarliestTestRunStarted() throws IOException {
+        Timestamp earliest = null;
+        for (Path run : runs) {
+            try (BufferedReader reader = newReader(run)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    // Avoid parsing anything but the test run started message,
+                    // which is usually found at the start of the stream
+                    if (!line.contains("\"testRunStarted\"")) {
+                        continue;
+                    }
+                    JsonNode message = Jackson.OBJECT_MAPPER.readTree(line).get("testRunStarted");
+                    if (message != null) {
+                        Timestamp timestamp = Jackson.OBJECT_MAPPER
+                                .treeToValue(message, TestRunStarted.class)
+                                .getTimestamp();
+                        if (earliest == null || TIMESTAMP_ORDER.compare(timestamp, earliest) < 0) {
+                            earliest = timestamp;
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+        return earliest;
+    }
+
+    private static BufferedReader newReader(Path run) throws IOException {
+        InputStream inputStream = Files.newInputStream(run);
+        if (run.getFileName().toString().endsWith(".gz")) {
+            inputStream = new GZIPInputStream(inputStream, 64 * 1024);
+        }
+        return new BufferedReader(new InputStreamReader(inputStream, UTF_8));
+    }
+
+    private static final class Merge {
+
+        private final Consumer<Envelope> consumer;
+        private final Timestamp testRunStartedTimestamp;
+        private final Set<String> sources = new HashSet<>();
+        private final Map<String, JsonNode> gherkinDocuments = new HashMap<>();
+        private final Map<String, List<String>> pickleIds = new HashMap<>();
+        private boolean metaEmitted;
+        private boolean testRunStartedEmitted;
+        private String testRunStartedId;
+        private boolean success = true;
+        private Timestamp testRunFinishedTimestamp;
+        private String testRunFinishedMessage;
+        private Exception testRunFinishedException;
+
+        Merge(Consumer<Envelope> consumer, Timestamp testRunStartedTimestamp) {
+            this.consumer = consumer;
+            this.testRunStartedTimestamp = testRunStartedTimestamp;
+        }
+
+        void mergeRun(int index, Path run) throws IOException {
+            Ids ids = new Ids(index);
+            boolean finished = false;
+            try (BufferedReader reader = newReader(run)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.trim().isEmpty()) {
+                        continue;
+                    }
+                    ObjectNode envelope = (ObjectNode) Jackson.OBJECT_MAPPER.readTree(line);
+                    finished |= mergeEnvelope(envelope, ids);
+                }
+            }
+            if (!finished) {
+                recordFailure("The messages of " + run + " did not contain a TestRunFinished message", null);
+            }
+        }
+
+        private boolean mergeEnvelope(ObjectNode envelope, Ids ids) throws IOException {
+            Iterator<String> fieldNames = envelope.fieldNames();
+            if (!fieldNames.hasNext()) {
+                return false;
+            }
+            String type = fieldNames.next();
+            JsonNode message = envelope.get(type);
+            switch (type) {
+                case "meta":
+                    if (!metaEmitted) {
+                        metaEmitted = true;
+                        emit(envelope);
+                    }
+                    return false;
+                case "source":
+                    if (sources.add(message.get("uri").asText())) {
+                        emit(envelope);
+                    }
+                    return false;
+                case "gherkinDocument":
+                    mergeGherkinDocument(envelope, message, ids);
+                    return false;
+                case "pickle":
+                    mergePickle(envelope, message, ids);
+                    return false;
+                case "testRunStarted":
+                    mergeTestRunStarted(envelope, (ObjectNode) message, ids);
+                    return false;
+                case "testRunFinished":
+                    mergeTestRunFinished(Jackson.OBJECT_MAPPER.treeToValue(message, TestRunFinished.class));
+                    return true;
+                default:
+                    ids.rekey(message);
+                    emit(envelope);
+                    return false;
+            }
+        }
+
+        private void mergeGherkinDocument(ObjectNode envelope, JsonNode document, Ids ids) throws IOException {
+            String uri = document.path("uri").asText();
+            JsonNode first = gherkinDocuments.get(uri);
+            if (first != null) {
+                ids.alias(document, first);
+                return;
+            }
+            ids.rekey(document);
+            gherkinDocuments.put(uri, document);
+            emit(envelope);
+        }
+
+        private void mergePickle(ObjectNode envelope, JsonNode pickle, Ids ids) throws IOException {
+            // Pickles are identified by the ast nodes they were created from
+            StringBuilder key = new StringBuilder(pickle.path("uri").asText());
+            for (JsonNode astNodeId : pickle.path("astNodeIds")) {
+                key.append(' ').append(ids.rekey(astNodeId.asText()));
+            }
+            List<String> first = pickleIds.get(key.toString());
+            List<String> current = pickleIds(pickle);
+            if (first != null && first.size() == current.size()) {
+                for (int i = 0; i < current.size(); i++) {
+                    ids.alias(current.get(i), first.get(i));
+                }
+                return;
+            }
+            ids.rekey(pickle);
+            pickleIds.put(key.toString(), pickleIds(pickle));
+            emit(envelope);
+        }
+
+        private static List<String> pickleIds(JsonNode pickle) {
+            List<String> ids = new ArrayList<>();
+            ids.add(pickle.path("id").asText());
+            for (JsonNode step : pickle.path("steps")) {
+                ids.add(step.path("id").asText());
+            }
+            return ids;
+        }
+
+        private void mergeTestRunStarted(ObjectNode envelope, ObjectNode testRunStarted, Ids ids)
+                throws IOException {
+            JsonNode id = testRunStarted.get("id");
+            if (testRunStartedEmitted) {
+                if (id != null && testRunStartedId != null) {
+                    ids.alias(id.asText(), testRunStartedId);
+                }
+                return;
+            }
+            testRunStartedEmitted = true;
+            ids.rekey(testRunStarted);
+            testRunStartedId = testRunStarted.has("id") ? testRunStarted.get("id").asText() : null;
+            if (testRunStartedTimestamp != null) {
+                testRunStarted.set("timestamp", Jackson.OBJECT_MAPPER.valueToTree(testRunStartedTimestamp));
+            }
+            emit(envelope);
+        }
+
+        private void mergeTestRunFinished(TestRunFinished testRunFinished) {
+            Timestamp timestamp = testRunFinished.getTimestamp();
+            if (testRunFinishedTimestamp == null || TIMESTAMP_ORDER.compare(timestamp, testRunFinishedTimestamp) > 0) {
+                testRunFinishedTimestamp = timestamp;
+            }
+            if (!testRunFinished.getSuccess()) {
+                recordFailure(testRunFinished.getMessage().orElse(null),
+                    testRunFinished.getException().orElse(null));
+            }
+        }
+
+        private void recordFailure(String message, Exception exception) {
+            if (success) {
+                testRunFinishedMessage = message;
+                testRunFinishedException = exception;
+            }
+            success = false;
+        }
+
+        void finish() {
+            Timestamp timestamp = testRunFinishedTimestamp != null
+                    ? testRunFinishedTimestamp
+                    : javaInstantToTimestamp(Instant.now());
+            consumer.accept(Envelope.of(new TestRunFinished(
+                testRunFinishedMessage,
+                success,
+                timestamp,
+                testRunFinishedException,
+                testRunStartedId)));
+        }
+
+        private void emit(ObjectNode envelope) throws IOException {
+            consumer.accept(Jackson.OBJECT_MAPPER.treeToValue(envelope, Envelope.class));
+        }
+
+    }
+
+    /**
+     * Makes the ids of a single run unique within the merged stream.
+     */
+    private static final class Ids {
+
+        private final String prefix;
+        private final Map<String, String> aliases = new HashMap<>();
+
+        Ids(int index) {
+            // Ids of the first run are retained as is
+            this.prefix = index == 0 ? "" : index + ".";
+        }
+
+        String rekey(String id) {
+            String alias = aliases.get(id);
+            return alias != null ? alias : prefix + id;
+        }
+
+        void alias(String id, String alias) {
+            aliases.put(id, alias);
+        }
+
+        /**
+         * Maps the ids in a duplicate message to the ids in the first occurrence
+         * of that message. Both must have the same structure.
+         */
+        void alias(JsonNode duplicate, JsonNode first) {
+            if (duplicate.isObject() && first.isObject()) {
+                duplicate.fields().forEachRemaining(field -> {
+                    JsonNode other = first.get(field.getKey());
+                    if (other == null) {
+                        return;
+                    }
+                    if (isId(field.getKey()) && field.getValue().isTextual() && other.isTextual()) {
+                        alias(field.getValue().asText(), other.asText());
+                    } else {
+                        alias(field.getValue(), other);
+                    }
+                });
+            } else if (duplicate.isArray() && first.isArray()) {
+                for (int i = 0; i < duplicate.size() && i < first.size(); i++) {
+                    alias(duplicate.get(i), first.get(i));
+                }
+            }
+        }
+
+        /**
+         * Replaces all ids and references to ids in a message.
+         */
+        void rekey(JsonNode node) {
+            if (node.isObject()) {
+                ObjectNode object = (ObjectNode) node;
+                object.fields().forEachRemaining(field -> {
+                    String name = field.getKey();
+                    JsonNode value = field.getValue();
+                    if (isId(name) && value.isTextual()) {
+                        field.setValue(TextNode.valueOf(rekey(value.asText())));
+                    } else if (isIdList(name) && value.isArray()) {
+                        ArrayNode array = (ArrayNode) value;
+                        for (int i = 0; i < array.size(); i++) {
+                            array.set(i, TextNode.valueOf(rekey(array.get(i).asText())));
+                        }
+                    } else {
+                        rekey(value);
+                    }
+                });
+            } else if (node.isArray()) {
+                node.forEach(this::rekey);
+            }
+        }
+
+        private static boolean isId(String name) {
+            return name.equals("id") || name.endsWith("Id");
+        }
+
+        private static boolean isIdList(String name) {
+            return name.endsWith("Ids");
+        }
+
+    }
+
+}
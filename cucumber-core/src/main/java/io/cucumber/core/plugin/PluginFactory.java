@@ -23,6 +23,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 import static java.util.Arrays.asList;
 
@@ -31,13 +33,18 @@ import static java.util.Arrays.asList;
  * <p>
  * The String is of the form name[:output] where name is either a fully
  * qualified class name or one of the built-in short names. The output is
- * optional for some plugins (and mandatory for some).
+ * optional for some plugins (and mandatory for some). Output written to an
+ * {@link OutputStream} for a file with the {@code .gz} extension is compressed
+ * with gzip. Plugins that take a {@link File}, {@link URI} or {@link URL} are
+ * given the path as is.
  *
  * @see Plugin for specific requirements
  */
 public final class PluginFactory {
 
     private static final Logger log = LoggerFactory.getLogger(PluginFactory.class);
+    private static final String GZIP_EXTENSION = ".gz";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
 
     private final Class<?>[] CTOR_PARAMETERS = new Class<?>[] {
             String.class,
@@ -194,12 +201,34 @@ public final class PluginFactory {
             CurlOption option = CurlOption.parse(arg);
             return new UrlOutputStream(option, null);
         } else if (arg.matches("^file:.*")) {
-            return createFileOutputStream(new File(new URL(arg).getFile()));
+            return openFile(new File(new URL(arg).getFile()));
         } else {
-            return createFileOutputStream(new File(arg));
+            return openFile(new File(arg));
         }
     }
 
+    private static OutputStream openFile(File file) throws IOException {
+        FileOutputStream outputStream = createFileOutputStream(file);
+        if (!file.getName().endsWith(GZIP_EXTENSION)) {
+            return outputStream;
+        }
+        // The compressed output is only complete once the plugin closes the
+        // stream. Plugins that write files do so when the test run finishes.
+        //
+        // Plugins may write on the threads executing the scenarios. Compared
+        // to the default level this halves the time spent compressing messages
+        // at the cost of ~15% larger files (see GzipOutputBenchmark).
+        return compress(outputStream, Deflater.BEST_SPEED);
+    }
+
+    static OutputStream compress(OutputStream outputStream, int level) throws IOException {
+        return new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE) {
+            {
+                def.setLevel(level);
+            }
+        };
+    }
+
     private static FileOutputStream createFileOutputStream(File file) {
         File canonicalFile;
         try {
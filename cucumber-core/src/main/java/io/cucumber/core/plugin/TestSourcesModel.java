@@ -13,6 +13,7 @@ import io.cucumber.messages.types.Source;
 import io.cucumber.messages.types.SourceMediaType;
 import io.cucumber.messages.types.Step;
 import io.cucumber.messages.types.TableRow;
+import io.cucumber.plugin.event.TestSourceParsed;
 import io.cucumber.plugin.event.TestSourceRead;
 
 import java.io.File;
@@ -22,6 +23,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 final class TestSourcesModel {
 
@@ -97,6 +99,22 @@ final class TestSourcesModel {
         return null;
     }
 
+    void addTestSourceParsedEvent(TestSourceParsed event) {
+        // Reuse the gherkin document created when the feature was parsed
+        event.getNodes().stream()
+                .filter(io.cucumber.core.gherkin.Feature.class::isInstance)
+                .map(io.cucumber.core.gherkin.Feature.class::cast)
+                .flatMap(feature -> StreamSupport.stream(feature.getParseEvents().spliterator(), false))
+                .filter(Envelope.class::isInstance)
+                .map(Envelope.class::cast)
+                .map(Envelope::getGherkinDocument)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .filter(gherkinDocument -> gherkinDocument.getFeature().isPresent())
+                .findFirst()
+                .ifPresent(gherkinDocument -> addGherkinDocument(event.getUri(), gherkinDocument));
+    }
+
     private void parseGherkinSource(URI path) {
         if (!pathToReadEventMap.containsKey(path)) {
             return;
@@ -117,6 +135,10 @@ final class TestSourcesModel {
                 .findFirst()
                 .orElse(null);
 
+        addGherkinDocument(path, gherkinDocument);
+    }
+
+    private void addGherkinDocument(URI path, GherkinDocument gherkinDocument) {
         pathToAstMap.put(path, gherkinDocument);
         Map<Long, AstNode> nodeMap = new HashMap<>();
         // TODO: What about gherkin docs with no features?
@@ -126,7 +148,6 @@ final class TestSourcesModel {
             processFeatureDefinition(nodeMap, child, currentParent);
         }
         pathToNodeMap.put(path, nodeMap);
-
     }
 
     private void processFeatureDefinition(Map<Long, AstNode> nodeMap, FeatureChild child, AstNode currentParent) {
@@ -115,7 +115,8 @@ public final class TimelineFormatter implements ConcurrentEventListener {
 
     private void handleTestCaseFinished(TestCaseFinished event) {
         TestData data = allTests.get(getId(event));
-        data.setEnd(event.getInstant().toEpochMilli());
+        // Use the measured duration, the wall clock may have been adjusted
+        data.setEnd(data.getStart() + event.getResult().getDuration().toMillis());
         data.setClassName(event.getResult().getStatus().name().toLowerCase(ROOT));
     }
 
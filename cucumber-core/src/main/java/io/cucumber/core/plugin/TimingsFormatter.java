@@ -0,0 +1,51 @@
+package io.cucumber.core.plugin;
+
+import io.cucumber.core.filter.Shard;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Formatter for reporting the duration of each test case.
+ * <p>
+ * Writes one test case per line, formatted as
+ * {@code <location> <duration in milliseconds>}. The output can be used to
+ * distribute scenarios over shards by their historical duration.
+ *
+ * @see io.cucumber.core.options.Constants#EXECUTION_SHARD_TIMINGS_PROPERTY_NAME
+ */
+public final class TimingsFormatter implements ConcurrentEventListener {
+
+    private final UTF8PrintWriter out;
+    private final Map<String, Long> durations = new TreeMap<>();
+
+    public TimingsFormatter(OutputStream out) {
+        this.out = new UTF8PrintWriter(out);
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseFinished.class, this::handleTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> finishReport());
+    }
+
+    private void handleTestCaseFinished(TestCaseFinished event) {
+        TestCase testCase = event.getTestCase();
+        String location = Shard.location(testCase.getUri(), testCase.getLocation().getLine());
+        durations.put(location, event.getResult().getDuration().toMillis());
+    }
+
+    private void finishReport() {
+        for (Map.Entry<String, Long> entry : durations.entrySet()) {
+            out.println(entry.getKey() + " " + entry.getValue());
+        }
+        out.close();
+    }
+
+}
@@ -0,0 +1,100 @@
+package io.cucumber.core.replay;
+
+import io.cucumber.messages.types.Background;
+import io.cucumber.messages.types.DataTable;
+import io.cucumber.messages.types.DocString;
+import io.cucumber.messages.types.Examples;
+import io.cucumber.messages.types.GherkinDocument;
+import io.cucumber.messages.types.Location;
+import io.cucumber.messages.types.Scenario;
+import io.cucumber.messages.types.Step;
+import io.cucumber.messages.types.TableRow;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the keywords and locations of gherkin ast nodes by id.
+ */
+final class AstNodes {
+
+    private final Map<String, AstNode> nodes = new HashMap<>();
+
+    void add(GherkinDocument gherkinDocument) {
+        gherkinDocument.getFeature().ifPresent(feature -> feature.getChildren().forEach(child -> {
+            child.getBackground().ifPresent(this::add);
+            child.getScenario().ifPresent(this::add);
+            child.getRule().ifPresent(rule -> rule.getChildren().forEach(ruleChild -> {
+                ruleChild.getBackground().ifPresent(this::add);
+                ruleChild.getScenario().ifPresent(this::add);
+            }));
+        }));
+    }
+
+    private void add(Background background) {
+        add(background.getSteps());
+    }
+
+    private void add(Scenario scenario) {
+        nodes.put(scenario.getId(), new AstNode(scenario.getKeyword(), scenario.getLocation(), null));
+        add(scenario.getSteps());
+        for (Examples examples : scenario.getExamples()) {
+            for (TableRow row : examples.getTableBody()) {
+                nodes.put(row.getId(), new AstNode(scenario.getKeyword(), row.getLocation(), null));
+            }
+        }
+    }
+
+    private void add(List<Step> steps) {
+        for (Step step : steps) {
+            Location argumentLocation = step.getDocString()
+                    .map(DocString::getLocation)
+                    .orElseGet(() -> step.getDataTable()
+                            .map(DataTable::getLocation)
+                            .orElse(null));
+            nodes.put(step.getId(), new AstNode(step.getKeyword(), step.getLocation(), argumentLocation));
+        }
+    }
+
+    AstNode get(String id) {
+        AstNode node = nodes.get(id);
+        if (node == null) {
+            throw new IllegalStateException("No gherkin document contains a node with id " + id);
+        }
+        return node;
+    }
+
+    static final class AstNode {
+
+        private final String keyword;
+        private final io.cucumber.plugin.event.Location location;
+        private final int argumentLine;
+
+        AstNode(String keyword, Location location, Location argumentLocation) {
+            this.keyword = keyword;
+            this.location = toLocation(location);
+            this.argumentLine = argumentLocation == null ? -1 : Math.toIntExact(argumentLocation.getLine());
+        }
+
+        private static io.cucumber.plugin.event.Location toLocation(Location location) {
+            return new io.cucumber.plugin.event.Location(
+                Math.toIntExact(location.getLine()),
+                Math.toIntExact(location.getColumn().orElse(0L)));
+        }
+
+        String getKeyword() {
+            return keyword;
+        }
+
+        io.cucumber.plugin.event.Location getLocation() {
+            return location;
+        }
+
+        int getArgumentLine() {
+            return argumentLine;
+        }
+
+    }
+
+}
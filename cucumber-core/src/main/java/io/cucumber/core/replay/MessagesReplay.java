@@ -0,0 +1,497 @@
+package io.cucumber.core.replay;
+
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.feature.FeatureParser;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.core.resource.Resource;
+import io.cucumber.messages.types.Attachment;
+import io.cucumber.messages.types.AttachmentContentEncoding;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Hook;
+import io.cucumber.messages.types.JavaMethod;
+import io.cucumber.messages.types.JavaStackTraceElement;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.PickleStep;
+import io.cucumber.messages.types.PickleStepArgument;
+import io.cucumber.messages.types.PickleTableCell;
+import io.cucumber.messages.types.Source;
+import io.cucumber.messages.types.SourceReference;
+import io.cucumber.messages.types.StepDefinition;
+import io.cucumber.messages.types.StepMatchArgumentsList;
+import io.cucumber.messages.types.TestStepResult;
+import io.cucumber.messages.types.TestStepResultStatus;
+import io.cucumber.messages.types.Timestamp;
+import io.cucumber.plugin.event.Argument;
+import io.cucumber.plugin.event.EmbedEvent;
+import io.cucumber.plugin.event.HookType;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.StepArgument;
+import io.cucumber.plugin.event.StepDefinedEvent;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestSourceParsed;
+import io.cucumber.plugin.event.TestSourceRead;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import io.cucumber.plugin.event.WriteEvent;
+import org.apiguardian.api.API;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static io.cucumber.messages.TimeConversion.durationToJavaDuration;
+import static io.cucumber.messages.TimeConversion.timestampToJavaInstant;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Replays a stream of messages as the events that a test run would have
+ * emitted.
+ * <p>
+ * This allows reports to be generated from the messages written by the
+ * {@code message} plugin without executing the scenarios again. Each message is
+ * sent to the event bus, preceded by the event it was created from, if any.
+ * <p>
+ * The events of a test case are buffered until the test case has finished.
+ * Plugins that are not {@link io.cucumber.plugin.ConcurrentEventListener
+ * concurrent} will then receive the events of each test case as a contiguous
+ * sequence, even when the test cases were executed in parallel. A test case is
+ * released once it finished without being retried. Pickles may be executed
+ * more than once and are released when the test run finishes.
+ * <p>
+ * Some information is not contained in messages and can not be replayed:
+ * <ul>
+ * <li>Snippets for undefined steps</li>
+ * <li>The original types of exceptions, only their message and stack trace are
+ * retained</li>
+ * <li>The thread that executed a test case</li>
+ * </ul>
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+public final class MessagesReplay {
+
+    private static final String LOG_MEDIA_TYPE = "text/x.cucumber.log+plain";
+
+    private final EventBus bus;
+    private final FeatureParser parser = new FeatureParser(UUID::randomUUID);
+    private final AstNodes astNodes = new AstNodes();
+    private final Map<String, Pickle> pickles = new HashMap<>();
+    private final Map<String, StepDefinition> stepDefinitions = new HashMap<>();
+    private final Map<String, Hook> hooks = new HashMap<>();
+    private final Map<String, TestCase> testCases = new HashMap<>();
+    private final Map<String, Execution> executions = new HashMap<>();
+    private Status mostSevereStatus = Status.PASSED;
+    private Instant instant;
+    private Instant testRunStarted;
+
+    public MessagesReplay(EventBus bus) {
+        this.bus = bus;
+    }
+
+    /**
+     * Replays a single message. Messages must be replayed in the order in
+     * which they were emitted.
+     *
+     * @param envelope the message to replay
+     */
+    public void replay(Envelope envelope) {
+        Execution execution = null;
+        if (envelope.getSource().isPresent()) {
+            replaySource(envelope.getSource().get());
+        } else if (envelope.getGherkinDocument().isPresent()) {
+            astNodes.add(envelope.getGherkinDocument().get());
+        } else if (envelope.getPickle().isPresent()) {
+            Pickle pickle = envelope.getPickle().get();
+            pickles.put(pickle.getId(), pickle);
+        } else if (envelope.getStepDefinition().isPresent()) {
+            replayStepDefinition(envelope.getStepDefinition().get());
+        } else if (envelope.getHook().isPresent()) {
+            Hook hook = envelope.getHook().get();
+            hooks.put(hook.getId(), hook);
+        } else if (envelope.getTestCase().isPresent()) {
+            replayTestCase(envelope.getTestCase().get());
+        } else if (envelope.getTestRunStarted().isPresent()) {
+            replayTestRunStarted(envelope.getTestRunStarted().get());
+        } else if (envelope.getTestCaseStarted().isPresent()) {
+            execution = replayTestCaseStarted(envelope.getTestCaseStarted().get());
+        } else if (envelope.getTestStepStarted().isPresent()) {
+            execution = replayTestStepStarted(envelope.getTestStepStarted().get());
+        } else if (envelope.getTestStepFinished().isPresent()) {
+            execution = replayTestStepFinished(envelope.getTestStepFinished().get());
+        } else if (envelope.getAttachment().isPresent()) {
+            execution = replayAttachment(envelope.getAttachment().get());
+        } else if (envelope.getTestCaseFinished().isPresent()) {
+            replayTestCaseFinished(envelope.getTestCaseFinished().get(), envelope);
+            return;
+        } else if (envelope.getTestRunFinished().isPresent()) {
+            replayTestRunFinished(envelope.getTestRunFinished().get());
+        }
+
+        if (execution != null) {
+            execution.events.add(envelope);
+        } else {
+            bus.send(envelope);
+        }
+    }
+
+    private void replaySource(Source source) {
+        URI uri = URI.create(source.getUri());
+        bus.send(new TestSourceRead(getInstant(), uri, source.getData()));
+        Optional<Feature> feature;
+        try {
+            feature = parser.parseResource(new SourceResource(uri, source.getData()));
+        } catch (RuntimeException e) {
+            // The gherkin document and parse errors are replayed as is
+            return;
+        }
+        feature.ifPresent(parsed -> bus.send(new TestSourceParsed(getInstant(), uri, singletonList(parsed))));
+    }
+
+    private void replayStepDefinition(StepDefinition stepDefinition) {
+        stepDefinitions.put(stepDefinition.getId(), stepDefinition);
+        bus.send(new StepDefinedEvent(getInstant(), new io.cucumber.plugin.event.StepDefinition(
+            codeLocation(stepDefinition.getSourceReference()),
+            stepDefinition.getPattern().getSource())));
+    }
+
+    private void replayTestCase(io.cucumber.messages.types.TestCase testCase) {
+        // A pickle may be executed more than once, e.g. when it is retried or
+        // when a run is merged with a rerun of its failed scenarios
+        Pickle pickle = pickles.get(testCase.getPickleId());
+        if (pickle == null) {
+            throw new IllegalStateException("No pickle with id " + testCase.getPickleId());
+        }
+        URI uri = URI.create(pickle.getUri());
+        List<String> astNodeIds = pickle.getAstNodeIds();
+        AstNodes.AstNode scenario = astNodes.get(astNodeIds.get(0));
+        AstNodes.AstNode location = astNodes.get(astNodeIds.get(astNodeIds.size() - 1));
+        Map<String, PickleStep> pickleSteps = new HashMap<>();
+        pickle.getSteps().forEach(step -> pickleSteps.put(step.getId(), step));
+
+        List<TestStep> testSteps = new ArrayList<>();
+        boolean beforeFirstStep = true;
+        for (io.cucumber.messages.types.TestStep testStep : testCase.getTestSteps()) {
+            UUID id = toUuid(testStep.getId());
+            if (testStep.getPickleStepId().isPresent()) {
+                beforeFirstStep = false;
+                PickleStep pickleStep = pickleSteps.get(testStep.getPickleStepId().get());
+                testSteps.add(createPickleStepTestStep(id, uri, pickleStep, testStep));
+            } else {
+                Hook hook = testStep.getHookId().map(hooks::get).orElse(null);
+                testSteps.add(createHookTestStep(id, hook, beforeFirstStep));
+            }
+        }
+
+        testCases.put(testCase.getId(), new ReplayedTestCase(
+            toUuid(testCase.getId()),
+            uri,
+            pickle.getName(),
+            scenario.getKeyword(),
+            location.getLocation(),
+            pickle.getTags().stream().map(io.cucumber.messages.types.PickleTag::getName).collect(toList()),
+            Collections.unmodifiableList(testSteps)));
+    }
+
+    private TestStep createPickleStepTestStep(
+            UUID id, URI uri, PickleStep pickleStep, io.cucumber.messages.types.TestStep testStep
+    ) {
+        AstNodes.AstNode astNode = astNodes.get(pickleStep.getAstNodeIds().get(0));
+        StepArgument argument = pickleStep.getArgument()
+                .map(stepArgument -> createStepArgument(stepArgument, astNode.getArgumentLine()))
+                .orElse(null);
+        ReplayedStep step = new ReplayedStep(astNode.getKeyword(), pickleStep.getText(), astNode.getLocation(),
+            argument);
+
+        // Undefined and ambiguous steps do not have a single step definition
+        List<String> stepDefinitionIds = testStep.getStepDefinitionIds().orElse(Collections.emptyList());
+        StepDefinition stepDefinition = stepDefinitionIds.size() == 1
+                ? stepDefinitions.get(stepDefinitionIds.get(0))
+                : null;
+        List<Argument> definitionArgument = testStep.getStepMatchArgumentsLists()
+                .filter(lists -> lists.size() == 1)
+                .map(lists -> lists.get(0))
+                .map(StepMatchArgumentsList::getStepMatchArguments)
+                .map(arguments -> arguments.stream()
+                        .map(ReplayedArgument::new)
+                        .map(Argument.class::cast)
+                        .collect(toList()))
+                .orElse(Collections.emptyList());
+
+        return new ReplayedPickleStepTestStep(
+            id,
+            uri,
+            step,
+            stepDefinition == null ? null : stepDefinition.getPattern().getSource(),
+            stepDefinition == null ? null : codeLocation(stepDefinition.getSourceReference()),
+            definitionArgument);
+    }
+
+    private static StepArgument createStepArgument(PickleStepArgument argument, int line) {
+        if (argument.getDocString().isPresent()) {
+            io.cucumber.messages.types.PickleDocString docString = argument.getDocString().get();
+            return new ReplayedDocStringArgument(docString.getContent(), docString.getMediaType().orElse(null), line);
+        }
+        List<List<String>> cells = argument.getDataTable()
+                .map(table -> table.getRows().stream()
+                        .map(row -> row.getCells().stream()
+                                .map(PickleTableCell::getValue)
+                                .collect(toList()))
+                        .collect(toList()))
+                .orElse(Collections.emptyList());
+        return new ReplayedDataTableArgument(cells, line);
+    }
+
+    private static TestStep createHookTestStep(UUID id, Hook hook, boolean beforeFirstStep) {
+        HookType defaultHookType = beforeFirstStep ? HookType.BEFORE : HookType.AFTER;
+        if (hook == null) {
+            return new ReplayedHookTestStep(id, null, defaultHookType);
+        }
+        HookType hookType = hook.getType()
+                .map(MessagesReplay::toHookType)
+                .orElse(defaultHookType);
+        return new ReplayedHookTestStep(id, codeLocation(hook.getSourceReference()), hookType);
+    }
+
+    private static HookType toHookType(io.cucumber.messages.types.HookType hookType) {
+        switch (hookType) {
+            case BEFORE_TEST_CASE:
+                return HookType.BEFORE;
+            case AFTER_TEST_CASE:
+                return HookType.AFTER;
+            case BEFORE_TEST_STEP:
+                return HookType.BEFORE_STEP;
+            case AFTER_TEST_STEP:
+                return HookType.AFTER_STEP;
+            default:
+                throw new IllegalArgumentException("Hooks of type " + hookType + " are not part of a test case");
+        }
+    }
+
+    private static String codeLocation(SourceReference sourceReference) {
+        if (sourceReference.getJavaMethod().isPresent()) {
+            JavaMethod method = sourceReference.getJavaMethod().get();
+            return method.getClassName() + "." + method.getMethodName() + "("
+                    + String.join(",", method.getMethodParameterTypes()) + ")";
+        }
+        if (sourceReference.getJavaStackTraceElement().isPresent()) {
+            JavaStackTraceElement element = sourceReference.getJavaStackTraceElement().get();
+            String line = sourceReference.getLocation()
+                    .map(location -> ":" + location.getLine())
+                    .orElse("");
+            return element.getClassName() + "." + element.getMethodName() + "(" + element.getFileName() + line + ")";
+        }
+        return sourceReference.getUri()
+                .map(uri -> sourceReference.getLocation()
+                        .map(location -> uri + ":" + location.getLine())
+                        .orElse(uri))
+                .orElse(null);
+    }
+
+    private void replayTestRunStarted(io.cucumber.messages.types.TestRunStarted message) {
+        testRunStarted = updateInstant(message.getTimestamp());
+        bus.send(new TestRunStarted(testRunStarted));
+    }
+
+    private Execution replayTestCaseStarted(io.cucumber.messages.types.TestCaseStarted message) {
+        TestCase testCase = testCases.get(message.getTestCaseId());
+        if (testCase == null) {
+            throw new IllegalStateException("No test case with id " + message.getTestCaseId());
+        }
+        Instant started = updateInstant(message.getTimestamp());
+        Execution execution = new Execution(message.getTestCaseId(), testCase, started);
+        executions.put(message.getId(), execution);
+        execution.events.add(new TestCaseStarted(started, testCase));
+        return execution;
+    }
+
+    private Execution replayTestStepStarted(io.cucumber.messages.types.TestStepStarted message) {
+        Execution execution = getExecution(message.getTestCaseStartedId());
+        execution.events.add(new TestStepStarted(
+            updateInstant(message.getTimestamp()),
+            execution.testCase,
+            execution.getTestStep(message.getTestStepId())));
+        return execution;
+    }
+
+    private Execution replayTestStepFinished(io.cucumber.messages.types.TestStepFinished message) {
+        Execution execution = getExecution(message.getTestCaseStartedId());
+        TestStepResult testStepResult = message.getTestStepResult();
+        Result result = new Result(
+            toStatus(testStepResult.getStatus()),
+            durationToJavaDuration(testStepResult.getDuration()),
+            createError(testStepResult));
+        execution.stepResults.add(result);
+        execution.events.add(new TestStepFinished(
+            updateInstant(message.getTimestamp()),
+            execution.testCase,
+            execution.getTestStep(message.getTestStepId()),
+            result));
+        return execution;
+    }
+
+    private static Throwable createError(TestStepResult testStepResult) {
+        if (testStepResult.getException().isPresent()) {
+            return new ReplayedException(testStepResult.getException().get());
+        }
+        return testStepResult.getMessage()
+                .map(message -> new ReplayedException(new io.cucumber.messages.types.Exception(
+                    RuntimeException.class.getName(), message, message)))
+                .orElse(null);
+    }
+
+    private Execution replayAttachment(Attachment attachment) {
+        if (!attachment.getTestCaseStartedId().isPresent()) {
+            // Only attachments made during a test case are events
+            return null;
+        }
+        Execution execution = getExecution(attachment.getTestCaseStartedId().get());
+        if (LOG_MEDIA_TYPE.equals(attachment.getMediaType())) {
+            execution.events.add(new WriteEvent(getInstant(), execution.testCase, attachment.getBody()));
+        } else {
+            byte[] data = attachment.getContentEncoding() == AttachmentContentEncoding.BASE64
+                    ? Base64.getDecoder().decode(attachment.getBody())
+                    : attachment.getBody().getBytes(UTF_8);
+            execution.events.add(new EmbedEvent(getInstant(), execution.testCase, data, attachment.getMediaType(),
+                attachment.getFileName().orElse(null)));
+        }
+        return execution;
+    }
+
+    private void replayTestCaseFinished(io.cucumber.messages.types.TestCaseFinished message, Envelope envelope) {
+        Execution execution = getExecution(message.getTestCaseStartedId());
+        executions.remove(message.getTestCaseStartedId());
+        Instant finished = updateInstant(message.getTimestamp());
+        Result result = execution.getResult(Duration.between(execution.started, finished));
+        if (result.getStatus().compareTo(mostSevereStatus) > 0) {
+            mostSevereStatus = result.getStatus();
+        }
+        if (!message.getWillBeRetried()) {
+            testCases.remove(execution.testCaseId);
+        }
+        execution.events.add(new TestCaseFinished(finished, execution.testCase, result));
+        execution.events.add(envelope);
+        bus.sendAll(execution.events);
+    }
+
+    private void replayTestRunFinished(io.cucumber.messages.types.TestRunFinished message) {
+        Instant finished = updateInstant(message.getTimestamp());
+        Throwable error = message.getException()
+                .map(ReplayedException::new)
+                .orElse(null);
+        Status status = error != null ? Status.FAILED : mostSevereStatus;
+        Duration duration = testRunStarted == null ? Duration.ZERO : Duration.between(testRunStarted, finished);
+        bus.send(new TestRunFinished(finished, new Result(status, duration, error)));
+        pickles.clear();
+        stepDefinitions.clear();
+        hooks.clear();
+        testCases.clear();
+        mostSevereStatus = Status.PASSED;
+    }
+
+    private Execution getExecution(String testCaseStartedId) {
+        Execution execution = executions.get(testCaseStartedId);
+        if (execution == null) {
+            throw new IllegalStateException("No test case was started with id " + testCaseStartedId);
+        }
+        return execution;
+    }
+
+    private Instant updateInstant(Timestamp timestamp) {
+        instant = timestampToJavaInstant(timestamp);
+        return instant;
+    }
+
+    private Instant getInstant() {
+        // Messages emitted before the test run started are not time stamped
+        return instant != null ? instant : bus.getInstant();
+    }
+
+    private static Status toStatus(TestStepResultStatus status) {
+        if (status == TestStepResultStatus.UNKNOWN) {
+            return Status.UNUSED;
+        }
+        return Status.valueOf(status.name());
+    }
+
+    private static UUID toUuid(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            // Ids are not required to be UUIDs, e.g. after merging
+            return UUID.nameUUIDFromBytes(id.getBytes(UTF_8));
+        }
+    }
+
+    private static final class Execution {
+
+        private final String testCaseId;
+        private final TestCase testCase;
+        private final Instant started;
+        private final List<Object> events = new ArrayList<>();
+        private final List<Result> stepResults = new ArrayList<>();
+
+        Execution(String testCaseId, TestCase testCase, Instant started) {
+            this.testCaseId = testCaseId;
+            this.testCase = testCase;
+            this.started = started;
+        }
+
+        TestStep getTestStep(String testStepId) {
+            UUID id = toUuid(testStepId);
+            return testCase.getTestSteps().stream()
+                    .filter(testStep -> testStep.getId().equals(id))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No test step with id " + testStepId));
+        }
+
+        Result getResult(Duration duration) {
+            if (stepResults.isEmpty()) {
+                return new Result(Status.PASSED, duration, null);
+            }
+            Result mostSevereResult = Collections.max(stepResults, comparing(Result::getStatus));
+            return new Result(mostSevereResult.getStatus(), duration, mostSevereResult.getError());
+        }
+
+    }
+
+    private static final class SourceResource implements Resource {
+
+        private final URI uri;
+        private final String data;
+
+        SourceResource(URI uri, String data) {
+            this.uri = uri;
+            this.data = data;
+        }
+
+        @Override
+        public URI getUri() {
+            return uri;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(data.getBytes(UTF_8));
+        }
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package io.cucumber.core.replay;
+
+import io.cucumber.messages.types.StepMatchArgument;
+import io.cucumber.plugin.event.Argument;
+import io.cucumber.plugin.event.Group;
+
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+final class ReplayedArgument implements Argument {
+
+    private final String parameterTypeName;
+    private final ReplayedGroup group;
+
+    ReplayedArgument(StepMatchArgument argument) {
+        this.parameterTypeName = argument.getParameterTypeName().orElse(null);
+        this.group = new ReplayedGroup(argument.getGroup());
+    }
+
+    @Override
+    public String getParameterTypeName() {
+        return parameterTypeName;
+    }
+
+    @Override
+    public String getValue() {
+        return group.getValue();
+    }
+
+    @Override
+    public int getStart() {
+        return group.getStart();
+    }
+
+    @Override
+    public int getEnd() {
+        return group.getEnd();
+    }
+
+    @Override
+    public Group getGroup() {
+        return group;
+    }
+
+    private static final class ReplayedGroup implements Group {
+
+        private final List<Group> children;
+        private final String value;
+        private final int start;
+
+        ReplayedGroup(io.cucumber.messages.types.Group group) {
+            this.children = group.getChildren().stream()
+                    .map(ReplayedGroup::new)
+                    .collect(toList());
+            this.value = group.getValue().orElse(null);
+            this.start = group.getStart().map(Math::toIntExact).orElse(-1);
+        }
+
+        @Override
+        public Collection<Group> getChildren() {
+            return children;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public int getStart() {
+            return start;
+        }
+
+        @Override
+        public int getEnd() {
+            // Messages do not contain the end of a group
+            return value == null || start < 0 ? -1 : start + value.length();
+        }
+
+    }
+
+}
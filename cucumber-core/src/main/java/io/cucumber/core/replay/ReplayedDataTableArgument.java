@@ -0,0 +1,27 @@
+package io.cucumber.core.replay;
+
+import io.cucumber.plugin.event.DataTableArgument;
+
+import java.util.List;
+
+final class ReplayedDataTableArgument implements DataTableArgument {
+
+    private final List<List<String>> cells;
+    private final int line;
+
+    ReplayedDataTableArgument(List<List<String>> cells, int line) {
+        this.cells = cells;
+        this.line = line;
+    }
+
+    @Override
+    public List<List<String>> cells() {
+        return cells;
+    }
+
+    @Override
+    public int getLine() {
+        return line;
+    }
+
+}
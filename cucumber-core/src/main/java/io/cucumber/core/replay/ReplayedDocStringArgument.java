@@ -0,0 +1,37 @@
+package io.cucumber.core.replay;
+
+import io.cucumber.plugin.event.DocStringArgument;
+
+final class ReplayedDocStringArgument implements DocStringArgument {
+
+    private final String content;
+    private final String mediaType;
+    private final int line;
+
+    ReplayedDocStringArgument(String content, String mediaType, int line) {
+        this.content = content;
+        this.mediaType = mediaType;
+        this.line = line;
+    }
+
+    @Override
+    public String getContent() {
+        return content;
+    }
+
+    @Override
+    public String getContentType() {
+        return mediaType;
+    }
+
+    @Override
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    @Override
+    public int getLine() {
+        return line;
+    }
+
+}
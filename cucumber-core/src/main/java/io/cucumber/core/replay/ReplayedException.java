@@ -0,0 +1,41 @@
+package io.cucumber.core.replay;
+
+import io.cucumber.messages.types.Exception;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+
+/**
+ * An exception recreated from a message. Only the type, message and stack
+ * trace of the original exception are retained, as text.
+ */
+final class ReplayedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String type;
+    private final String stackTrace;
+
+    ReplayedException(Exception exception) {
+        super(exception.getMessage().orElse(null), null, false, false);
+        this.type = exception.getType();
+        this.stackTrace = exception.getStackTrace().orElse(null);
+    }
+
+    @Override
+    public String toString() {
+        String message = getMessage();
+        return message == null ? type : type + ": " + message;
+    }
+
+    @Override
+    public void printStackTrace(PrintStream s) {
+        s.print(stackTrace != null ? stackTrace : toString() + System.lineSeparator());
+    }
+
+    @Override
+    public void printStackTrace(PrintWriter s) {
+        s.print(stackTrace != null ? stackTrace : toString() + System.lineSeparator());
+    }
+
+}
@@ -0,0 +1,35 @@
+package io.cucumber.core.replay;
+
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.HookType;
+
+import java.util.UUID;
+
+final class ReplayedHookTestStep implements HookTestStep {
+
+    private final UUID id;
+    private final String codeLocation;
+    private final HookType hookType;
+
+    ReplayedHookTestStep(UUID id, String codeLocation, HookType hookType) {
+        this.id = id;
+        this.codeLocation = codeLocation;
+        this.hookType = hookType;
+    }
+
+    @Override
+    public HookType getHookType() {
+        return hookType;
+    }
+
+    @Override
+    public String getCodeLocation() {
+        return codeLocation;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+}
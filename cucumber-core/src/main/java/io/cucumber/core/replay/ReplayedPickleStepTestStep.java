@@ -0,0 +1,77 @@
+package io.cucumber.core.replay;
+
+import io.cucumber.plugin.event.Argument;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Step;
+import io.cucumber.plugin.event.StepArgument;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+final class ReplayedPickleStepTestStep implements PickleStepTestStep {
+
+    private final UUID id;
+    private final URI uri;
+    private final Step step;
+    private final String pattern;
+    private final String codeLocation;
+    private final List<Argument> definitionArgument;
+
+    ReplayedPickleStepTestStep(
+            UUID id, URI uri, Step step, String pattern, String codeLocation, List<Argument> definitionArgument
+    ) {
+        this.id = id;
+        this.uri = uri;
+        this.step = step;
+        this.pattern = pattern;
+        this.codeLocation = codeLocation;
+        this.definitionArgument = definitionArgument;
+    }
+
+    @Override
+    public String getPattern() {
+        return pattern;
+    }
+
+    @Override
+    public Step getStep() {
+        return step;
+    }
+
+    @Override
+    public List<Argument> getDefinitionArgument() {
+        return definitionArgument;
+    }
+
+    @Override
+    public StepArgument getStepArgument() {
+        return step.getArgument();
+    }
+
+    @Override
+    public int getStepLine() {
+        return step.getLine();
+    }
+
+    @Override
+    public URI getUri() {
+        return uri;
+    }
+
+    @Override
+    public String getStepText() {
+        return step.getText();
+    }
+
+    @Override
+    public String getCodeLocation() {
+        return codeLocation;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+}
@@ -0,0 +1,46 @@
+package io.cucumber.core.replay;
+
+import io.cucumber.plugin.event.Location;
+import io.cucumber.plugin.event.Step;
+import io.cucumber.plugin.event.StepArgument;
+
+final class ReplayedStep implements Step {
+
+    private final String keyword;
+    private final String text;
+    private final Location location;
+    private final StepArgument argument;
+
+    ReplayedStep(String keyword, String text, Location location, StepArgument argument) {
+        this.keyword = keyword;
+        this.text = text;
+        this.location = location;
+        this.argument = argument;
+    }
+
+    @Override
+    public StepArgument getArgument() {
+        return argument;
+    }
+
+    @Override
+    public String getKeyword() {
+        return keyword;
+    }
+
+    @Override
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public int getLine() {
+        return location.getLine();
+    }
+
+    @Override
+    public Location getLocation() {
+        return location;
+    }
+
+}
@@ -0,0 +1,79 @@
+package io.cucumber.core.replay;
+
+import io.cucumber.plugin.event.Location;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestStep;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+final class ReplayedTestCase implements TestCase {
+
+    private final UUID id;
+    private final URI uri;
+    private final String name;
+    private final String keyword;
+    private final Location location;
+    private final List<String> tags;
+    private final List<TestStep> testSteps;
+
+    ReplayedTestCase(
+            UUID id, URI uri, String name, String keyword, Location location, List<String> tags,
+            List<TestStep> testSteps
+    ) {
+        this.id = id;
+        this.uri = uri;
+        this.name = name;
+        this.keyword = keyword;
+        this.location = location;
+        this.tags = tags;
+        this.testSteps = testSteps;
+    }
+
+    @Override
+    public Integer getLine() {
+        return location.getLine();
+    }
+
+    @Override
+    public Location getLocation() {
+        return location;
+    }
+
+    @Override
+    public String getKeyword() {
+        return keyword;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getScenarioDesignation() {
+        return uri.getSchemeSpecificPart() + ":" + location.getLine() + " # " + name;
+    }
+
+    @Override
+    public List<String> getTags() {
+        return tags;
+    }
+
+    @Override
+    public List<TestStep> getTestSteps() {
+        return testSteps;
+    }
+
+    @Override
+    public URI getUri() {
+        return uri;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+}
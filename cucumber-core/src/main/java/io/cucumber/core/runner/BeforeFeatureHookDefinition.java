@@ -0,0 +1,76 @@
+package io.cucumber.core.runner;
+
+import io.cucumber.core.backend.HookDefinition;
+import io.cucumber.core.backend.SourceReference;
+import io.cucumber.core.backend.TestCaseState;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Executes a before feature hook as a hook step of the first scenario of a
+ * feature.
+ * <p>
+ * The outcome is remembered. When the hook failed, the remaining scenarios of
+ * the feature include the hook as well and fail with the same exception
+ * without executing the hook again.
+ */
+final class BeforeFeatureHookDefinition implements HookDefinition {
+
+    private final CoreFeatureHookDefinition featureHook;
+    private boolean executed;
+    private RuntimeException failure;
+
+    BeforeFeatureHookDefinition(CoreFeatureHookDefinition featureHook) {
+        this.featureHook = featureHook;
+    }
+
+    @Override
+    public void execute(TestCaseState state) {
+        if (!executed) {
+            executed = true;
+            try {
+                featureHook.getDelegate().execute();
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    boolean isPending() {
+        return !executed || failure != null;
+    }
+
+    UUID getId() {
+        return featureHook.getId();
+    }
+
+    @Override
+    public String getTagExpression() {
+        return "";
+    }
+
+    @Override
+    public int getOrder() {
+        return featureHook.getOrder();
+    }
+
+    @Override
+    public boolean isDefinedAt(StackTraceElement stackTraceElement) {
+        return featureHook.getDelegate().isDefinedAt(stackTraceElement);
+    }
+
+    @Override
+    public String getLocation() {
+        return featureHook.getDelegate().getLocation();
+    }
+
+    @Override
+    public Optional<SourceReference> getSourceReference() {
+        return featureHook.getDelegate().getSourceReference();
+    }
+
+}
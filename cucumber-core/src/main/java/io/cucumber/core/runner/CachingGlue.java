@@ -65,12 +65,17 @@ final class CachingGlue implements Glue {
     private final List<DefaultDataTableCellTransformerDefinition> defaultDataTableCellTransformers = new ArrayList<>();
     private final List<DocStringTypeDefinition> docStringTypeDefinitions = new ArrayList<>();
 
+    private static final Comparator<CoreFeatureHookDefinition> FEATURE_HOOK_ORDER_ASCENDING = Comparator
+            .comparingInt(CoreFeatureHookDefinition::getOrder);
+
     private final List<StaticHookDefinition> beforeAllHooks = new ArrayList<>();
+    private final List<CoreFeatureHookDefinition> beforeFeatureHooks = new ArrayList<>();
     private final List<CoreHookDefinition> beforeHooks = new ArrayList<>();
     private final List<CoreHookDefinition> beforeStepHooks = new ArrayList<>();
     private final List<StepDefinition> stepDefinitions = new ArrayList<>();
     private final List<CoreHookDefinition> afterStepHooks = new ArrayList<>();
     private final List<CoreHookDefinition> afterHooks = new ArrayList<>();
+    private final List<CoreFeatureHookDefinition> afterFeatureHooks = new ArrayList<>();
     private final List<StaticHookDefinition> afterAllHooks = new ArrayList<>();
 
     /*
@@ -89,11 +94,24 @@ final class CachingGlue implements Glue {
     private StepExpressionFactory stepExpressionFactory = null;
     private boolean cacheIsDirty = false;
     private boolean hasScenarioScopedGlue = false;
+    private boolean featureHooksEmitted = false;
+    private int parallelTransformationThreshold = 0;
+    private int parallelTransformationParallelism = 1;
 
     CachingGlue(EventBus bus) {
         this.bus = bus;
     }
 
+    /**
+     * Enables parallel transformation of data tables with at least
+     * {@code threshold} rows. Only applies to data table types that were
+     * declared thread safe.
+     */
+    void setDataTableParallelTransformation(int threshold, int parallelism) {
+        this.parallelTransformationThreshold = threshold;
+        this.parallelTransformationParallelism = parallelism;
+    }
+
     @Override
     public void addBeforeAllHook(StaticHookDefinition beforeAllHook) {
         beforeAllHooks.add(beforeAllHook);
@@ -106,6 +124,18 @@ final class CachingGlue implements Glue {
         afterAllHooks.sort(STATIC_HOOK_ORDER_ASCENDING);
     }
 
+    @Override
+    public void addBeforeFeatureHook(StaticHookDefinition beforeFeatureHook) {
+        beforeFeatureHooks.add(new CoreFeatureHookDefinition(bus.generateId(), beforeFeatureHook));
+        beforeFeatureHooks.sort(FEATURE_HOOK_ORDER_ASCENDING);
+    }
+
+    @Override
+    public void addAfterFeatureHook(StaticHookDefinition afterFeatureHook) {
+        afterFeatureHooks.add(new CoreFeatureHookDefinition(bus.generateId(), afterFeatureHook));
+        afterFeatureHooks.sort(FEATURE_HOOK_ORDER_ASCENDING);
+    }
+
     @Override
     public void addStepDefinition(StepDefinition stepDefinition) {
         stepDefinitions.add(stepDefinition);
@@ -182,6 +212,10 @@ final class CachingGlue implements Glue {
         return new ArrayList<>(beforeAllHooks);
     }
 
+    List<CoreFeatureHookDefinition> getBeforeFeatureHooks() {
+        return new ArrayList<>(beforeFeatureHooks);
+    }
+
     Collection<CoreHookDefinition> getBeforeHooks() {
         return new ArrayList<>(beforeHooks);
     }
@@ -202,6 +236,16 @@ final class CachingGlue implements Glue {
         return hooks;
     }
 
+    boolean hasFeatureHooks() {
+        return !beforeFeatureHooks.isEmpty() || !afterFeatureHooks.isEmpty();
+    }
+
+    List<CoreFeatureHookDefinition> getAfterFeatureHooks() {
+        List<CoreFeatureHookDefinition> hooks = new ArrayList<>(afterFeatureHooks);
+        Collections.reverse(hooks);
+        return hooks;
+    }
+
     List<StaticHookDefinition> getAfterAllHooks() {
         ArrayList<StaticHookDefinition> hooks = new ArrayList<>(afterAllHooks);
         Collections.reverse(hooks);
@@ -259,6 +303,11 @@ final class CachingGlue implements Glue {
         // scenario-scoped glue exist (e.g. cucumber-java8).
         this.locale = locale;
         stepTypeRegistry = new StepTypeRegistry(locale);
+        if (parallelTransformationThreshold > 0) {
+            stepTypeRegistry.dataTableTypeRegistry().setParallelTransformation(
+                parallelTransformationThreshold,
+                parallelTransformationParallelism);
+        }
         stepExpressionFactory = new StepExpressionFactory(stepTypeRegistry, bus);
         stepDefinitionsByPattern.clear();
         stepPatternByStepText.clear();
@@ -320,6 +369,32 @@ final class CachingGlue implements Glue {
         afterHooks.forEach(this::emitHook);
     }
 
+    /**
+     * Feature hooks are not scenario scoped. Their definitions only have to be
+     * emitted once.
+     */
+    void prepareFeatureHooks() {
+        if (featureHooksEmitted) {
+            return;
+        }
+        featureHooksEmitted = true;
+        beforeFeatureHooks.forEach(this::emitFeatureHook);
+        afterFeatureHooks.forEach(this::emitFeatureHook);
+    }
+
+    private void emitFeatureHook(CoreFeatureHookDefinition featureHook) {
+        // The message protocol has no hook type for feature hooks
+        Hook messagesHook = new Hook(
+            featureHook.getId().toString(),
+            null,
+            featureHook.getDelegate().getSourceReference()
+                    .map(this::createSourceReference)
+                    .orElseGet(this::emptySourceReference),
+            null,
+            null);
+        bus.send(Envelope.of(messagesHook));
+    }
+
     private void emitParameterTypeDefined(ParameterTypeDefinition parameterTypeDefinition) {
         ParameterType<?> parameterType = parameterTypeDefinition.parameterType();
         io.cucumber.messages.types.ParameterType messagesParameterType = new io.cucumber.messages.types.ParameterType(
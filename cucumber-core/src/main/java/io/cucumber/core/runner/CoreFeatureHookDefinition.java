@@ -0,0 +1,31 @@
+package io.cucumber.core.runner;
+
+import io.cucumber.core.backend.StaticHookDefinition;
+
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+
+final class CoreFeatureHookDefinition {
+
+    private final UUID id;
+    private final StaticHookDefinition delegate;
+
+    CoreFeatureHookDefinition(UUID id, StaticHookDefinition delegate) {
+        this.id = requireNonNull(id);
+        this.delegate = requireNonNull(delegate);
+    }
+
+    StaticHookDefinition getDelegate() {
+        return delegate;
+    }
+
+    UUID getId() {
+        return id;
+    }
+
+    int getOrder() {
+        return delegate.getOrder();
+    }
+
+}
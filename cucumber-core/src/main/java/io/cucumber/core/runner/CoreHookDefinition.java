@@ -4,11 +4,11 @@ import io.cucumber.core.backend.HookDefinition;
 import io.cucumber.core.backend.ScenarioScoped;
 import io.cucumber.core.backend.SourceReference;
 import io.cucumber.core.backend.TestCaseState;
-import io.cucumber.tagexpressions.Expression;
+import io.cucumber.core.filter.CompiledTagExpression;
+import io.cucumber.core.filter.TagSet;
 import io.cucumber.tagexpressions.TagExpressionException;
 import io.cucumber.tagexpressions.TagExpressionParser;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
@@ -19,14 +19,14 @@ class CoreHookDefinition {
 
     private final UUID id;
     protected final HookDefinition delegate;
-    private final Expression tagExpression;
+    private final CompiledTagExpression tagExpression;
 
     private CoreHookDefinition(UUID id, HookDefinition delegate) {
         this.id = requireNonNull(id);
         this.delegate = delegate;
 
         try {
-            this.tagExpression = TagExpressionParser.parse(delegate.getTagExpression());
+            this.tagExpression = new CompiledTagExpression(TagExpressionParser.parse(delegate.getTagExpression()));
         } catch (TagExpressionException tee) {
             throw new IllegalArgumentException(
                 String.format("Invalid tag expression at '%s'", delegate.getLocation()),
@@ -63,7 +63,7 @@ class CoreHookDefinition {
         return delegate.getOrder();
     }
 
-    boolean matches(List<String> tags) {
+    boolean matches(TagSet tags) {
         return tagExpression.evaluate(tags);
     }
 
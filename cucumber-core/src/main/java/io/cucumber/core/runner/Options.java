@@ -15,6 +15,18 @@ public interface Options {
 
     SnippetType getSnippetType();
 
+    /**
+     * @return the minimum number of rows of a data table to transform it in
+     *         parallel, or 0 when data tables are not transformed in parallel
+     */
+    int getDataTableParallelTransformationThreshold();
+
+    /**
+     * @return the number of chunks a data table is split into when
+     *         transformed in parallel
+     */
+    int getDataTableParallelTransformationParallelism();
+
     Class<? extends ObjectFactory> getObjectFactoryClass();
 
     Class<? extends UuidGenerator> getUuidGeneratorClass();
@@ -7,6 +7,8 @@ import io.cucumber.core.backend.ObjectFactory;
 import io.cucumber.core.backend.StaticHookDefinition;
 import io.cucumber.core.eventbus.EventBus;
 import io.cucumber.core.exception.CucumberException;
+import io.cucumber.core.filter.TagSet;
+import io.cucumber.core.filter.TagSets;
 import io.cucumber.core.gherkin.Pickle;
 import io.cucumber.core.gherkin.Step;
 import io.cucumber.core.logging.Logger;
@@ -15,6 +17,7 @@ import io.cucumber.core.snippets.SnippetGenerator;
 import io.cucumber.core.stepexpression.StepTypeRegistry;
 import io.cucumber.plugin.event.HookType;
 import io.cucumber.plugin.event.Location;
+import io.cucumber.plugin.event.Result;
 import io.cucumber.plugin.event.SnippetsSuggestedEvent;
 import io.cucumber.plugin.event.SnippetsSuggestedEvent.Suggestion;
 
@@ -41,16 +44,40 @@ public final class Runner {
     private final Collection<? extends Backend> backends;
     private final Options runnerOptions;
     private final ObjectFactory objectFactory;
+    private final TagSets tagSets;
+    private final StartedFeatures startedFeatures;
     private final Map<String, Locale> localeCache = new HashMap<>();
     private List<SnippetGenerator> snippetGenerators;
+    private URI currentFeature;
+    private List<BeforeFeatureHookDefinition> beforeFeatureHooks = emptyList();
+    private Throwable afterFeatureHooksFailure;
 
     public Runner(
             EventBus bus, Collection<? extends Backend> backends, ObjectFactory objectFactory, Options runnerOptions
+    ) {
+        this(bus, backends, objectFactory, runnerOptions, new TagSets());
+    }
+
+    public Runner(
+            EventBus bus, Collection<? extends Backend> backends, ObjectFactory objectFactory, Options runnerOptions,
+            TagSets tagSets
+    ) {
+        this(bus, backends, objectFactory, runnerOptions, tagSets, new StartedFeatures());
+    }
+
+    public Runner(
+            EventBus bus, Collection<? extends Backend> backends, ObjectFactory objectFactory, Options runnerOptions,
+            TagSets tagSets, StartedFeatures startedFeatures
     ) {
         this.bus = bus;
+        this.tagSets = tagSets;
+        this.startedFeatures = startedFeatures;
         this.runnerOptions = runnerOptions;
         this.backends = backends;
         this.glue = new CachingGlue(bus);
+        this.glue.setDataTableParallelTransformation(
+            runnerOptions.getDataTableParallelTransformationThreshold(),
+            runnerOptions.getDataTableParallelTransformationParallelism());
         this.objectFactory = objectFactory;
         List<URI> gluePaths = runnerOptions.getGlue();
         log.debug(() -> "Loading glue from " + gluePaths);
@@ -64,7 +91,21 @@ public final class Runner {
         return bus;
     }
 
-    public void runPickle(Pickle pickle) {
+    /**
+     * Runs the pickle as a test case.
+     * <p>
+     * When the pickle belongs to a different feature than the previous pickle
+     * executed by this runner, the after feature hooks of the previous feature
+     * are executed first. The before feature hooks are executed as hook steps
+     * of the first test case of a feature. If they failed, the remaining test
+     * cases of that feature fail on the same hook steps.
+     *
+     * @param  pickle the pickle to run
+     * @return        the result of the test case along with any snippets
+     *                suggested for undefined steps
+     */
+    public TestCaseResult runPickle(Pickle pickle) {
+        startFeature(pickle.getUri());
         try {
 
             // Java8 step definitions will be added to the glue here
@@ -73,8 +114,10 @@ public final class Runner {
             glue.prepareGlue(localeForPickle(pickle));
             snippetGenerators = createSnippetGeneratorsForPickle(glue.getStepTypeRegistry());
 
-            TestCase testCase = createTestCaseForPickle(pickle);
-            testCase.run(bus);
+            List<Suggestion> suggestions = new ArrayList<>();
+            TestCase testCase = createTestCaseForPickle(pickle, suggestions);
+            Result result = testCase.run(bus);
+            return new TestCaseResult(result, suggestions);
         } finally {
             glue.removeScenarioScopedGlue();
             disposeBackendWorlds();
@@ -94,6 +137,95 @@ public final class Runner {
         executeHooks(glue.getAfterAllHooks());
     }
 
+    private void startFeature(URI feature) {
+        if (feature.equals(currentFeature) || !glue.hasFeatureHooks()) {
+            return;
+        }
+        if (!startedFeatures.start(feature)) {
+            throw new CucumberException(String.format("" +
+                    "The scenarios of '%s' were not executed consecutively by a single thread.\n" +
+                    "BeforeFeature and AfterFeature hooks require this. When executing in parallel use\n" +
+                    "cucumber.execution.parallel.granularity=feature. Do not execute scenarios in random order.",
+                feature));
+        }
+        finishFeature();
+        currentFeature = feature;
+        glue.prepareFeatureHooks();
+        beforeFeatureHooks = glue.getBeforeFeatureHooks().stream()
+                .map(BeforeFeatureHookDefinition::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Runs the after feature hooks of the feature that is executed by this
+     * runner. Must be invoked on the thread that executed the scenarios of the
+     * feature, once they have finished.
+     * <p>
+     * Failures of after feature hooks that were executed when this runner
+     * started a scenario of another feature are rethrown as well.
+     */
+    public void runAfterFeatureHooks() {
+        finishFeature();
+        Throwable throwable = afterFeatureHooksFailure;
+        afterFeatureHooksFailure = null;
+        if (throwable != null) {
+            throwAsUncheckedException(throwable);
+        }
+    }
+
+    /**
+     * Fails when this runner has not executed the after feature hooks of the
+     * last feature it executed. Unlike {@link #runAfterFeatureHooks()} this
+     * may be invoked from another thread, once this runner has finished.
+     */
+    public void requireAfterFeatureHooksExecuted() {
+        if (currentFeature != null && !glue.getAfterFeatureHooks().isEmpty()) {
+            throw new CucumberException(String.format("" +
+                    "The AfterFeature hooks of '%s' were not executed by the thread that executed its scenarios.",
+                currentFeature));
+        }
+        if (afterFeatureHooksFailure != null) {
+            throwAsUncheckedException(afterFeatureHooksFailure);
+        }
+    }
+
+    /**
+     * Fails when before or after feature hooks are defined. Used when the
+     * scenarios of a feature may be executed by multiple threads.
+     */
+    public void requireNoFeatureHooks() {
+        if (glue.hasFeatureHooks()) {
+            throw new CucumberException("" +
+                    "BeforeFeature and AfterFeature hooks require that the scenarios of each feature are executed\n" +
+                    "by a single thread. When executing in parallel use cucumber.execution.parallel.granularity=feature.");
+        }
+    }
+
+    private void finishFeature() {
+        if (currentFeature == null) {
+            return;
+        }
+        currentFeature = null;
+        beforeFeatureHooks = emptyList();
+        List<CoreFeatureHookDefinition> afterFeatureHooks = glue.getAfterFeatureHooks();
+        if (afterFeatureHooks.isEmpty() || runnerOptions.isDryRun()) {
+            return;
+        }
+        ThrowableCollector throwableCollector = new ThrowableCollector();
+        for (CoreFeatureHookDefinition hook : afterFeatureHooks) {
+            throwableCollector.execute(() -> executeHook(hook.getDelegate()));
+        }
+        Throwable throwable = throwableCollector.getThrowable();
+        if (throwable == null) {
+            return;
+        }
+        if (afterFeatureHooksFailure == null) {
+            afterFeatureHooksFailure = throwable;
+        } else if (afterFeatureHooksFailure != throwable) {
+            afterFeatureHooksFailure.addSuppressed(throwable);
+        }
+    }
+
     private void executeHooks(List<StaticHookDefinition> afterAllHooks) {
         ThrowableCollector throwableCollector = new ThrowableCollector();
         for (StaticHookDefinition staticHookDefinition : afterAllHooks) {
@@ -131,6 +263,14 @@ public final class Runner {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Disposes the object factory of this runner. Invoked once the test run
+     * has finished.
+     */
+    public void dispose() {
+        objectFactory.dispose();
+    }
+
     private void buildBackendWorlds() {
         objectFactory.start();
         for (Backend backend : backends) {
@@ -138,15 +278,17 @@ public final class Runner {
         }
     }
 
-    private TestCase createTestCaseForPickle(Pickle pickle) {
+    private TestCase createTestCaseForPickle(Pickle pickle, List<Suggestion> suggestions) {
         if (pickle.getSteps().isEmpty()) {
             return new TestCase(bus.generateId(), emptyList(), emptyList(), emptyList(), pickle,
                 runnerOptions.isDryRun());
         }
 
-        List<PickleStepTestStep> testSteps = createTestStepsForPickleSteps(pickle);
-        List<HookTestStep> beforeHooks = createTestStepsForBeforeHooks(pickle.getTags());
-        List<HookTestStep> afterHooks = createTestStepsForAfterHooks(pickle.getTags());
+        TagSet tags = tagSets.of(pickle);
+        List<PickleStepTestStep> testSteps = createTestStepsForPickleSteps(pickle, tags, suggestions);
+        List<HookTestStep> beforeHooks = new ArrayList<>(createTestStepsForBeforeFeatureHooks());
+        beforeHooks.addAll(createTestStepsForBeforeHooks(tags));
+        List<HookTestStep> afterHooks = createTestStepsForAfterHooks(tags);
         return new TestCase(bus.generateId(), testSteps, beforeHooks, afterHooks, pickle, runnerOptions.isDryRun());
     }
 
@@ -157,13 +299,15 @@ public final class Runner {
         objectFactory.stop();
     }
 
-    private List<PickleStepTestStep> createTestStepsForPickleSteps(Pickle pickle) {
+    private List<PickleStepTestStep> createTestStepsForPickleSteps(
+            Pickle pickle, TagSet tags, List<Suggestion> suggestions
+    ) {
         List<PickleStepTestStep> testSteps = new ArrayList<>();
 
         for (Step step : pickle.getSteps()) {
-            PickleStepDefinitionMatch match = matchStepToStepDefinition(pickle, step);
-            List<HookTestStep> afterStepHookSteps = createAfterStepHooks(pickle.getTags());
-            List<HookTestStep> beforeStepHookSteps = createBeforeStepHooks(pickle.getTags());
+            PickleStepDefinitionMatch match = matchStepToStepDefinition(pickle, step, suggestions);
+            List<HookTestStep> afterStepHookSteps = createAfterStepHooks(tags);
+            List<HookTestStep> beforeStepHookSteps = createBeforeStepHooks(tags);
             testSteps.add(new PickleStepTestStep(bus.generateId(), pickle.getUri(), step, beforeStepHookSteps,
                 afterStepHookSteps, match));
         }
@@ -171,33 +315,44 @@ public final class Runner {
         return testSteps;
     }
 
-    private List<HookTestStep> createTestStepsForBeforeHooks(List<String> tags) {
+    private List<HookTestStep> createTestStepsForBeforeFeatureHooks() {
+        return beforeFeatureHooks.stream()
+                .filter(BeforeFeatureHookDefinition::isPending)
+                .map(hook -> CoreHookDefinition.create(hook, hook::getId))
+                .map(hook -> new HookTestStep(bus.generateId(), HookType.BEFORE, new HookDefinitionMatch(hook)))
+                .collect(Collectors.toList());
+    }
+
+    private List<HookTestStep> createTestStepsForBeforeHooks(TagSet tags) {
         return createTestStepsForHooks(tags, glue.getBeforeHooks(), HookType.BEFORE);
     }
 
-    private List<HookTestStep> createTestStepsForAfterHooks(List<String> tags) {
+    private List<HookTestStep> createTestStepsForAfterHooks(TagSet tags) {
         return createTestStepsForHooks(tags, glue.getAfterHooks(), HookType.AFTER);
     }
 
-    private PickleStepDefinitionMatch matchStepToStepDefinition(Pickle pickle, Step step) {
+    private PickleStepDefinitionMatch matchStepToStepDefinition(
+            Pickle pickle, Step step, List<Suggestion> suggestions
+    ) {
         try {
             PickleStepDefinitionMatch match = glue.stepDefinitionMatch(pickle.getUri(), step);
             if (match != null) {
                 return match;
             }
-            emitSnippetSuggestedEvent(pickle, step);
+            emitSnippetSuggestedEvent(pickle, step, suggestions);
             return new UndefinedPickleStepDefinitionMatch(pickle.getUri(), step);
         } catch (AmbiguousStepDefinitionsException e) {
             return new AmbiguousPickleStepDefinitionsMatch(pickle.getUri(), step, e);
         }
     }
 
-    private void emitSnippetSuggestedEvent(Pickle pickle, Step step) {
+    private void emitSnippetSuggestedEvent(Pickle pickle, Step step, List<Suggestion> suggestions) {
         List<String> snippets = generateSnippetsForStep(step);
         if (snippets.isEmpty()) {
             return;
         }
         Suggestion suggestion = new Suggestion(step.getText(), snippets);
+        suggestions.add(suggestion);
         Location scenarioLocation = pickle.getLocation();
         Location stepLocation = step.getLocation();
         SnippetsSuggestedEvent event = new SnippetsSuggestedEvent(bus.getInstant(), pickle.getUri(), scenarioLocation,
@@ -205,16 +360,16 @@ public final class Runner {
         bus.send(event);
     }
 
-    private List<HookTestStep> createAfterStepHooks(List<String> tags) {
+    private List<HookTestStep> createAfterStepHooks(TagSet tags) {
         return createTestStepsForHooks(tags, glue.getAfterStepHooks(), HookType.AFTER_STEP);
     }
 
-    private List<HookTestStep> createBeforeStepHooks(List<String> tags) {
+    private List<HookTestStep> createBeforeStepHooks(TagSet tags) {
         return createTestStepsForHooks(tags, glue.getBeforeStepHooks(), HookType.BEFORE_STEP);
     }
 
     private List<HookTestStep> createTestStepsForHooks(
-            List<String> tags, Collection<CoreHookDefinition> hooks, HookType hookType
+            TagSet tags, Collection<CoreHookDefinition> hooks, HookType hookType
     ) {
         return hooks.stream()
                 .filter(hook -> hook.matches(tags))
@@ -0,0 +1,27 @@
+package io.cucumber.core.runner;
+
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the features started by the runners of a single test run.
+ * <p>
+ * Before and after feature hooks are executed by the runner that executes the
+ * scenarios of a feature. This only works when the scenarios of each feature
+ * are executed consecutively by one runner. Runners that share an instance
+ * detect when this is not the case.
+ */
+public final class StartedFeatures {
+
+    private final Set<URI> features = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param  feature the feature to start
+     * @return         false if the feature was already started
+     */
+    boolean start(URI feature) {
+        return features.add(feature);
+    }
+
+}
@@ -65,11 +65,12 @@ final class TestCase implements io.cucumber.plugin.event.TestCase {
             group.getValue());
     }
 
-    void run(EventBus bus) {
+    Result run(EventBus bus) {
         ExecutionMode nextExecutionMode = this.executionMode;
         emitTestCaseMessage(bus);
 
         Instant start = bus.getInstant();
+        long startNanoTime = bus.getNanoTime();
         UUID executionId = bus.generateId();
         emitTestCaseStarted(bus, start, executionId);
 
@@ -93,11 +94,12 @@ final class TestCase implements io.cucumber.plugin.event.TestCase {
                     .next(nextExecutionMode);
         }
 
+        Duration duration = Duration.ofNanos(bus.getNanoTime() - startNanoTime);
         Instant stop = bus.getInstant();
-        Duration duration = Duration.between(start, stop);
         Status status = Status.valueOf(state.getStatus().name());
         Result result = new Result(status, duration, state.getError());
         emitTestCaseFinished(bus, executionId, stop, result);
+        return result;
     }
 
     @Override
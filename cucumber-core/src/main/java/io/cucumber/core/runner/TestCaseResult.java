@@ -0,0 +1,37 @@
+package io.cucumber.core.runner;
+
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.SnippetsSuggestedEvent.Suggestion;
+
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The outcome of running a pickle.
+ * <p>
+ * Contains the same result as the {@code TestCaseFinished} event and the
+ * suggestions of any {@code SnippetsSuggestedEvent}s emitted for the test case.
+ * This allows integrations to inspect the outcome of a test case without
+ * subscribing to the event bus.
+ */
+public final class TestCaseResult {
+
+    private final Result result;
+    private final List<Suggestion> suggestions;
+
+    public TestCaseResult(Result result, List<Suggestion> suggestions) {
+        this.result = requireNonNull(result);
+        this.suggestions = unmodifiableList(requireNonNull(suggestions));
+    }
+
+    public Result getResult() {
+        return result;
+    }
+
+    public List<Suggestion> getSuggestions() {
+        return suggestions;
+    }
+
+}
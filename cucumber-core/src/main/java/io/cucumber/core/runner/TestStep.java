@@ -45,6 +45,7 @@ abstract class TestStep implements io.cucumber.plugin.event.TestStep {
 
     ExecutionMode run(TestCase testCase, EventBus bus, TestCaseState state, ExecutionMode executionMode) {
         Instant startTime = bus.getInstant();
+        long startNanoTime = bus.getNanoTime();
         emitTestStepStarted(testCase, bus, state.getTestExecutionId(), startTime);
 
         Status status;
@@ -56,8 +57,8 @@ abstract class TestStep implements io.cucumber.plugin.event.TestStep {
             error = t;
             status = mapThrowableToStatus(t);
         }
+        Duration duration = Duration.ofNanos(bus.getNanoTime() - startNanoTime);
         Instant stopTime = bus.getInstant();
-        Duration duration = Duration.between(startTime, stopTime);
         Result result = mapStatusToResult(status, error, duration);
         state.add(result);
 
@@ -93,12 +93,41 @@ public final class CucumberExecutionContext {
         collector.executeAndThrow(runner::runBeforeAllHooks);
     }
 
+    /**
+     * Runs the pending after feature hooks of the runner of the current
+     * thread. Must be invoked by each thread that executed scenarios, once it
+     * has finished executing the scenarios of a feature.
+     */
+    public void runAfterFeatureHooks() {
+        Runner runner = getRunner();
+        collector.executeAndThrow(runner::runAfterFeatureHooks);
+    }
+
+    /**
+     * Fails the test run when feature hooks are defined. Used when the
+     * scenarios of a feature may be executed by multiple threads.
+     */
+    public void requireNoFeatureHooks() {
+        Runner runner = getRunner();
+        collector.executeAndThrow(runner::requireNoFeatureHooks);
+    }
+
     public void runAfterAllHooks() {
         Runner runner = getRunner();
+        // Other runners run their after feature hooks on their own thread.
+        for (Runner other : runnerSupplier.getAll()) {
+            if (other != runner) {
+                execute(() -> collector.executeAndThrow(other::requireAfterFeatureHooksExecuted));
+            }
+        }
+        execute(() -> collector.executeAndThrow(runner::runAfterFeatureHooks));
         collector.executeAndThrow(runner::runAfterAllHooks);
     }
 
     public void finishTestRun() {
+        for (Runner runner : runnerSupplier.getAll()) {
+            execute(() -> collector.executeAndThrow(runner::dispose));
+        }
         log.debug(() -> "Sending test run finished event");
         Throwable cucumberException = getThrowable();
         emitTestRunFinished(cucumberException);
@@ -2,8 +2,19 @@ package io.cucumber.core.runtime;
 
 import io.cucumber.core.runner.Runner;
 
+import java.util.Collection;
+
+import static java.util.Collections.emptyList;
+
 public interface RunnerSupplier {
 
     Runner get();
 
+    /**
+     * @return all runners created by this supplier so far
+     */
+    default Collection<Runner> getAll() {
+        return emptyList();
+    }
+
 }
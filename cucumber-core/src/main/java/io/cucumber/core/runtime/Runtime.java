@@ -3,10 +3,13 @@ package io.cucumber.core.runtime;
 import io.cucumber.core.eventbus.EventBus;
 import io.cucumber.core.feature.FeatureParser;
 import io.cucumber.core.filter.Filters;
+import io.cucumber.core.filter.Shard;
+import io.cucumber.core.filter.TagSets;
 import io.cucumber.core.gherkin.Feature;
 import io.cucumber.core.gherkin.Pickle;
 import io.cucumber.core.logging.Logger;
 import io.cucumber.core.logging.LoggerFactory;
+import io.cucumber.core.options.ParallelGranularity;
 import io.cucumber.core.options.RuntimeOptions;
 import io.cucumber.core.order.PickleOrder;
 import io.cucumber.core.plugin.PluginFactory;
@@ -14,11 +17,19 @@ import io.cucumber.core.plugin.Plugins;
 import io.cucumber.core.resource.ClassLoaders;
 import io.cucumber.plugin.Plugin;
 
+import java.net.URI;
 import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -29,9 +40,11 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static io.cucumber.core.exception.UnrecoverableExceptions.rethrowIfUnrecoverable;
 import static io.cucumber.core.runtime.SynchronizedEventBus.synchronize;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -44,28 +57,37 @@ public final class Runtime {
     private final ExitStatus exitStatus;
 
     private final Predicate<Pickle> filter;
+    private final Shard shard;
     private final int limit;
     private final FeatureSupplier featureSupplier;
     private final ExecutorService executor;
     private final PickleOrder pickleOrder;
+    private final boolean featureGranularity;
+    private final boolean scenarioGranularity;
     private final CucumberExecutionContext context;
 
     private Runtime(
             final ExitStatus exitStatus,
             final CucumberExecutionContext context,
             final Predicate<Pickle> filter,
+            final Shard shard,
             final int limit,
             final FeatureSupplier featureSupplier,
             final ExecutorService executor,
-            final PickleOrder pickleOrder
+            final PickleOrder pickleOrder,
+            final boolean featureGranularity,
+            final boolean scenarioGranularity
     ) {
         this.filter = filter;
+        this.shard = shard;
         this.context = context;
         this.limit = limit;
         this.featureSupplier = featureSupplier;
         this.executor = executor;
         this.exitStatus = exitStatus;
         this.pickleOrder = pickleOrder;
+        this.featureGranularity = featureGranularity;
+        this.scenarioGranularity = scenarioGranularity;
     }
 
     public static Builder builder() {
@@ -79,16 +101,27 @@ public final class Runtime {
     }
 
     private void runFeatures(List<Feature> features) {
+        if (scenarioGranularity) {
+            context.requireNoFeatureHooks();
+        }
         features.forEach(context::beforeFeature);
-        List<Future<?>> executingPickles = features.stream()
+        List<Pickle> pickles = features.stream()
                 .flatMap(feature -> feature.getPickles().stream())
                 .filter(filter)
                 .collect(collectingAndThen(toList(),
-                    list -> pickleOrder.orderPickles(list).stream()))
+                    list -> pickleOrder.orderPickles(shard.select(list)).stream()))
                 .limit(limit > 0 ? limit : Integer.MAX_VALUE)
-                .map(pickle -> executor.submit(executePickle(pickle)))
                 .collect(toList());
 
+        WorkerLoad workerLoad = featureGranularity ? new WorkerLoad() : null;
+        List<Future<?>> executingPickles = featureGranularity
+                ? groupByFeatureLargestFirst(pickles).stream()
+                        .map(featurePickles -> executor.submit(executePickles(featurePickles, workerLoad)))
+                        .collect(toList())
+                : pickles.stream()
+                        .map(pickle -> executor.submit(executePickle(pickle)))
+                        .collect(toList());
+
         executor.shutdown();
 
         for (Future<?> executingPickle : executingPickles) {
@@ -101,6 +134,46 @@ public final class Runtime {
                 executor.shutdownNow();
             }
         }
+
+        if (workerLoad != null) {
+            log.debug(workerLoad::summarize);
+        }
+    }
+
+    /**
+     * Groups pickles by feature, retaining the order of pickles within each
+     * feature. Starting the largest features first reduces the chance that a
+     * single large feature is still running on one thread while all others
+     * are idle.
+     */
+    private static List<List<Pickle>> groupByFeatureLargestFirst(List<Pickle> pickles) {
+        Map<URI, List<Pickle>> picklesByFeature = pickles.stream()
+                .collect(groupingBy(Pickle::getUri, LinkedHashMap::new, toList()));
+        List<List<Pickle>> features = new ArrayList<>(picklesByFeature.values());
+        features.sort(Comparator.<List<Pickle>> comparingInt(List::size).reversed());
+        return features;
+    }
+
+    private Runnable executePickles(List<Pickle> pickles, WorkerLoad workerLoad) {
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                for (Pickle pickle : pickles) {
+                    try {
+                        executePickle(pickle).run();
+                    } catch (Throwable t) {
+                        rethrowIfUnrecoverable(t);
+                        log.error(t, () -> "Exception while executing pickle");
+                    }
+                }
+                context.runAfterFeatureHooks();
+            } catch (Throwable t) {
+                // Collected in CucumberExecutionContext
+                rethrowIfUnrecoverable(t);
+            } finally {
+                workerLoad.record(pickles.size(), System.nanoTime() - start);
+            }
+        };
     }
 
     private Runnable executePickle(Pickle pickle) {
@@ -176,7 +249,7 @@ public final class Runtime {
                 final UuidGeneratorServiceLoader uuidGeneratorServiceLoader = new UuidGeneratorServiceLoader(
                     classLoader,
                     runtimeOptions);
-                this.eventBus = new TimeServiceEventBus(Clock.systemUTC(),
+                this.eventBus = new TimeServiceEventBus(Clock.systemUTC(), System::nanoTime,
                     uuidGeneratorServiceLoader.loadUuidGenerator());
             }
             final EventBus eventBus = synchronize(this.eventBus);
@@ -187,9 +260,12 @@ public final class Runtime {
                 plugins.setEventBusOnEventListenerPlugins(eventBus);
             }
 
+            final TagSets tagSets = new TagSets();
             final RunnerSupplier runnerSupplier = runtimeOptions.isMultiThreaded()
-                    ? new ThreadLocalRunnerSupplier(runtimeOptions, eventBus, backendSupplier, objectFactorySupplier)
-                    : new SingletonRunnerSupplier(runtimeOptions, eventBus, backendSupplier, objectFactorySupplier);
+                    ? new ThreadLocalRunnerSupplier(runtimeOptions, eventBus, backendSupplier, objectFactorySupplier,
+                        tagSets)
+                    : new SingletonRunnerSupplier(runtimeOptions, eventBus, backendSupplier, objectFactorySupplier,
+                        tagSets);
 
             final ExecutorService executor = runtimeOptions.isMultiThreaded()
                     ? Executors.newFixedThreadPool(runtimeOptions.getThreads(), new CucumberThreadFactory())
@@ -201,12 +277,57 @@ public final class Runtime {
                     ? this.featureSupplier
                     : new FeaturePathFeatureSupplier(classLoader, runtimeOptions, parser);
 
-            final Predicate<Pickle> filter = new Filters(runtimeOptions);
+            final Predicate<Pickle> filter = new Filters(runtimeOptions, tagSets);
+            final Shard shard = Shard.create(
+                runtimeOptions.getShardIndex(),
+                runtimeOptions.getShardTotal(),
+                runtimeOptions.getShardTimings().orElse(null));
             final int limit = runtimeOptions.getLimitCount();
             final PickleOrder pickleOrder = runtimeOptions.getPickleOrder();
+            final boolean featureGranularity = runtimeOptions.isMultiThreaded()
+                    && runtimeOptions.getParallelGranularity() == ParallelGranularity.FEATURE;
+            final boolean scenarioGranularity = runtimeOptions.isMultiThreaded()
+                    && runtimeOptions.getParallelGranularity() == ParallelGranularity.SCENARIO;
             final CucumberExecutionContext context = new CucumberExecutionContext(eventBus, exitStatus, runnerSupplier);
 
-            return new Runtime(exitStatus, context, filter, limit, featureSupplier, executor, pickleOrder);
+            return new Runtime(exitStatus, context, filter, shard, limit, featureSupplier, executor, pickleOrder,
+                featureGranularity, scenarioGranularity);
+        }
+
+    }
+
+    /**
+     * Tracks how features were distributed over threads.
+     */
+    private static final class WorkerLoad {
+
+        private final Map<String, long[]> loadByThread = new ConcurrentHashMap<>();
+
+        void record(int pickles, long nanos) {
+            // Each entry is only updated by its own thread
+            long[] load = loadByThread.computeIfAbsent(Thread.currentThread().getName(), name -> new long[3]);
+            load[0]++;
+            load[1] += pickles;
+            load[2] += nanos;
+        }
+
+        String summarize() {
+            Map<String, long[]> sorted = new TreeMap<>(loadByThread);
+            long maxNanos = 0;
+            long totalNanos = 0;
+            StringBuilder summary = new StringBuilder("Load per thread:");
+            for (Map.Entry<String, long[]> entry : sorted.entrySet()) {
+                long[] load = entry.getValue();
+                maxNanos = Math.max(maxNanos, load[2]);
+                totalNanos += load[2];
+                summary.append(String.format("%n  %s: %d features, %d scenarios, %d ms",
+                    entry.getKey(), load[0], load[1], Duration.ofNanos(load[2]).toMillis()));
+            }
+            if (maxNanos > 0) {
+                double meanNanos = (double) totalNanos / sorted.size();
+                summary.append(String.format("%n  Imbalance (max / mean): %.2f", maxNanos / meanNanos));
+            }
+            return summary.toString();
         }
 
     }
@@ -1,9 +1,15 @@
 package io.cucumber.core.runtime;
 
 import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.filter.TagSets;
 import io.cucumber.core.runner.Options;
 import io.cucumber.core.runner.Runner;
 
+import java.util.Collection;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
 /**
  * Returns a single unique runner.
  * <p>
@@ -15,6 +21,7 @@ public final class SingletonRunnerSupplier implements RunnerSupplier {
     private final Options runnerOptions;
     private final EventBus eventBus;
     private final ObjectFactorySupplier objectFactorySupplier;
+    private final TagSets tagSets;
     private Runner runner;
 
     public SingletonRunnerSupplier(
@@ -22,11 +29,22 @@ public final class SingletonRunnerSupplier implements RunnerSupplier {
             EventBus eventBus,
             BackendSupplier backendSupplier,
             ObjectFactorySupplier objectFactorySupplier
+    ) {
+        this(runnerOptions, eventBus, backendSupplier, objectFactorySupplier, new TagSets());
+    }
+
+    public SingletonRunnerSupplier(
+            Options runnerOptions,
+            EventBus eventBus,
+            BackendSupplier backendSupplier,
+            ObjectFactorySupplier objectFactorySupplier,
+            TagSets tagSets
     ) {
         this.backendSupplier = backendSupplier;
         this.runnerOptions = runnerOptions;
         this.eventBus = eventBus;
         this.objectFactorySupplier = objectFactorySupplier;
+        this.tagSets = tagSets;
     }
 
     @Override
@@ -37,12 +55,18 @@ public final class SingletonRunnerSupplier implements RunnerSupplier {
         return runner;
     }
 
+    @Override
+    public Collection<Runner> getAll() {
+        return runner == null ? emptyList() : singletonList(runner);
+    }
+
     private Runner createRunner() {
         return new Runner(
             eventBus,
             backendSupplier.get(),
             objectFactorySupplier.get(),
-            runnerOptions);
+            runnerOptions,
+            tagSets);
     }
 
 }
@@ -37,6 +37,11 @@ public final class SynchronizedEventBus implements EventBus {
         return delegate.getInstant();
     }
 
+    @Override
+    public long getNanoTime() {
+        return delegate.getNanoTime();
+    }
+
     @Override
     public UUID generateId() {
         return delegate.generateId();
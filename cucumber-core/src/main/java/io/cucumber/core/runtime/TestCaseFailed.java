@@ -1,11 +1,13 @@
 package io.cucumber.core.runtime;
 
+import io.cucumber.core.runner.TestCaseResult;
+
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * Failures as asserted by
- * {@link TestCaseResultObserver#assertTestCasePassed(Supplier, Function, Function, Function)}
+ * {@link TestCaseResultObserver#assertTestCasePassed(TestCaseResult, Supplier, Function, Function, Function)}
  * should not be collected by the rethrowing
  * {@link RethrowingThrowableCollector}.
  * <p>
@@ -1,11 +1,9 @@
 package io.cucumber.core.runtime;
 
-import io.cucumber.plugin.event.EventHandler;
-import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.core.runner.TestCaseResult;
 import io.cucumber.plugin.event.Result;
 import io.cucumber.plugin.event.SnippetsSuggestedEvent;
 import io.cucumber.plugin.event.Status;
-import io.cucumber.plugin.event.TestCaseFinished;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,41 +17,24 @@ import static io.cucumber.plugin.event.Status.UNDEFINED;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 
-public final class TestCaseResultObserver implements AutoCloseable {
+public final class TestCaseResultObserver {
 
-    private final EventPublisher bus;
-    private final List<Suggestion> suggestions = new ArrayList<>();
-    private final EventHandler<SnippetsSuggestedEvent> snippetsSuggested = this::handleSnippetSuggestedEvent;
-    private Result result;
-    private final EventHandler<TestCaseFinished> testCaseFinished = this::handleTestCaseFinished;
-
-    public TestCaseResultObserver(EventPublisher bus) {
-        this.bus = bus;
-        bus.registerHandlerFor(SnippetsSuggestedEvent.class, snippetsSuggested);
-        bus.registerHandlerFor(TestCaseFinished.class, testCaseFinished);
-    }
-
-    @Override
-    public void close() {
-        bus.removeHandlerFor(SnippetsSuggestedEvent.class, snippetsSuggested);
-        bus.removeHandlerFor(TestCaseFinished.class, testCaseFinished);
-    }
-
-    private void handleSnippetSuggestedEvent(SnippetsSuggestedEvent event) {
-        SnippetsSuggestedEvent.Suggestion s = event.getSuggestion();
-        suggestions.add(new Suggestion(s.getStep(), s.getSnippets()));
+    private TestCaseResultObserver() {
     }
 
-    private void handleTestCaseFinished(TestCaseFinished event) {
-        result = event.getResult();
-    }
-
-    public void assertTestCasePassed(
+    /**
+     * Asserts the result returned by
+     * {@link io.cucumber.core.runner.Runner#runPickle(io.cucumber.core.gherkin.Pickle)}
+     * passed.
+     */
+    public static void assertTestCasePassed(
+            TestCaseResult testCaseResult,
             Supplier<Throwable> testCaseSkipped,
             Function<Throwable, Throwable> testCaseSkippedWithException,
             Function<List<Suggestion>, Throwable> testCaseWasUndefined,
             Function<Throwable, Throwable> testCaseWasPending
     ) {
+        Result result = testCaseResult.getResult();
         Status status = result.getStatus();
         if (status.is(PASSED)) {
             return;
@@ -66,7 +47,7 @@ public final class TestCaseResultObserver implements AutoCloseable {
             Throwable throwable = testCaseSkippedWithException.apply(error);
             throw new TestCaseFailed(throwable);
         } else if (status.is(UNDEFINED)) {
-            Throwable throwable = testCaseWasUndefined.apply(suggestions);
+            Throwable throwable = testCaseWasUndefined.apply(toSuggestions(testCaseResult));
             throw new TestCaseFailed(throwable);
         } else if (status.is(PENDING)) {
             Throwable throwable = testCaseWasPending.apply(error);
@@ -76,6 +57,14 @@ public final class TestCaseResultObserver implements AutoCloseable {
         throw new TestCaseFailed(error);
     }
 
+    private static List<Suggestion> toSuggestions(TestCaseResult testCaseResult) {
+        List<Suggestion> suggestions = new ArrayList<>();
+        for (SnippetsSuggestedEvent.Suggestion s : testCaseResult.getSuggestions()) {
+            suggestions.add(new Suggestion(s.getStep(), s.getSnippets()));
+        }
+        return suggestions;
+    }
+
     public static final class Suggestion {
 
         final String step;
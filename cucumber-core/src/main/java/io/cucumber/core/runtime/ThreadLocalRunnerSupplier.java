@@ -2,11 +2,17 @@ package io.cucumber.core.runtime;
 
 import io.cucumber.core.eventbus.AbstractEventBus;
 import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.filter.TagSets;
 import io.cucumber.core.runner.Options;
 import io.cucumber.core.runner.Runner;
+import io.cucumber.core.runner.StartedFeatures;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Creates a distinct runner for each calling thread. Each runner has its own
@@ -20,7 +26,10 @@ public final class ThreadLocalRunnerSupplier implements RunnerSupplier {
     private final io.cucumber.core.runner.Options runnerOptions;
     private final SynchronizedEventBus sharedEventBus;
     private final ObjectFactorySupplier objectFactorySupplier;
+    private final TagSets tagSets;
+    private final StartedFeatures startedFeatures = new StartedFeatures();
 
+    private final Queue<Runner> created = new ConcurrentLinkedQueue<>();
     private final ThreadLocal<Runner> runners = ThreadLocal.withInitial(this::createRunner);
 
     public ThreadLocalRunnerSupplier(
@@ -28,11 +37,22 @@ public final class ThreadLocalRunnerSupplier implements RunnerSupplier {
             EventBus sharedEventBus,
             BackendSupplier backendSupplier,
             ObjectFactorySupplier objectFactorySupplier
+    ) {
+        this(runnerOptions, sharedEventBus, backendSupplier, objectFactorySupplier, new TagSets());
+    }
+
+    public ThreadLocalRunnerSupplier(
+            Options runnerOptions,
+            EventBus sharedEventBus,
+            BackendSupplier backendSupplier,
+            ObjectFactorySupplier objectFactorySupplier,
+            TagSets tagSets
     ) {
         this.runnerOptions = runnerOptions;
         this.sharedEventBus = SynchronizedEventBus.synchronize(sharedEventBus);
         this.backendSupplier = backendSupplier;
         this.objectFactorySupplier = objectFactorySupplier;
+        this.tagSets = tagSets;
     }
 
     @Override
@@ -40,12 +60,21 @@ public final class ThreadLocalRunnerSupplier implements RunnerSupplier {
         return runners.get();
     }
 
+    @Override
+    public Collection<Runner> getAll() {
+        return new ArrayList<>(created);
+    }
+
     private Runner createRunner() {
-        return new Runner(
+        Runner runner = new Runner(
             new LocalEventBus(sharedEventBus),
             backendSupplier.get(),
             objectFactorySupplier.get(),
-            runnerOptions);
+            runnerOptions,
+            tagSets,
+            startedFeatures);
+        created.add(runner);
+        return runner;
     }
 
     private static final class LocalEventBus extends AbstractEventBus {
@@ -67,6 +96,11 @@ public final class ThreadLocalRunnerSupplier implements RunnerSupplier {
             return parent.getInstant();
         }
 
+        @Override
+        public long getNanoTime() {
+            return parent.getNanoTime();
+        }
+
         @Override
         public UUID generateId() {
             return parent.generateId();
@@ -5,15 +5,41 @@ import io.cucumber.core.eventbus.AbstractEventBus;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.UUID;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
+
 public final class TimeServiceEventBus extends AbstractEventBus {
 
     private final Clock clock;
+    private final LongSupplier nanoTime;
     private final Supplier<UUID> idGenerator;
 
+    /**
+     * Creates an event bus that measures durations with the {@code clock}.
+     *
+     * @param clock       to time stamp events and measure durations with
+     * @param idGenerator to generate ids with
+     */
     public TimeServiceEventBus(Clock clock, Supplier<UUID> idGenerator) {
+        this(clock, () -> {
+            Instant instant = clock.instant();
+            return SECONDS.toNanos(instant.getEpochSecond()) + instant.getNano();
+        }, idGenerator);
+    }
+
+    /**
+     * Creates an event bus that measures durations with a monotonic time
+     * source, e.g. {@link System#nanoTime()}.
+     *
+     * @param clock       to time stamp events with
+     * @param nanoTime    to measure durations with
+     * @param idGenerator to generate ids with
+     */
+    public TimeServiceEventBus(Clock clock, LongSupplier nanoTime, Supplier<UUID> idGenerator) {
         this.clock = clock;
+        this.nanoTime = nanoTime;
         this.idGenerator = idGenerator;
     }
 
@@ -22,6 +48,11 @@ public final class TimeServiceEventBus extends AbstractEventBus {
         return clock.instant();
     }
 
+    @Override
+    public long getNanoTime() {
+        return nanoTime.getAsLong();
+    }
+
     @Override
     public UUID generateId() {
         return idGenerator.get();
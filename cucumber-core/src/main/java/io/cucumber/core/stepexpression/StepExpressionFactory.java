@@ -61,7 +61,7 @@ public final class StepExpressionFactory {
         final Expression expression = crateExpression(expressionString);
 
         RawTableTransformer<?> tableTransform = (List<List<String>> raw) -> {
-            DataTable dataTable = DataTable.create(raw, StepExpressionFactory.this.tableConverter);
+            DataTable dataTable = DataTable.createCompact(raw, StepExpressionFactory.this.tableConverter);
             Type targetType = tableOrDocStringType.get();
             return dataTable.convert(Object.class.equals(targetType) ? DataTable.class : targetType, transpose);
         };
@@ -0,0 +1,113 @@
+package io.cucumber.core.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Minimal harness to compare the CPU time and output size of workloads.
+ * <p>
+ * This is not a replacement for JMH. Each workload is run a few times to warm
+ * up and then measured a number of times on the current thread. The median CPU
+ * time and the size returned by the last run are reported.
+ * <p>
+ * Benchmarks are plain main classes in the test sources, named
+ * {@code *Benchmark}. They are not run by the build. Run them from an IDE or
+ * with {@code java} on the test class path of the module.
+ */
+public final class Benchmark {
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final List<Measurement> measurements = new ArrayList<>();
+    private final int warmups;
+    private final int iterations;
+
+    public Benchmark(int warmups, int iterations) {
+        this.warmups = warmups;
+        this.iterations = iterations;
+    }
+
+    public Benchmark measure(String name, Workload workload) throws Exception {
+        for (int i = 0; i < warmups; i++) {
+            workload.run();
+        }
+        long[] cpuTimes = new long[iterations];
+        long size = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = threads.getCurrentThreadCpuTime();
+            size = workload.run();
+            cpuTimes[i] = threads.getCurrentThreadCpuTime() - start;
+        }
+        Arrays.sort(cpuTimes);
+        measurements.add(new Measurement(name, size, cpuTimes[iterations / 2]));
+        return this;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%-30s %12s %12s%n", "workload", "size (KiB)", "cpu (ms)");
+        for (Measurement measurement : measurements) {
+            out.printf("%-30s %12d %12d%n",
+                measurement.name,
+                measurement.size / 1024,
+                NANOSECONDS.toMillis(measurement.cpuTime));
+        }
+    }
+
+    @FunctionalInterface
+    public interface Workload {
+
+        /**
+         * Runs the workload once.
+         *
+         * @return           the size of the output, e.g. the number of bytes
+         *                   written, or 0 if not applicable
+         * @throws Exception when the workload failed
+         */
+        long run() throws Exception;
+
+    }
+
+    /**
+     * Discards and counts the bytes written to it.
+     */
+    public static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+    }
+
+    private static final class Measurement {
+
+        private final String name;
+        private final long size;
+        private final long cpuTime;
+
+        Measurement(String name, long size, long cpuTime) {
+            this.name = name;
+            this.size = size;
+            this.cpuTime = cpuTime;
+        }
+
+    }
+
+}
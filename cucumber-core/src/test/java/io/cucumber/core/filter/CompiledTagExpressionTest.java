@@ -0,0 +1,84 @@
+package io.cucumber.core.filter;
+
+import io.cucumber.core.feature.TestFeatureParser;
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledTagExpressionTest {
+
+    private final TagSets tagSets = new TagSets();
+
+    @Test
+    void same_tags_are_interned_as_same_tag_set() {
+        assertThat(tagSets.of(asList("@a", "@b")), sameInstance(tagSets.of(asList("@b", "@a", "@a"))));
+        assertThat(tagSets.of(asList("@a", "@b")), not(sameInstance(tagSets.of(asList("@a", "@c")))));
+    }
+
+    @Test
+    void tag_sets_are_interned_per_run() {
+        assertThat(tagSets.of(asList("@a", "@b")), not(sameInstance(new TagSets().of(asList("@a", "@b")))));
+    }
+
+    @Test
+    void tag_set_of_pickle_is_computed_once() {
+        Pickle pickle = TestFeatureParser.parse("" +
+                "Feature: Test feature\n" +
+                "  @a @b\n" +
+                "  Scenario: Test scenario\n" +
+                "     Given I have 4 cukes in my belly\n").getPickles().get(0);
+        TagSet tags = tagSets.of(pickle);
+        assertThat(tagSets.of(pickle), sameInstance(tags));
+        assertThat(tagSets.of(asList("@b", "@a")), sameInstance(tags));
+    }
+
+    @Test
+    void tag_set_contains_tags() {
+        TagSet tags = tagSets.of(asList("@a", "@b"));
+        assertTrue(tags.contains("@a"));
+        assertFalse(tags.contains("@c"));
+        assertFalse(tags.contains("@never-seen-before"));
+    }
+
+    @Test
+    void evaluates_tag_expression() {
+        CompiledTagExpression expression = new CompiledTagExpression(
+            TagExpressionParser.parse("@a and not @b"));
+        assertTrue(expression.evaluate(tagSets.of(asList("@a", "@c"))));
+        assertFalse(expression.evaluate(tagSets.of(asList("@a", "@b"))));
+        assertFalse(expression.evaluate(tagSets.of(emptyList())));
+    }
+
+    @Test
+    void evaluates_tag_expression_once_per_tag_set() {
+        AtomicInteger evaluations = new AtomicInteger();
+        Expression delegate = TagExpressionParser.parse("@slow");
+        CompiledTagExpression expression = new CompiledTagExpression(new Expression() {
+            @Override
+            public boolean evaluate(List<String> variables) {
+                evaluations.incrementAndGet();
+                return delegate.evaluate(variables);
+            }
+        });
+
+        assertTrue(expression.evaluate(tagSets.of(asList("@slow", "@once"))));
+        assertTrue(expression.evaluate(tagSets.of(asList("@once", "@slow"))));
+        assertFalse(expression.evaluate(tagSets.of(asList("@once"))));
+        assertFalse(expression.evaluate(tagSets.of(asList("@once"))));
+        assertThat(evaluations.get(), is(2));
+    }
+
+}
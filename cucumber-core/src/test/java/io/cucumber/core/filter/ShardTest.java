@@ -0,0 +1,92 @@
+package io.cucumber.core.filter;
+
+import io.cucumber.core.feature.TestFeatureParser;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.core.gherkin.Pickle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShardTest {
+
+    private final Feature feature = TestFeatureParser.parse(
+        URI.create("classpath:path/file.feature"),
+        "" +
+                "Feature: Test feature\n" +
+                "  Scenario Outline: Test scenario\n" +
+                "     Given I have 4 <thing> in my belly\n" +
+                "     Examples:\n" +
+                "       | thing    |\n" +
+                "       | cucumber |\n" +
+                "       | gherkin  |\n" +
+                "       | zukini   |\n" +
+                "       | pickle   |\n" +
+                "       | carrot   |\n" +
+                "       | potato   |\n");
+    private final List<Pickle> pickles = feature.getPickles();
+
+    @Test
+    void single_shard_selects_all_pickles() {
+        assertThat(Shard.create(0, 1, null).select(pickles), is(pickles));
+    }
+
+    @Test
+    void shards_select_disjoint_subsets_of_all_pickles() {
+        List<Pickle> selected = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            selected.addAll(Shard.create(index, 3, null).select(pickles));
+        }
+        assertThat(selected, containsInAnyOrder(pickles.toArray()));
+    }
+
+    @Test
+    void shards_select_by_duration(@TempDir Path dir) throws IOException {
+        Path timings = dir.resolve("timings.txt");
+        Files.write(timings, asList(
+            "classpath:path/file.feature:6 1000",
+            "classpath:path/file.feature:7 600",
+            "classpath:path/file.feature:8 500",
+            "classpath:path/file.feature:9 100",
+            "classpath:path/file.feature:10 100"
+        // line 11 takes the average, 460 ms
+        ), UTF_8);
+
+        assertThat(Shard.create(0, 2, timings).select(pickles),
+            contains(pickles.get(0), pickles.get(5)));
+        assertThat(Shard.create(1, 2, timings).select(pickles),
+            contains(pickles.get(1), pickles.get(2), pickles.get(3), pickles.get(4)));
+    }
+
+    @Test
+    void shard_may_select_no_pickles() {
+        List<Pickle> selected = new ArrayList<>();
+        for (int index = 0; index < 10; index++) {
+            selected.addAll(Shard.create(index, 10, null).select(pickles.subList(0, 1)));
+        }
+        assertThat(selected, contains(pickles.get(0)));
+        assertThat(Shard.create(0, 2, null).select(new ArrayList<>()), is(empty()));
+    }
+
+    @Test
+    void index_must_be_less_than_total() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> Shard.create(2, 2, null));
+        assertThat(exception.getMessage(), is("The shard index must be between 0 and 1 but was 2"));
+    }
+
+}
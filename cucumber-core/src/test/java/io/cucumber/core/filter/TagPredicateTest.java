@@ -117,6 +117,6 @@ class TagPredicateTest {
     private static TagPredicate createPredicate(String... expressions) {
         return new TagPredicate(stream(expressions)
                 .map(TagExpressionParser::parse)
-                .collect(Collectors.toList()));
+                .collect(Collectors.toList()), new TagSets());
     }
 }
@@ -14,11 +14,13 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.StandardOpenOption.WRITE;
@@ -48,6 +50,22 @@ class CucumberPropertiesParserTest {
         assertThat(options.isMonochrome(), equalTo(true));
     }
 
+    @Test
+    void should_parse_datatable_parallel_transformation() {
+        properties.put(Constants.DATATABLE_PARALLEL_TRANSFORMATION_THRESHOLD_PROPERTY_NAME, "500");
+        properties.put(Constants.DATATABLE_PARALLEL_TRANSFORMATION_PARALLELISM_PROPERTY_NAME, "4");
+        RuntimeOptions options = cucumberPropertiesParser.parse(properties).build();
+        assertAll(
+            () -> assertThat(options.getDataTableParallelTransformationThreshold(), equalTo(500)),
+            () -> assertThat(options.getDataTableParallelTransformationParallelism(), equalTo(4)));
+    }
+
+    @Test
+    void should_not_transform_datatables_in_parallel_by_default() {
+        RuntimeOptions options = cucumberPropertiesParser.parse(properties).build();
+        assertThat(options.getDataTableParallelTransformationThreshold(), equalTo(0));
+    }
+
     @Test
     void should_parse_dry_run() {
         properties.put(Constants.EXECUTION_DRY_RUN_PROPERTY_NAME, "true");
@@ -62,6 +80,25 @@ class CucumberPropertiesParserTest {
         assertThat(options.getPickleOrder(), equalTo(StandardPickleOrders.reverseLexicalUriOrder()));
     }
 
+    @Test
+    void should_parse_execution_parallel_granularity() {
+        properties.put(Constants.EXECUTION_PARALLEL_GRANULARITY_PROPERTY_NAME, "feature");
+        RuntimeOptions options = cucumberPropertiesParser.parse(properties).build();
+        assertThat(options.getParallelGranularity(), equalTo(ParallelGranularity.FEATURE));
+    }
+
+    @Test
+    void should_parse_execution_shard() {
+        properties.put(Constants.EXECUTION_SHARD_INDEX_PROPERTY_NAME, "1");
+        properties.put(Constants.EXECUTION_SHARD_TOTAL_PROPERTY_NAME, "3");
+        properties.put(Constants.EXECUTION_SHARD_TIMINGS_PROPERTY_NAME, "path/to/timings.txt");
+        RuntimeOptions options = cucumberPropertiesParser.parse(properties).build();
+        assertAll(
+            () -> assertThat(options.getShardIndex(), equalTo(1)),
+            () -> assertThat(options.getShardTotal(), equalTo(3)),
+            () -> assertThat(options.getShardTimings(), equalTo(Optional.of(Paths.get("path/to/timings.txt")))));
+    }
+
     @Test
     void should_parse_features() {
         properties.put(Constants.FEATURES_PROPERTY_NAME, "classpath:com/example.feature");
@@ -0,0 +1,90 @@
+package io.cucumber.core.plugin;
+
+import io.cucumber.core.benchmark.Benchmark;
+import io.cucumber.core.benchmark.Benchmark.CountingOutputStream;
+import io.cucumber.messages.MessageToNdjsonWriter;
+import io.cucumber.messages.types.Attachment;
+import io.cucumber.messages.types.AttachmentContentEncoding;
+import io.cucumber.messages.types.Duration;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.TestCaseStarted;
+import io.cucumber.messages.types.TestStepFinished;
+import io.cucumber.messages.types.TestStepResult;
+import io.cucumber.messages.types.TestStepResultStatus;
+import io.cucumber.messages.types.TestStepStarted;
+import io.cucumber.messages.types.Timestamp;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.Deflater;
+
+/**
+ * Compares the size and CPU time of writing messages to plain and to gzip
+ * compressed files. Used to choose the compression level in
+ * {@link PluginFactory}.
+ */
+public class GzipOutputBenchmark {
+
+    private static final int ENVELOPES = 100_000;
+
+    public static void main(String[] args) throws Exception {
+        List<Envelope> envelopes = createEnvelopes();
+        new Benchmark(3, 10)
+                .measure("plain", () -> write(envelopes, out -> out))
+                .measure("gzip, default level", () -> write(envelopes,
+                    out -> PluginFactory.compress(out, Deflater.DEFAULT_COMPRESSION)))
+                .measure("gzip, best speed", () -> write(envelopes,
+                    out -> PluginFactory.compress(out, Deflater.BEST_SPEED)))
+                .print(System.out);
+    }
+
+    private static long write(List<Envelope> envelopes, Compression compression) throws IOException {
+        CountingOutputStream counter = new CountingOutputStream();
+        try (MessageToNdjsonWriter writer = new MessageToNdjsonWriter(compression.wrap(counter),
+            Jackson.OBJECT_MAPPER::writeValue)) {
+            for (Envelope envelope : envelopes) {
+                writer.write(envelope);
+            }
+        }
+        return counter.getCount();
+    }
+
+    /**
+     * Creates the messages of typical scenarios: a test case with four steps,
+     * one of which logs a line.
+     */
+    private static List<Envelope> createEnvelopes() {
+        List<Envelope> envelopes = new ArrayList<>(ENVELOPES);
+        long seconds = 1_700_000_000L;
+        while (envelopes.size() < ENVELOPES) {
+            String testCaseStartedId = UUID.randomUUID().toString();
+            envelopes.add(Envelope.of(new TestCaseStarted(0L, testCaseStartedId, UUID.randomUUID().toString(),
+                null, new Timestamp(seconds++, 0L))));
+            for (int step = 0; step < 4; step++) {
+                String testStepId = UUID.randomUUID().toString();
+                envelopes.add(Envelope.of(new TestStepStarted(testCaseStartedId, testStepId,
+                    new Timestamp(seconds, 1_000L * step))));
+                if (step == 2) {
+                    envelopes.add(Envelope.of(new Attachment("Logged in as user " + step + " of " + seconds,
+                        AttachmentContentEncoding.IDENTITY, null, "text/x.cucumber.log+plain", null,
+                        testCaseStartedId, testStepId, null, null)));
+                }
+                envelopes.add(Envelope.of(new TestStepFinished(testCaseStartedId, testStepId,
+                    new TestStepResult(new Duration(0L, 1_000_000L), null, TestStepResultStatus.PASSED, null),
+                    new Timestamp(seconds, 1_000L * step + 500L))));
+            }
+        }
+        return envelopes;
+    }
+
+    @FunctionalInterface
+    private interface Compression {
+
+        OutputStream wrap(OutputStream out) throws IOException;
+
+    }
+
+}
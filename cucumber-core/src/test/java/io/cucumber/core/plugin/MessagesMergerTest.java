@@ -0,0 +1,183 @@
+package io.cucumber.core.plugin;
+
+import io.cucumber.core.backend.StubStepDefinition;
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.feature.TestFeatureParser;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.core.options.RuntimeOptionsBuilder;
+import io.cucumber.core.replay.MessagesReplay;
+import io.cucumber.core.runtime.Runtime;
+import io.cucumber.core.runtime.StubBackendSupplier;
+import io.cucumber.core.runtime.StubFeatureSupplier;
+import io.cucumber.core.runtime.TimeServiceEventBus;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.TestCase;
+import io.cucumber.messages.types.TestCaseStarted;
+import io.cucumber.messages.types.TestRunFinished;
+import io.cucumber.plugin.event.TestCaseFinished;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.in;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessagesMergerTest {
+
+    private final Feature first = TestFeatureParser.parse("path/first.feature", "" +
+            "Feature: first\n" +
+            "  Scenario: one\n" +
+            "    Given passing step\n" +
+            "  Scenario: two\n" +
+            "    Given passing step\n");
+
+    private final Feature second = TestFeatureParser.parse("path/second.feature", "" +
+            "Feature: second\n" +
+            "  Scenario Outline: <example>\n" +
+            "    Given <example> step\n" +
+            "    Examples:\n" +
+            "      | example |\n" +
+            "      | passing |\n" +
+            "      | failing |\n");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void merges_shards_into_a_single_run() throws IOException {
+        List<Envelope> merged = new ArrayList<>();
+        new MessagesMerger(asList(runShard(0), runShard(1))).merge(merged::add);
+
+        List<Pickle> pickles = select(merged, Envelope::getPickle);
+        List<TestCase> testCases = select(merged, Envelope::getTestCase);
+        List<TestCaseStarted> testCasesStarted = select(merged, Envelope::getTestCaseStarted);
+        Set<String> pickleIds = pickles.stream().map(Pickle::getId).collect(toSet());
+        Set<String> testCaseIds = testCases.stream().map(TestCase::getId).collect(toSet());
+
+        assertAll(
+            () -> assertThat(select(merged, Envelope::getMeta), hasSize(1)),
+            () -> assertThat(select(merged, Envelope::getSource), hasSize(2)),
+            () -> assertThat(select(merged, Envelope::getGherkinDocument), hasSize(2)),
+            () -> assertThat(select(merged, Envelope::getTestRunStarted), hasSize(1)),
+            () -> assertThat(pickles, hasSize(4)),
+            () -> assertThat(testCases, hasSize(4)),
+            () -> assertThat(testCaseIds, hasSize(4)),
+            () -> assertThat(testCases.stream().map(TestCase::getPickleId).collect(toList()),
+                everyItem(is(in(pickleIds)))),
+            () -> assertThat(testCasesStarted.stream().map(TestCaseStarted::getTestCaseId).collect(toList()),
+                everyItem(is(in(testCaseIds)))),
+            () -> assertTrue(merged.get(merged.size() - 1).getTestRunFinished().isPresent()),
+            () -> assertThat(select(merged, Envelope::getTestRunFinished), hasSize(1)));
+    }
+
+    @Test
+    void merged_run_fails_when_any_shard_fails() throws IOException {
+        List<Envelope> merged = new ArrayList<>();
+        new MessagesMerger(asList(runShard(0), runShard(1))).merge(merged::add);
+
+        TestRunFinished testRunFinished = merged.get(merged.size() - 1).getTestRunFinished().get();
+        assertFalse(testRunFinished.getSuccess());
+    }
+
+    @Test
+    void merges_compressed_shards() throws IOException {
+        List<Envelope> merged = new ArrayList<>();
+        new MessagesMerger(asList(runCompressedShard(0), runCompressedShard(1))).merge(merged::add);
+
+        assertAll(
+            () -> assertThat(select(merged, Envelope::getPickle), hasSize(4)),
+            () -> assertThat(select(merged, Envelope::getTestCase), hasSize(4)));
+    }
+
+    @Test
+    void merged_runs_that_share_a_pickle_can_be_replayed() throws IOException {
+        List<Envelope> merged = new ArrayList<>();
+        new MessagesMerger(asList(runFirst("run"), runFirst("rerun"))).merge(merged::add);
+
+        EventBus bus = new TimeServiceEventBus(Clock.systemUTC(), UUID::randomUUID);
+        List<TestCaseFinished> finished = new ArrayList<>();
+        bus.registerHandlerFor(TestCaseFinished.class, finished::add);
+        MessagesReplay replay = new MessagesReplay(bus);
+        merged.forEach(replay::replay);
+
+        assertAll(
+            () -> assertThat(select(merged, Envelope::getPickle), hasSize(2)),
+            () -> assertThat(select(merged, Envelope::getTestCase), hasSize(4)),
+            () -> assertThat(finished, hasSize(4)));
+    }
+
+    private Path runFirst(String name) throws IOException {
+        Path messages = dir.resolve(name + ".ndjson");
+        try (OutputStream out = Files.newOutputStream(messages)) {
+            Runtime.builder()
+                    .withFeatureSupplier(new StubFeatureSupplier(first))
+                    .withAdditionalPlugins(new MessageFormatter(out))
+                    .withBackendSupplier(new StubBackendSupplier(new StubStepDefinition("passing step")))
+                    .build()
+                    .run();
+        }
+        return messages;
+    }
+
+    private Path runShard(int index) throws IOException {
+        Path messages = dir.resolve("shard-" + index + ".ndjson");
+        try (OutputStream out = Files.newOutputStream(messages)) {
+            runShard(index, out);
+        }
+        return messages;
+    }
+
+    private Path runCompressedShard(int index) throws IOException {
+        Path messages = dir.resolve("shard-" + index + ".ndjson.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(messages))) {
+            runShard(index, out);
+        }
+        return messages;
+    }
+
+    private void runShard(int index, OutputStream out) {
+        Runtime.builder()
+                .withRuntimeOptions(new RuntimeOptionsBuilder()
+                        .setShardIndex(index)
+                        .setShardTotal(2)
+                        .build())
+                .withFeatureSupplier(new StubFeatureSupplier(first, second))
+                .withAdditionalPlugins(new MessageFormatter(out))
+                .withBackendSupplier(new StubBackendSupplier(
+                    new StubStepDefinition("passing step"),
+                    new StubStepDefinition("failing step", new StubException())))
+                .build()
+                .run();
+    }
+
+    private static <T> List<T> select(List<Envelope> envelopes, Function<Envelope, Optional<T>> selector) {
+        return envelopes.stream()
+                .map(selector)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(toList());
+    }
+
+}
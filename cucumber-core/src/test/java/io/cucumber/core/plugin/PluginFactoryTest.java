@@ -22,10 +22,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.net.URL;
@@ -33,15 +35,18 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import static io.cucumber.core.options.TestPluginOption.parse;
 import static io.cucumber.messages.Convertor.toMessage;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.readAllLines;
 import static java.time.Duration.ZERO;
 import static java.time.Instant.now;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
@@ -80,6 +85,18 @@ class PluginFactoryTest {
         assertThat(plugin.getClass(), is(equalTo(RerunFormatter.class)));
     }
 
+    @Test
+    void compresses_output_to_gz_file() throws IOException {
+        Path file = tmp.resolve("cucumber.ndjson.gz");
+        PluginOption option = parse("message:" + file);
+        releaseResources(fc.create(option));
+
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)), UTF_8))) {
+            assertThat(reader.readLine(), startsWith("{\"testRunFinished\":"));
+        }
+    }
+
     @Test
     void creates_parent_directories() {
         Path file = tmp.resolve("target/cucumber/reports/rerun.txt");
@@ -0,0 +1,49 @@
+package io.cucumber.core.plugin;
+
+import io.cucumber.core.feature.TestFeatureParser;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.messages.types.Scenario;
+import io.cucumber.plugin.event.TestSourceParsed;
+import io.cucumber.plugin.event.TestSourceRead;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class TestSourcesModelTest {
+
+    private final Feature feature = TestFeatureParser.parse("file:path/test.feature", "" +
+            "Feature: feature name\n" +
+            "  Scenario: scenario name\n" +
+            "    Given a step\n");
+
+    private final TestSourcesModel testSources = new TestSourcesModel();
+
+    @Test
+    void reuses_gherkin_document_of_parsed_feature() {
+        testSources.addTestSourceParsedEvent(
+            new TestSourceParsed(Instant.now(), feature.getUri(), singletonList(feature)));
+
+        TestSourcesModel.AstNode astNode = testSources.getAstNode(feature.getUri(), 2);
+        assertAll(
+            () -> assertThat(testSources.getFeature(feature.getUri()).getName(), is("feature name")),
+            () -> assertThat(astNode, notNullValue()),
+            () -> assertThat(((Scenario) astNode.node).getName(), is("scenario name")));
+    }
+
+    @Test
+    void parses_test_source_without_parsed_feature() {
+        testSources.addTestSourceReadEvent(feature.getUri(),
+            new TestSourceRead(Instant.now(), feature.getUri(), feature.getSource()));
+
+        assertAll(
+            () -> assertThat(testSources.getFeature(feature.getUri()).getName(), is("feature name")),
+            () -> assertThat(testSources.getAstNode(feature.getUri(), 3), notNullValue()));
+    }
+
+}
@@ -0,0 +1,50 @@
+package io.cucumber.core.plugin;
+
+import io.cucumber.core.backend.StubStepDefinition;
+import io.cucumber.core.feature.TestFeatureParser;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.core.runner.StepDurationTimeService;
+import io.cucumber.core.runtime.Runtime;
+import io.cucumber.core.runtime.StubBackendSupplier;
+import io.cucumber.core.runtime.StubFeatureSupplier;
+import io.cucumber.core.runtime.TimeServiceEventBus;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.UUID;
+
+import static io.cucumber.core.plugin.Bytes.bytes;
+import static io.cucumber.core.plugin.IsEqualCompressingLineSeparators.equalCompressingLineSeparators;
+import static java.time.Duration.ofMillis;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TimingsFormatterTest {
+
+    @Test
+    void should_report_duration_of_each_test_case() {
+        Feature feature = TestFeatureParser.parse("path/test.feature", "" +
+                "Feature: feature name\n" +
+                "  Scenario: one step\n" +
+                "    Given first step\n" +
+                "  Scenario: two steps\n" +
+                "    Given first step\n" +
+                "    And second step\n");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StepDurationTimeService timeService = new StepDurationTimeService(ofMillis(10));
+        Runtime.builder()
+                .withFeatureSupplier(new StubFeatureSupplier(feature))
+                .withAdditionalPlugins(timeService, new TimingsFormatter(out))
+                .withEventBus(new TimeServiceEventBus(timeService, UUID::randomUUID))
+                .withBackendSupplier(new StubBackendSupplier(
+                    new StubStepDefinition("first step"),
+                    new StubStepDefinition("second step")))
+                .build()
+                .run();
+
+        assertThat(out, bytes(equalCompressingLineSeparators("" +
+                "file:path/test.feature:2 10\n" +
+                "file:path/test.feature:4 20\n")));
+    }
+
+}
@@ -0,0 +1,226 @@
+package io.cucumber.core.replay;
+
+import io.cucumber.core.backend.StubHookDefinition;
+import io.cucumber.core.backend.StubStepDefinition;
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.feature.TestFeatureParser;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.core.plugin.RerunFormatter;
+import io.cucumber.core.runtime.Runtime;
+import io.cucumber.core.runtime.StubBackendSupplier;
+import io.cucumber.core.runtime.StubFeatureSupplier;
+import io.cucumber.core.runtime.TimeServiceEventBus;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.DataTableArgument;
+import io.cucumber.plugin.event.DocStringArgument;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Location;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.StepArgument;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestSourceRead;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.WriteEvent;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MessagesReplayTest {
+
+    private final Feature feature = TestFeatureParser.parse("path/test.feature", "" +
+            "Feature: feature name\n" +
+            "  @tag\n" +
+            "  Scenario: passed scenario\n" +
+            "    Given passed step\n" +
+            "      \"\"\"\n" +
+            "      doc string\n" +
+            "      \"\"\"\n" +
+            "    And passed step with a table\n" +
+            "      | a | b |\n" +
+            "  Scenario Outline: <status> scenario\n" +
+            "    Given <status> step\n" +
+            "    Examples:\n" +
+            "      | status    |\n" +
+            "      | failed    |\n" +
+            "      | undefined |\n");
+
+    @Test
+    void replays_the_events_of_a_test_run() {
+        Recorder direct = new Recorder();
+        ByteArrayOutputStream directRerun = new ByteArrayOutputStream();
+        List<Envelope> envelopes = new ArrayList<>();
+
+        Runtime.builder()
+                .withFeatureSupplier(new StubFeatureSupplier(feature))
+                .withAdditionalPlugins(direct, new RerunFormatter(directRerun),
+                    (ConcurrentEventListener) publisher -> publisher.registerHandlerFor(Envelope.class,
+                        envelopes::add))
+                .withBackendSupplier(new StubBackendSupplier(
+                    singletonList(new StubHookDefinition(state -> state.log("logged"))),
+                    asList(
+                        new StubStepDefinition("passed step", String.class),
+                        new StubStepDefinition("passed step with a table", io.cucumber.datatable.DataTable.class),
+                        new StubStepDefinition("failed step", new RuntimeException("boom"))),
+                    singletonList(new StubHookDefinition())))
+                .build()
+                .run();
+
+        Recorder replayed = new Recorder();
+        ByteArrayOutputStream replayedRerun = new ByteArrayOutputStream();
+        EventBus bus = new TimeServiceEventBus(Clock.systemUTC(), UUID::randomUUID);
+        replayed.setEventPublisher(bus);
+        new RerunFormatter(replayedRerun).setEventPublisher(bus);
+        MessagesReplay replay = new MessagesReplay(bus);
+        envelopes.forEach(replay::replay);
+
+        assertThat(direct.events, is(not(empty())));
+        assertThat(replayed.events, equalTo(direct.events));
+        assertThat(replayedRerun.toString(), equalTo(directRerun.toString()));
+    }
+
+    @Test
+    void releases_test_case_once_finished() {
+        List<Envelope> envelopes = runUntilFirstTestCaseFinished();
+        Envelope testCaseStarted = first(envelopes, envelope -> envelope.getTestCaseStarted().isPresent());
+
+        MessagesReplay replay = new MessagesReplay(new TimeServiceEventBus(Clock.systemUTC(), UUID::randomUUID));
+        envelopes.forEach(replay::replay);
+
+        IllegalStateException noTestCase = assertThrows(IllegalStateException.class,
+            () -> replay.replay(testCaseStarted));
+        assertThat(noTestCase.getMessage(), startsWith("No test case with id"));
+    }
+
+    @Test
+    void replays_pickle_executed_twice() {
+        List<Envelope> envelopes = runUntilFirstTestCaseFinished();
+        // The pickle ids are assigned by the parser, so a second run of the
+        // same feature executes the same pickle again
+        runUntilFirstTestCaseFinished().stream()
+                .filter(envelope -> envelope.getTestCase().isPresent()
+                        || envelope.getTestCaseStarted().isPresent()
+                        || envelope.getTestStepStarted().isPresent()
+                        || envelope.getTestStepFinished().isPresent()
+                        || envelope.getAttachment().isPresent()
+                        || envelope.getTestCaseFinished().isPresent())
+                .forEach(envelopes::add);
+
+        EventBus bus = new TimeServiceEventBus(Clock.systemUTC(), UUID::randomUUID);
+        List<TestCaseFinished> finished = new ArrayList<>();
+        bus.registerHandlerFor(TestCaseFinished.class, finished::add);
+        MessagesReplay replay = new MessagesReplay(bus);
+        envelopes.forEach(replay::replay);
+
+        assertThat(finished.size(), is(2));
+        assertThat(finished.get(1).getTestCase().getName(), equalTo(finished.get(0).getTestCase().getName()));
+    }
+
+    @Test
+    void keeps_test_case_that_will_be_retried() {
+        List<Envelope> envelopes = runUntilFirstTestCaseFinished();
+        Envelope testCaseStarted = first(envelopes, envelope -> envelope.getTestCaseStarted().isPresent());
+        io.cucumber.messages.types.TestCaseFinished finished = envelopes.get(envelopes.size() - 1)
+                .getTestCaseFinished().get();
+        envelopes.set(envelopes.size() - 1, Envelope.of(new io.cucumber.messages.types.TestCaseFinished(
+            finished.getTestCaseStartedId(), finished.getTimestamp(), true)));
+
+        MessagesReplay replay = new MessagesReplay(new TimeServiceEventBus(Clock.systemUTC(), UUID::randomUUID));
+        envelopes.forEach(replay::replay);
+
+        assertDoesNotThrow(() -> replay.replay(testCaseStarted));
+    }
+
+    private List<Envelope> runUntilFirstTestCaseFinished() {
+        List<Envelope> envelopes = new ArrayList<>();
+        Runtime.builder()
+                .withFeatureSupplier(new StubFeatureSupplier(feature))
+                .withAdditionalPlugins((ConcurrentEventListener) publisher -> publisher
+                        .registerHandlerFor(Envelope.class, envelopes::add))
+                .withBackendSupplier(new StubBackendSupplier(new StubStepDefinition("passed step", String.class)))
+                .build()
+                .run();
+        Envelope testCaseFinished = first(envelopes, envelope -> envelope.getTestCaseFinished().isPresent());
+        return new ArrayList<>(envelopes.subList(0, envelopes.indexOf(testCaseFinished) + 1));
+    }
+
+    private static Envelope first(List<Envelope> envelopes, Predicate<Envelope> predicate) {
+        return envelopes.stream().filter(predicate).findFirst().orElseThrow(IllegalStateException::new);
+    }
+
+    private static final class Recorder implements ConcurrentEventListener {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void setEventPublisher(EventPublisher publisher) {
+            publisher.registerHandlerFor(TestSourceRead.class,
+                event -> events.add("source read " + event.getUri()));
+            publisher.registerHandlerFor(TestCaseStarted.class,
+                event -> events.add("started " + describe(event.getTestCase())));
+            publisher.registerHandlerFor(TestStepFinished.class,
+                event -> events.add("step " + describe(event.getTestStep()) + " " + event.getResult().getStatus()
+                        + " " + event.getResult().getError()));
+            publisher.registerHandlerFor(WriteEvent.class,
+                event -> events.add("write " + event.getText()));
+            publisher.registerHandlerFor(TestCaseFinished.class,
+                event -> events.add("finished " + event.getResult().getStatus() + " " + event.getResult().getError()));
+            publisher.registerHandlerFor(TestRunFinished.class,
+                event -> events.add("run finished " + event.getResult().getStatus()));
+        }
+
+        private static String describe(TestCase testCase) {
+            return testCase.getScenarioDesignation() + " " + testCase.getKeyword() + " " + describe(testCase.getLocation())
+                    + " " + testCase.getTags() + " " + testCase.getTestSteps().size();
+        }
+
+        private static String describe(TestStep testStep) {
+            if (!(testStep instanceof PickleStepTestStep)) {
+                return "hook";
+            }
+            PickleStepTestStep pickleStepTestStep = (PickleStepTestStep) testStep;
+            return pickleStepTestStep.getStep().getKeyword() + pickleStepTestStep.getStepText()
+                    + " " + describe(pickleStepTestStep.getStep().getLocation())
+                    + " " + pickleStepTestStep.getPattern()
+                    + " " + describe(pickleStepTestStep.getStepArgument());
+        }
+
+        private static String describe(Location location) {
+            return location.getLine() + ":" + location.getColumn();
+        }
+
+        private static String describe(StepArgument argument) {
+            if (argument instanceof DocStringArgument) {
+                DocStringArgument docString = (DocStringArgument) argument;
+                return docString.getLine() + " " + docString.getContent();
+            }
+            if (argument instanceof DataTableArgument) {
+                DataTableArgument dataTable = (DataTableArgument) argument;
+                return dataTable.getLine() + " " + dataTable.cells();
+            }
+            return "";
+        }
+
+    }
+
+}
@@ -276,6 +276,7 @@ class PickleStepTestStepTest {
             feature.getPickles().get(0).getSteps().get(0),
             definitionMatch);
         when(bus.getInstant()).thenReturn(ofEpochMilli(234L), ofEpochMilli(1234L));
+        when(bus.getNanoTime()).thenReturn(5_000_000L, 1_005_000_000L);
         step.run(testCase, bus, state, ExecutionMode.RUN);
 
         ArgumentCaptor<TestCaseEvent> captor = forClass(TestCaseEvent.class);
@@ -291,4 +292,30 @@ class PickleStepTestStepTest {
             () -> assertThat(finished.getResult().getDuration(), is(equalTo(ofMillis(1000L)))));
     }
 
+    @Test
+    void step_execution_time_is_measured_with_monotonic_time() {
+        Feature feature = TestFeatureParser.parse("" +
+                "Feature: Test feature\n" +
+                "  Scenario: Test scenario\n" +
+                "     Given I have 4 cukes in my belly\n");
+
+        TestStep step = new PickleStepTestStep(
+            UUID.randomUUID(),
+            URI.create("file:path/to.feature"),
+            feature.getPickles().get(0).getSteps().get(0),
+            definitionMatch);
+        // The wall clock was turned back while the step was running
+        when(bus.getInstant()).thenReturn(ofEpochMilli(5234L), ofEpochMilli(1234L));
+        when(bus.getNanoTime()).thenReturn(5_000_000L, 1_005_000_000L);
+        step.run(testCase, bus, state, ExecutionMode.RUN);
+
+        ArgumentCaptor<TestCaseEvent> captor = forClass(TestCaseEvent.class);
+        verify(bus, times(2)).send(captor.capture());
+
+        TestStepFinished finished = (TestStepFinished) captor.getAllValues().get(1);
+        assertAll(
+            () -> assertThat(finished.getInstant(), is(equalTo(ofEpochMilli(1234L)))),
+            () -> assertThat(finished.getResult().getDuration(), is(equalTo(ofMillis(1000L)))));
+    }
+
 }
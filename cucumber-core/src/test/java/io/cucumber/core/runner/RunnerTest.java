@@ -6,28 +6,38 @@ import io.cucumber.core.backend.HookDefinition;
 import io.cucumber.core.backend.ObjectFactory;
 import io.cucumber.core.backend.StaticHookDefinition;
 import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.exception.CucumberException;
 import io.cucumber.core.feature.TestFeatureParser;
+import io.cucumber.core.filter.TagSets;
 import io.cucumber.core.gherkin.Feature;
 import io.cucumber.core.gherkin.Pickle;
 import io.cucumber.core.options.RuntimeOptions;
 import io.cucumber.core.options.RuntimeOptionsBuilder;
 import io.cucumber.core.runtime.TimeServiceEventBus;
 import io.cucumber.core.snippets.TestSnippet;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestStepFinished;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InOrder;
 
 import java.net.URI;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
@@ -36,6 +46,7 @@ import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -78,7 +89,11 @@ class RunnerTest {
     }
 
     private Pickle createPicklesWithSteps() {
-        Feature feature = TestFeatureParser.parse("file:path/to.feature", "" +
+        return createPickleWithSteps("file:path/to.feature");
+    }
+
+    private Pickle createPickleWithSteps(String uri) {
+        Feature feature = TestFeatureParser.parse(uri, "" +
                 "Feature: Test feature\n" +
                 "  Scenario: Test scenario\n" +
                 "     Given some step\n");
@@ -231,6 +246,165 @@ class RunnerTest {
         inOrder.verify(failingBeforeAllHook).execute();
     }
 
+    @Test
+    void feature_hooks_execute_once_for_consecutive_pickles_of_a_feature() {
+        StaticHookDefinition beforeFeatureHook = createStaticHook();
+        StaticHookDefinition afterFeatureHook = createStaticHook();
+        HookDefinition beforeHook = createHook();
+
+        TestRunnerSupplier runnerSupplier = new TestRunnerSupplier(bus, runtimeOptions) {
+            @Override
+            public void loadGlue(Glue glue, List<URI> gluePaths) {
+                glue.addBeforeFeatureHook(beforeFeatureHook);
+                glue.addAfterFeatureHook(afterFeatureHook);
+                glue.addBeforeHook(beforeHook);
+            }
+        };
+
+        Runner runner = runnerSupplier.get();
+        runner.runPickle(createPickleWithSteps("file:path/one.feature"));
+        runner.runPickle(createPickleWithSteps("file:path/one.feature"));
+        runner.runPickle(createPickleWithSteps("file:path/two.feature"));
+        runner.runAfterFeatureHooks();
+        runner.runAfterFeatureHooks();
+
+        InOrder inOrder = inOrder(beforeFeatureHook, afterFeatureHook, beforeHook);
+        inOrder.verify(beforeFeatureHook).execute();
+        inOrder.verify(beforeHook, times(2)).execute(any(TestCaseState.class));
+        inOrder.verify(afterFeatureHook).execute();
+        inOrder.verify(beforeFeatureHook).execute();
+        inOrder.verify(beforeHook).execute(any(TestCaseState.class));
+        inOrder.verify(afterFeatureHook).execute();
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void before_feature_hook_failure_fails_the_pickles_of_the_feature_on_a_hook_step() {
+        StubStepDefinition stepDefinition = spy(new StubStepDefinition("some step"));
+        StaticHookDefinition failingBeforeFeatureHook = createStaticHook();
+        StaticHookDefinition afterFeatureHook = createStaticHook();
+        RuntimeException failure = new RuntimeException("boom");
+        doThrow(failure).when(failingBeforeFeatureHook).execute();
+
+        TestRunnerSupplier runnerSupplier = new TestRunnerSupplier(bus, runtimeOptions) {
+            @Override
+            public void loadGlue(Glue glue, List<URI> gluePaths) {
+                glue.addBeforeFeatureHook(failingBeforeFeatureHook);
+                glue.addAfterFeatureHook(afterFeatureHook);
+                glue.addStepDefinition(stepDefinition);
+            }
+        };
+        List<TestStepFinished> finishedHooks = new ArrayList<>();
+        bus.registerHandlerFor(TestStepFinished.class, event -> {
+            if (event.getTestStep() instanceof HookTestStep) {
+                finishedHooks.add(event);
+            }
+        });
+
+        Runner runner = runnerSupplier.get();
+        Result first = runner.runPickle(createPicklesWithSteps()).getResult();
+        Result second = runner.runPickle(createPicklesWithSteps()).getResult();
+        runner.runAfterFeatureHooks();
+
+        assertAll(
+            () -> assertThat(first.getStatus(), is(Status.FAILED)),
+            () -> assertThat(first.getError(), is(failure)),
+            () -> assertThat(second.getStatus(), is(Status.FAILED)),
+            () -> assertThat(second.getError(), is(failure)),
+            () -> assertThat(finishedHooks.size(), is(2)),
+            () -> assertThat(finishedHooks.get(1).getResult().getStatus(), is(Status.FAILED)));
+        verify(failingBeforeFeatureHook, times(1)).execute();
+        verify(stepDefinition, never()).execute(any(Object[].class));
+        verify(afterFeatureHook).execute();
+    }
+
+    @Test
+    void after_feature_hook_failures_are_rethrown_when_running_the_after_feature_hooks() {
+        StaticHookDefinition failingAfterFeatureHook = createStaticHook();
+        RuntimeException failure = new RuntimeException("boom");
+        doThrow(failure).when(failingAfterFeatureHook).execute();
+
+        TestRunnerSupplier runnerSupplier = new TestRunnerSupplier(bus, runtimeOptions) {
+            @Override
+            public void loadGlue(Glue glue, List<URI> gluePaths) {
+                glue.addAfterFeatureHook(failingAfterFeatureHook);
+            }
+        };
+
+        Runner runner = runnerSupplier.get();
+        runner.runPickle(createPickleWithSteps("file:path/one.feature"));
+        Result result = runner.runPickle(createPickleWithSteps("file:path/two.feature")).getResult();
+        RuntimeException thrown = assertThrows(RuntimeException.class, runner::runAfterFeatureHooks);
+
+        assertAll(
+            () -> assertThat(result.getError(), is(nullValue())),
+            () -> assertThat(thrown, is(failure)));
+        verify(failingAfterFeatureHook, times(2)).execute();
+    }
+
+    @Test
+    void fails_when_the_pickles_of_a_feature_are_not_executed_consecutively() {
+        StaticHookDefinition beforeFeatureHook = createStaticHook();
+        TestRunnerSupplier runnerSupplier = new TestRunnerSupplier(bus, runtimeOptions) {
+            @Override
+            public void loadGlue(Glue glue, List<URI> gluePaths) {
+                glue.addBeforeFeatureHook(beforeFeatureHook);
+            }
+        };
+
+        Runner runner = runnerSupplier.get();
+        runner.runPickle(createPickleWithSteps("file:path/one.feature"));
+        runner.runPickle(createPickleWithSteps("file:path/two.feature"));
+        Pickle pickle = createPickleWithSteps("file:path/one.feature");
+        CucumberException exception = assertThrows(CucumberException.class, () -> runner.runPickle(pickle));
+
+        assertThat(exception.getMessage(), startsWith("The scenarios of '" + pickle.getUri() + "' were not executed"));
+        verify(beforeFeatureHook, times(2)).execute();
+    }
+
+    @Test
+    void fails_when_the_pickles_of_a_feature_are_executed_by_multiple_runners() {
+        StaticHookDefinition beforeFeatureHook = createStaticHook();
+        StartedFeatures startedFeatures = new StartedFeatures();
+        TestRunnerSupplier runnerSupplier = new TestRunnerSupplier(bus, runtimeOptions) {
+            @Override
+            public void loadGlue(Glue glue, List<URI> gluePaths) {
+                glue.addBeforeFeatureHook(beforeFeatureHook);
+            }
+
+            @Override
+            public Runner get() {
+                return new Runner(bus, singleton(this), this, runtimeOptions, new TagSets(), startedFeatures);
+            }
+        };
+
+        runnerSupplier.get().runPickle(createPicklesWithSteps());
+        Runner other = runnerSupplier.get();
+        Pickle pickle = createPicklesWithSteps();
+
+        assertThrows(CucumberException.class, () -> other.runPickle(pickle));
+        verify(beforeFeatureHook, times(1)).execute();
+    }
+
+    @Test
+    void fails_when_after_feature_hooks_were_not_executed() {
+        StaticHookDefinition afterFeatureHook = createStaticHook();
+        TestRunnerSupplier runnerSupplier = new TestRunnerSupplier(bus, runtimeOptions) {
+            @Override
+            public void loadGlue(Glue glue, List<URI> gluePaths) {
+                glue.addAfterFeatureHook(afterFeatureHook);
+            }
+        };
+
+        Runner runner = runnerSupplier.get();
+        runner.runPickle(createPicklesWithSteps());
+
+        assertThrows(CucumberException.class, runner::requireAfterFeatureHooksExecuted);
+        runner.runAfterFeatureHooks();
+        assertDoesNotThrow(runner::requireAfterFeatureHooksExecuted);
+        assertThrows(CucumberException.class, runner::requireNoFeatureHooks);
+    }
+
     @Test
     void steps_are_executed() {
         StubStepDefinition stepDefinition = new StubStepDefinition("some step");
@@ -338,4 +512,34 @@ class RunnerTest {
         verify(backend).getSnippet();
     }
 
+    @Test
+    void run_pickle_returns_result() {
+        StubStepDefinition stepDefinition = new StubStepDefinition("some step");
+        Pickle pickleMatchingStepDefinitions = createPickleMatchingStepDefinitions(stepDefinition);
+        TestRunnerSupplier runnerSupplier = new TestRunnerSupplier(bus, runtimeOptions) {
+            @Override
+            public void loadGlue(Glue glue, List<URI> gluePaths) {
+                glue.addStepDefinition(stepDefinition);
+            }
+        };
+        TestCaseResult testCaseResult = runnerSupplier.get().runPickle(pickleMatchingStepDefinitions);
+        assertThat(testCaseResult.getResult().getStatus(), is(Status.PASSED));
+        assertThat(testCaseResult.getSuggestions(), is(emptyList()));
+    }
+
+    @Test
+    void run_pickle_returns_suggestions_for_undefined_steps() {
+        Backend backend = mock(Backend.class);
+        when(backend.getSnippet()).thenReturn(new TestSnippet());
+        ObjectFactory objectFactory = mock(ObjectFactory.class);
+        Runner runner = new Runner(bus, singletonList(backend), objectFactory, runtimeOptions);
+
+        TestCaseResult testCaseResult = runner.runPickle(createPicklesWithSteps());
+        assertThat(testCaseResult.getResult().getStatus(), is(Status.UNDEFINED));
+        assertThat(testCaseResult.getSuggestions().size(), is(1));
+
+        TestCaseResult nextTestCaseResult = runner.runPickle(createEmptyPickle());
+        assertThat(nextTestCaseResult.getSuggestions(), is(emptyList()));
+    }
+
 }
@@ -1,12 +1,12 @@
 package io.cucumber.core.runtime;
 
+import io.cucumber.core.backend.ObjectFactory;
 import io.cucumber.core.eventbus.EventBus;
 import io.cucumber.core.options.RuntimeOptions;
 import io.cucumber.core.options.RuntimeOptionsBuilder;
+import io.cucumber.core.runner.TestCaseResult;
 import io.cucumber.plugin.event.Result;
 import io.cucumber.plugin.event.Status;
-import io.cucumber.plugin.event.TestCase;
-import io.cucumber.plugin.event.TestCaseFinished;
 import io.cucumber.plugin.event.TestRunFinished;
 import io.cucumber.plugin.event.TestRunStarted;
 import org.junit.jupiter.api.Test;
@@ -19,12 +19,15 @@ import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static java.util.Collections.emptyList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class CucumberExecutionContextTest {
 
@@ -54,15 +57,12 @@ class CucumberExecutionContextTest {
     @Test
     public void rethrows_but_does_not_collect_failures_in_test_case() {
         IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> context.runTestCase(runner -> {
-            try (TestCaseResultObserver r = new TestCaseResultObserver(bus)) {
-                bus.send(new TestCaseFinished(bus.getInstant(), mock(TestCase.class),
-                    new Result(Status.FAILED, Duration.ZERO, failure)));
-                r.assertTestCasePassed(
-                    Exception::new,
-                    Function.identity(),
-                    (suggestions) -> new Exception(),
-                    Function.identity());
-            }
+            TestCaseResultObserver.assertTestCasePassed(
+                new TestCaseResult(new Result(Status.FAILED, Duration.ZERO, failure), emptyList()),
+                Exception::new,
+                Function.identity(),
+                (suggestions) -> new Exception(),
+                Function.identity());
         }));
         assertThat(thrown, is(failure));
         assertThat(context.getThrowable(), nullValue());
@@ -88,4 +88,19 @@ class CucumberExecutionContextTest {
         assertThat(result.getError(), is(failure));
     }
 
+    @Test
+    public void disposes_object_factory_when_test_run_finishes() {
+        ObjectFactory objectFactory = mock(ObjectFactory.class);
+        RunnerSupplier runnerSupplier = new SingletonRunnerSupplier(options, bus, backendSupplier,
+            () -> objectFactory);
+        CucumberExecutionContext context = new CucumberExecutionContext(bus, exitStatus, runnerSupplier);
+
+        context.startTestRun();
+        context.runTestCase(runner -> {
+        });
+        context.finishTestRun();
+
+        verify(objectFactory, times(1)).dispose();
+    }
+
 }
@@ -6,6 +6,7 @@ import io.cucumber.core.backend.HookDefinition;
 import io.cucumber.core.backend.ParameterInfo;
 import io.cucumber.core.backend.ScenarioScoped;
 import io.cucumber.core.backend.StaticHookDefinition;
+import io.cucumber.core.backend.StubHookDefinition;
 import io.cucumber.core.backend.StubStepDefinition;
 import io.cucumber.core.backend.TestCaseState;
 import io.cucumber.core.eventbus.EventBus;
@@ -14,6 +15,7 @@ import io.cucumber.core.exception.CucumberException;
 import io.cucumber.core.feature.TestFeatureParser;
 import io.cucumber.core.gherkin.Feature;
 import io.cucumber.core.gherkin.FeatureParserException;
+import io.cucumber.core.options.ParallelGranularity;
 import io.cucumber.core.options.RuntimeOptionsBuilder;
 import io.cucumber.core.runner.StepDurationTimeService;
 import io.cucumber.core.runner.TestBackendSupplier;
@@ -43,7 +45,10 @@ import java.time.Clock;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 
 import static java.time.Clock.fixed;
@@ -338,6 +343,77 @@ class RuntimeTest {
                     "TestRun finished\n")));
     }
 
+    @Test
+    void should_execute_all_scenarios_of_a_feature_on_the_same_thread_with_feature_granularity() {
+        Feature feature1 = TestFeatureParser.parse("path/test.feature", "" +
+                "Feature: feature name 1\n" +
+                "  Scenario: scenario_1 name\n" +
+                "    Given first step\n" +
+                "  Scenario: scenario_2 name\n" +
+                "    Given first step\n" +
+                "  Scenario: scenario_3 name\n" +
+                "    Given first step\n");
+
+        Feature feature2 = TestFeatureParser.parse("path/test2.feature", "" +
+                "Feature: feature name 2\n" +
+                "  Scenario: scenario_1 name\n" +
+                "    Given first step\n" +
+                "  Scenario: scenario_2 name\n" +
+                "    Given first step\n");
+
+        Map<URI, Set<String>> threadsByFeature = new ConcurrentHashMap<>();
+        HookDefinition recordThread = new StubHookDefinition(state -> threadsByFeature
+                .computeIfAbsent(state.getUri(), uri -> ConcurrentHashMap.newKeySet())
+                .add(Thread.currentThread().getName()));
+
+        Runtime.builder()
+                .withFeatureSupplier(new StubFeatureSupplier(feature1, feature2))
+                .withBackendSupplier(new StubBackendSupplier(
+                    singletonList(recordThread),
+                    singletonList(new StubStepDefinition("first step")),
+                    emptyList()))
+                .withRuntimeOptions(new RuntimeOptionsBuilder()
+                        .setThreads(2)
+                        .setParallelGranularity(ParallelGranularity.FEATURE)
+                        .build())
+                .build()
+                .run();
+
+        assertThat(threadsByFeature.size(), is(2));
+        assertThat(threadsByFeature.get(feature1.getUri()).size(), is(1));
+        assertThat(threadsByFeature.get(feature2.getUri()).size(), is(1));
+    }
+
+    @Test
+    void should_fail_with_feature_hooks_and_scenario_granularity() {
+        Feature feature = TestFeatureParser.parse("path/test.feature", "" +
+                "Feature: feature name\n" +
+                "  Scenario: scenario_1 name\n" +
+                "    Given first step\n");
+
+        List<String> executed = new ArrayList<>();
+        BackendSupplier backendSupplier = new TestBackendSupplier() {
+            @Override
+            public void loadGlue(Glue glue, List<URI> gluePaths) {
+                glue.addBeforeFeatureHook(new MockedStaticHookDefinition(() -> executed.add("before feature")));
+                glue.addStepDefinition(new StubStepDefinition("first step"));
+            }
+        };
+
+        Executable testMethod = () -> Runtime.builder()
+                .withFeatureSupplier(new StubFeatureSupplier(feature))
+                .withBackendSupplier(backendSupplier)
+                .withRuntimeOptions(new RuntimeOptionsBuilder()
+                        .setThreads(2)
+                        .setParallelGranularity(ParallelGranularity.SCENARIO)
+                        .build())
+                .build()
+                .run();
+        CucumberException actualThrown = assertThrows(CucumberException.class, testMethod);
+        assertThat(actualThrown.getMessage(), matchesPattern("(?s)BeforeFeature and AfterFeature hooks .*"));
+        assertThat(executed, is(emptyList()));
+    }
+
     @Test
     void should_fail_on_event_listener_exception_when_running_in_parallel() {
         Feature feature1 = TestFeatureParser.parse("path/test.feature", "" +
@@ -0,0 +1,100 @@
+package io.cucumber.core.stepexpression;
+
+import io.cucumber.core.benchmark.Benchmark;
+import io.cucumber.datatable.DataTable;
+import io.cucumber.datatable.DataTable.TableConverter;
+import io.cucumber.datatable.DataTableCellInterner;
+import io.cucumber.datatable.DataTableTypeRegistry;
+import io.cucumber.datatable.DataTableTypeRegistryTableConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Compares the retained memory and conversion time of the nested list and
+ * the compact data table storage used by {@link StepExpressionFactory}.
+ * <p>
+ * Models a scenario outline whose examples repeat the same table in every
+ * pickle. Each pickle gets its own copy of the cell strings, as it would from
+ * the Gherkin parser. The size reported by the {@code retain} workloads is the
+ * heap retained by the tables once the parsed cells are garbage.
+ */
+public class DataTableBenchmark {
+
+    private static final int PICKLES = 1_000;
+    private static final int ROWS = 50;
+    private static final int COLUMNS = 8;
+
+    private static final TableConverter converter = new DataTableTypeRegistryTableConverter(
+        new DataTableTypeRegistry(Locale.ENGLISH));
+
+    public static void main(String[] args) throws Exception {
+        List<DataTable> nested = create(table -> DataTable.create(table, converter));
+        List<DataTable> compact = create(table -> DataTable.createCompact(table, converter));
+        new Benchmark(2, 5)
+                .measure("retain, nested", () -> retained(table -> DataTable.create(table, converter)))
+                .measure("retain, compact", () -> retained(table -> DataTable.createCompact(table, converter)))
+                .measure("retain, compact interned", () -> {
+                    DataTableCellInterner interner = new DataTableCellInterner();
+                    return retained(table -> DataTable.createCompact(table, converter, interner));
+                })
+                .measure("convert, nested", () -> convert(nested))
+                .measure("convert, compact", () -> convert(compact))
+                .print(System.out);
+    }
+
+    private static List<List<List<String>>> createRawTables() {
+        List<List<List<String>>> tables = new ArrayList<>(PICKLES);
+        for (int pickle = 0; pickle < PICKLES; pickle++) {
+            List<List<String>> table = new ArrayList<>(ROWS);
+            for (int row = 0; row < ROWS; row++) {
+                List<String> cells = new ArrayList<>(COLUMNS);
+                for (int column = 0; column < COLUMNS; column++) {
+                    cells.add(row == 0 ? "header " + column : "cell " + row + "," + column);
+                }
+                table.add(cells);
+            }
+            tables.add(table);
+        }
+        return tables;
+    }
+
+    private static List<DataTable> create(Function<List<List<String>>, DataTable> factory) {
+        List<DataTable> tables = new ArrayList<>(PICKLES);
+        for (List<List<String>> table : createRawTables()) {
+            tables.add(factory.apply(table));
+        }
+        return tables;
+    }
+
+    private static long retained(Function<List<List<String>>, DataTable> factory) {
+        long before = usedMemory();
+        List<DataTable> tables = create(factory);
+        long retained = usedMemory() - before;
+        if (tables.size() != PICKLES) {
+            throw new IllegalStateException();
+        }
+        return retained;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long convert(List<DataTable> tables) {
+        for (DataTable table : tables) {
+            List<Map<String, String>> maps = table.asMaps();
+            List<String> headers = table.transpose().column(0);
+            if (maps.size() != ROWS - 1 || headers.size() != COLUMNS) {
+                throw new IllegalStateException();
+            }
+        }
+        return 0;
+    }
+
+}
@@ -13,9 +13,12 @@ import io.cucumber.plugin.event.Location;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Wraps {@link Pickle} to avoid exposing the gherkin library to all of
@@ -25,6 +28,7 @@ final class GherkinMessagesPickle implements Pickle {
 
     private final io.cucumber.messages.types.Pickle pickle;
     private final List<Step> steps;
+    private final List<String> tags;
     private final URI uri;
     private final CucumberQuery cucumberQuery;
 
@@ -35,6 +39,9 @@ final class GherkinMessagesPickle implements Pickle {
         this.uri = uri;
         this.cucumberQuery = cucumberQuery;
         this.steps = createCucumberSteps(pickle, dialect, this.cucumberQuery);
+        this.tags = pickle.getTags().stream()
+                .map(PickleTag::getName)
+                .collect(collectingAndThen(toList(), Collections::unmodifiableList));
     }
 
     private static List<Step> createCucumberSteps(
@@ -117,7 +124,7 @@ final class GherkinMessagesPickle implements Pickle {
 
     @Override
     public List<String> getTags() {
-        return pickle.getTags().stream().map(PickleTag::getName).collect(Collectors.toList());
+        return tags;
     }
 
     @Override
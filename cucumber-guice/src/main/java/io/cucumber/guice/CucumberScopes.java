@@ -27,4 +27,16 @@ public final class CucumberScopes {
         return new SequentialScenarioScope();
     }
 
+    /**
+     * Creates a new instance of a ScenarioScope that can be accessed by
+     * multiple threads. Use this scope when steps hand off work that uses
+     * scenario scoped objects to other threads.
+     *
+     * @return a new instance of a thread safe ScenarioScope.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public static ScenarioScope createThreadSafeScenarioScope() {
+        return new ThreadSafeScenarioScope();
+    }
+
 }
@@ -4,12 +4,23 @@ import com.google.inject.Key;
 import com.google.inject.OutOfScopeException;
 import com.google.inject.Provider;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
+/**
+ * Scenario scope that stores scoped objects in an array.
+ * <p>
+ * Each binding is assigned a slot when it is scoped. The slots are cleared
+ * rather than reallocated between scenarios. This scope is not thread safe,
+ * see {@link ThreadSafeScenarioScope}.
+ */
 class SequentialScenarioScope implements ScenarioScope {
 
-    private Map<Key<?>, Object> scenarioValues = null;
+    private static final Object ABSENT = new Object();
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Object[] scenarioValues = new Object[INITIAL_CAPACITY];
+    private int slots;
+    private boolean active;
 
     /**
      * Scopes a provider. The returned provider returns objects from this scope.
@@ -29,31 +40,65 @@ class SequentialScenarioScope implements ScenarioScope {
      */
     @Override
     public <T> Provider<T> scope(final Key<T> key, final Provider<T> unscoped) {
-        return () -> {
-            if (scenarioValues == null) {
-                throw new OutOfScopeException("Cannot access " + key + " outside of a scoping block");
-            }
+        int slot = claimSlot();
+        return () -> get(slot, key, unscoped);
+    }
 
-            @SuppressWarnings("unchecked")
-            T current = (T) scenarioValues.get(key);
-            if (current == null && !scenarioValues.containsKey(key)) {
-                current = unscoped.get();
-                scenarioValues.put(key, current);
-            }
+    synchronized int claimSlot() {
+        int slot = slots++;
+        if (slot >= scenarioValues.length) {
+            Object[] values = Arrays.copyOf(scenarioValues, Math.max(scenarioValues.length * 2, slot + 1));
+            Arrays.fill(values, slot, values.length, ABSENT);
+            scenarioValues = values;
+        } else {
+            scenarioValues[slot] = ABSENT;
+        }
+        return slot;
+    }
+
+    private <T> T get(int slot, Key<T> key, Provider<T> unscoped) {
+        Object current = lookup(slot, key);
+        if (current == ABSENT) {
+            current = store(slot, unscoped.get());
+        }
+        @SuppressWarnings("unchecked")
+        T value = (T) current;
+        return value;
+    }
+
+    Object lookup(int slot, Key<?> key) {
+        if (!active) {
+            throw new OutOfScopeException("Cannot access " + key + " outside of a scoping block");
+        }
+        return scenarioValues[slot];
+    }
+
+    Object store(int slot, Object value) {
+        // Creating the object may have scoped new bindings, so the values are
+        // read again. If the object was already stored while it was created,
+        // the stored object is kept.
+        if (!active) {
+            return value;
+        }
+        Object current = scenarioValues[slot];
+        if (current != ABSENT) {
             return current;
-        };
+        }
+        scenarioValues[slot] = value;
+        return value;
     }
 
     @Override
     public void enterScope() {
-        checkState(scenarioValues == null, "A scoping block is already in progress");
-        scenarioValues = new HashMap<>();
+        checkState(!active, "A scoping block is already in progress");
+        active = true;
     }
 
     @Override
     public void exitScope() {
-        checkState(scenarioValues != null, "No scoping block in progress");
-        scenarioValues = null;
+        checkState(active, "No scoping block in progress");
+        Arrays.fill(scenarioValues, 0, slots, ABSENT);
+        active = false;
     }
 
     private void checkState(boolean expression, String errorMessage) {
@@ -0,0 +1,37 @@
+package io.cucumber.guice;
+
+import com.google.inject.Key;
+
+/**
+ * Scenario scope that can be accessed by multiple threads.
+ * <p>
+ * Use this scope when a scenario hands off work to helper threads that
+ * access scenario scoped objects. Scoped objects are created outside of the
+ * lock, so creating an object may itself access the scope from other threads.
+ */
+final class ThreadSafeScenarioScope extends SequentialScenarioScope {
+
+    // Objects are created outside the lock. When several threads create the
+    // same object concurrently, the first one stored is used by all threads.
+
+    @Override
+    synchronized Object lookup(int slot, Key<?> key) {
+        return super.lookup(slot, key);
+    }
+
+    @Override
+    synchronized Object store(int slot, Object value) {
+        return super.store(slot, value);
+    }
+
+    @Override
+    public synchronized void enterScope() {
+        super.enterScope();
+    }
+
+    @Override
+    public synchronized void exitScope() {
+        super.exitScope();
+    }
+
+}
@@ -0,0 +1,129 @@
+package io.cucumber.guice;
+
+import com.google.inject.Key;
+import com.google.inject.OutOfScopeException;
+import com.google.inject.Provider;
+import com.google.inject.name.Names;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class CucumberScopesTest {
+
+    @Test
+    void provides_same_instance_within_scenario_and_new_instance_per_scenario() {
+        ScenarioScope scope = CucumberScopes.createScenarioScope();
+        Provider<Object> provider = scope.scope(Key.get(Object.class), Object::new);
+
+        scope.enterScope();
+        Object first = provider.get();
+        assertSame(first, provider.get());
+        scope.exitScope();
+
+        scope.enterScope();
+        assertNotSame(first, provider.get());
+        scope.exitScope();
+    }
+
+    @Test
+    void caches_null_values() {
+        ScenarioScope scope = CucumberScopes.createScenarioScope();
+        AtomicInteger invocations = new AtomicInteger();
+        Provider<Object> provider = scope.scope(Key.get(Object.class), () -> {
+            invocations.incrementAndGet();
+            return null;
+        });
+
+        scope.enterScope();
+        assertNull(provider.get());
+        assertNull(provider.get());
+        scope.exitScope();
+
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    void supports_bindings_scoped_while_providing() {
+        ScenarioScope scope = CucumberScopes.createScenarioScope();
+        Provider<String> outer = scope.scope(Key.get(String.class), () -> {
+            // Guice scopes just in time bindings on first use
+            for (int i = 0; i < 32; i++) {
+                scope.scope(Key.get(Integer.class), () -> 42).get();
+            }
+            return "outer";
+        });
+
+        scope.enterScope();
+        assertEquals("outer", outer.get());
+        assertSame(outer.get(), outer.get());
+        scope.exitScope();
+    }
+
+    @Test
+    void throws_outside_of_scenario() {
+        ScenarioScope scope = CucumberScopes.createThreadSafeScenarioScope();
+        Provider<Object> provider = scope.scope(Key.get(Object.class), Object::new);
+
+        assertThrows(OutOfScopeException.class, provider::get);
+        scope.enterScope();
+        scope.exitScope();
+        assertThrows(OutOfScopeException.class, provider::get);
+    }
+
+    @Test
+    void thread_safe_scope_provides_same_instance_to_other_threads() throws Exception {
+        ScenarioScope scope = CucumberScopes.createThreadSafeScenarioScope();
+        Provider<Object> provider = scope.scope(Key.get(Object.class), Object::new);
+
+        scope.enterScope();
+        Object[] fromOtherThread = new Object[1];
+        Thread thread = new Thread(() -> fromOtherThread[0] = provider.get());
+        thread.start();
+        thread.join();
+        assertSame(fromOtherThread[0], provider.get());
+        scope.exitScope();
+    }
+
+    @Test
+    void thread_safe_scope_creates_objects_outside_the_lock() {
+        ScenarioScope scope = CucumberScopes.createThreadSafeScenarioScope();
+        Provider<Object> inner = scope.scope(Key.get(Object.class, Names.named("inner")), Object::new);
+        Provider<Object[]> outer = scope.scope(Key.get(Object[].class), () -> {
+            // Creating the object hands work off to another thread that uses
+            // the same scope
+            Object[] fromOtherThread = new Object[1];
+            Thread thread = new Thread(() -> fromOtherThread[0] = inner.get());
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return fromOtherThread;
+        });
+
+        scope.enterScope();
+        Object[] created = assertTimeoutPreemptively(Duration.ofSeconds(10), outer::get);
+        assertSame(inner.get(), created[0]);
+        assertSame(created, outer.get());
+        scope.exitScope();
+    }
+
+    @Test
+    void rejects_nested_scopes() {
+        ScenarioScope scope = CucumberScopes.createScenarioScope();
+        scope.enterScope();
+        assertThrows(IllegalStateException.class, scope::enterScope);
+        scope.exitScope();
+        assertThrows(IllegalStateException.class, scope::exitScope);
+    }
+
+}
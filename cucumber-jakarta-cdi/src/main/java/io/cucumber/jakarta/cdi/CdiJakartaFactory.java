@@ -1,6 +1,8 @@
 package io.cucumber.jakarta.cdi;
 
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.options.CucumberProperties;
+import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.Instance;
@@ -8,24 +10,59 @@ import jakarta.enterprise.inject.se.SeContainer;
 import jakarta.enterprise.inject.se.SeContainerInitializer;
 import jakarta.enterprise.inject.spi.AfterBeanDiscovery;
 import jakarta.enterprise.inject.spi.AnnotatedType;
+import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.Extension;
 import jakarta.enterprise.inject.spi.InjectionTarget;
 import jakarta.enterprise.inject.spi.Unmanaged;
 import org.apiguardian.api.API;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * CDI based implementation of {@link ObjectFactory}.
+ * <p>
+ * By default a new container is started for each scenario. When the
+ * {@value #REUSE_CONTAINER_PROPERTY_NAME} property is {@code true}, the
+ * container is started once and reused by all scenarios executed by the same
+ * thread. Beans annotated with {@link ScenarioScoped} and step definitions that
+ * are not beans are then still created for each scenario, but application
+ * scoped beans are shared between scenarios.
+ */
 @API(status = API.Status.STABLE)
 public final class CdiJakartaFactory implements ObjectFactory, Extension {
 
+    /**
+     * Property name used to reuse the container between scenarios: {@value}
+     * <p>
+     * Value must be {@code true} or {@code false}. By default, a new container
+     * is started for each scenario.
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+    public static final String REUSE_CONTAINER_PROPERTY_NAME = "cucumber.jakarta.cdi.reuse-container";
+
     private final Set<Class<?>> stepClasses = new HashSet<>();
 
     private final Map<Class<?>, Unmanaged.UnmanagedInstance<?>> standaloneInstances = new HashMap<>();
+    private final Map<Class<?>, Boolean> dependentTypes = new HashMap<>();
+    private final List<DependentInstance<?>> dependentInstances = new ArrayList<>();
+    private final ScenarioContext scenarioContext = new ScenarioContext();
+    private final boolean reuseContainer;
     private SeContainer container;
+    private Thread closeContainerOnShutdown;
+
+    public CdiJakartaFactory() {
+        this(Boolean.parseBoolean(CucumberProperties.create().get(REUSE_CONTAINER_PROPERTY_NAME)));
+    }
+
+    CdiJakartaFactory(boolean reuseContainer) {
+        this.reuseContainer = reuseContainer;
+    }
 
     @Override
     public void start() {
@@ -33,20 +70,48 @@ public final class CdiJakartaFactory implements ObjectFactory, Extension {
             SeContainerInitializer initializer = SeContainerInitializer.newInstance();
             initializer.addExtensions(this);
             container = initializer.initialize();
+            if (reuseContainer) {
+                closeContainerOnShutdown = new Thread(this::closeContainer, "cucumber-jakarta-cdi-shutdown");
+                Runtime.getRuntime().addShutdownHook(closeContainerOnShutdown);
+            }
         }
+        scenarioContext.activate();
     }
 
     @Override
     public void stop() {
+        try {
+            // Dependent beans are not destroyed when the container is reused
+            for (DependentInstance<?> dependent : dependentInstances) {
+                dependent.destroy();
+            }
+            dependentInstances.clear();
+            scenarioContext.deactivate();
+        } finally {
+            if (!reuseContainer) {
+                closeContainer();
+            }
+            for (Unmanaged.UnmanagedInstance<?> unmanaged : standaloneInstances.values()) {
+                unmanaged.preDestroy();
+                unmanaged.dispose();
+            }
+            standaloneInstances.clear();
+        }
+    }
+
+    synchronized void closeContainer() {
+        if (closeContainerOnShutdown != null && Thread.currentThread() != closeContainerOnShutdown) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(closeContainerOnShutdown);
+            } catch (IllegalStateException e) {
+                // Already shutting down
+            }
+        }
+        closeContainerOnShutdown = null;
         if (container != null) {
             container.close();
             container = null;
         }
-        for (Unmanaged.UnmanagedInstance<?> unmanaged : standaloneInstances.values()) {
-            unmanaged.preDestroy();
-            unmanaged.dispose();
-        }
-        standaloneInstances.clear();
     }
 
     @Override
@@ -72,10 +137,23 @@ public final class CdiJakartaFactory implements ObjectFactory, Extension {
             standaloneInstances.put(type, value);
             return value.get();
         }
-        return selected.get();
+        T bean = selected.get();
+        if (isDependent(type)) {
+            dependentInstances.add(new DependentInstance<>(selected, bean));
+        }
+        return bean;
+    }
+
+    private boolean isDependent(Class<?> type) {
+        return dependentTypes.computeIfAbsent(type, t -> {
+            BeanManager beanManager = container.getBeanManager();
+            Bean<?> bean = beanManager.resolve(beanManager.getBeans(t));
+            return bean != null && Dependent.class.equals(bean.getScope());
+        });
     }
 
     void afterBeanDiscovery(@Observes AfterBeanDiscovery afterBeanDiscovery, BeanManager bm) {
+        afterBeanDiscovery.addContext(scenarioContext);
         Set<Class<?>> unmanaged = new HashSet<>();
         for (Class<?> stepClass : stepClasses) {
             discoverUnmanagedTypes(afterBeanDiscovery, bm, unmanaged, stepClass);
@@ -110,8 +188,30 @@ public final class CdiJakartaFactory implements ObjectFactory, Extension {
                 injectionTarget.inject(instance, c);
                 injectionTarget.postConstruct(instance);
                 return instance;
+            })
+            .destroyWith((instance, callback) -> {
+                CreationalContext c = (CreationalContext) callback;
+                injectionTarget.preDestroy(instance);
+                injectionTarget.dispose(instance);
+                c.release();
             });
         // @formatter:on
     }
 
+    private static final class DependentInstance<T> {
+
+        private final Instance<T> selected;
+        private final T instance;
+
+        DependentInstance(Instance<T> selected, T instance) {
+            this.selected = selected;
+            this.instance = instance;
+        }
+
+        void destroy() {
+            selected.destroy(instance);
+        }
+
+    }
+
 }
@@ -0,0 +1,97 @@
+package io.cucumber.jakarta.cdi;
+
+import jakarta.enterprise.context.ContextNotActiveException;
+import jakarta.enterprise.context.spi.AlterableContext;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the {@link ScenarioScoped} beans of the current scenario.
+ */
+final class ScenarioContext implements AlterableContext {
+
+    private final Map<Contextual<?>, ContextualInstance<?>> instances = new HashMap<>();
+    private boolean active;
+
+    @Override
+    public Class<? extends Annotation> getScope() {
+        return ScenarioScoped.class;
+    }
+
+    @Override
+    public synchronized <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        requireActive();
+        T existing = get(contextual);
+        if (existing != null) {
+            return existing;
+        }
+        T instance = contextual.create(creationalContext);
+        instances.put(contextual, new ContextualInstance<>(contextual, creationalContext, instance));
+        return instance;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T get(Contextual<T> contextual) {
+        requireActive();
+        ContextualInstance<?> instance = instances.get(contextual);
+        return instance == null ? null : (T) instance.instance;
+    }
+
+    @Override
+    public synchronized boolean isActive() {
+        return active;
+    }
+
+    @Override
+    public synchronized void destroy(Contextual<?> contextual) {
+        ContextualInstance<?> instance = instances.remove(contextual);
+        if (instance != null) {
+            instance.destroy();
+        }
+    }
+
+    synchronized void activate() {
+        active = true;
+    }
+
+    synchronized void deactivate() {
+        List<ContextualInstance<?>> destroyed = new ArrayList<>(instances.values());
+        instances.clear();
+        active = false;
+        for (ContextualInstance<?> instance : destroyed) {
+            instance.destroy();
+        }
+    }
+
+    private void requireActive() {
+        if (!active) {
+            throw new ContextNotActiveException(ScenarioScoped.class.getName() + " is only active during a scenario");
+        }
+    }
+
+    private static final class ContextualInstance<T> {
+
+        private final Contextual<T> contextual;
+        private final CreationalContext<T> creationalContext;
+        private final T instance;
+
+        ContextualInstance(Contextual<T> contextual, CreationalContext<T> creationalContext, T instance) {
+            this.contextual = contextual;
+            this.creationalContext = creationalContext;
+            this.instance = instance;
+        }
+
+        void destroy() {
+            contextual.destroy(instance, creationalContext);
+        }
+
+    }
+
+}
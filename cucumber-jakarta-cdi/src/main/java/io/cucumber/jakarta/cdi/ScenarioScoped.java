@@ -0,0 +1,30 @@
+package io.cucumber.jakarta.cdi;
+
+import jakarta.enterprise.context.NormalScope;
+import org.apiguardian.api.API;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies that a bean is scenario scoped.
+ * <p>
+ * A scenario scoped bean is created once per scenario and destroyed when the
+ * scenario ends. Use this scope for step definitions and their state when the
+ * container is reused between scenarios.
+ *
+ * @see CdiJakartaFactory
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+@Target({ ElementType.TYPE, ElementType.METHOD, ElementType.FIELD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@NormalScope
+public @interface ScenarioScoped {
+
+}
@@ -2,6 +2,7 @@ package io.cucumber.jakarta.openejb;
 
 import io.cucumber.core.backend.CucumberBackendException;
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.options.CucumberProperties;
 import jakarta.ejb.embeddable.EJBContainer;
 import org.apache.openejb.OpenEjbContainer;
 import org.apiguardian.api.API;
@@ -13,15 +14,46 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
+/**
+ * OpenEJB based implementation of {@link ObjectFactory}.
+ * <p>
+ * By default an embedded container is created for each scenario. When the
+ * {@value #REUSE_CONTAINER_PROPERTY_NAME} property is {@code true}, the
+ * container is created once and reused by all scenarios executed by the same
+ * thread. Step definitions are still instantiated and injected for each
+ * scenario.
+ */
 @API(status = API.Status.STABLE)
 public final class OpenEJBObjectFactory implements ObjectFactory {
 
+    /**
+     * Property name used to reuse the container between scenarios: {@value}
+     * <p>
+     * Value must be {@code true} or {@code false}. By default, a new container
+     * is created for each scenario.
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+    public static final String REUSE_CONTAINER_PROPERTY_NAME = "cucumber.jakarta.openejb.reuse-container";
+
     private final List<String> classes = new ArrayList<String>();
     private final Map<Class<?>, Object> instances = new HashMap<Class<?>, Object>();
+    private final boolean reuseContainer;
     private EJBContainer container;
+    private Thread closeContainerOnShutdown;
+
+    public OpenEJBObjectFactory() {
+        this(Boolean.parseBoolean(CucumberProperties.create().get(REUSE_CONTAINER_PROPERTY_NAME)));
+    }
+
+    OpenEJBObjectFactory(boolean reuseContainer) {
+        this.reuseContainer = reuseContainer;
+    }
 
     @Override
     public void start() {
+        if (container != null) {
+            return;
+        }
         final StringBuilder callers = new StringBuilder();
         for (Iterator<String> it = classes.iterator(); it.hasNext();) {
             callers.append(it.next());
@@ -33,14 +65,35 @@ public final class OpenEJBObjectFactory implements ObjectFactory {
         Properties properties = new Properties();
         properties.setProperty(OpenEjbContainer.Provider.OPENEJB_ADDITIONNAL_CALLERS_KEY, callers.toString());
         container = EJBContainer.createEJBContainer(properties);
+        if (reuseContainer) {
+            closeContainerOnShutdown = new Thread(this::closeContainer, "cucumber-jakarta-openejb-shutdown");
+            Runtime.getRuntime().addShutdownHook(closeContainerOnShutdown);
+        }
     }
 
     @Override
     public void stop() {
-        container.close();
+        if (!reuseContainer) {
+            closeContainer();
+        }
         instances.clear();
     }
 
+    synchronized void closeContainer() {
+        if (closeContainerOnShutdown != null && Thread.currentThread() != closeContainerOnShutdown) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(closeContainerOnShutdown);
+            } catch (IllegalStateException e) {
+                // Already shutting down
+            }
+        }
+        closeContainerOnShutdown = null;
+        if (container != null) {
+            container.close();
+            container = null;
+        }
+    }
+
     @Override
     public boolean addClass(Class<?> clazz) {
         classes.add(clazz.getName());
@@ -3,5 +3,10 @@
  * <p>
  * By including the <code>cucumber-jakarta-openejb</code> on your
  * <code>CLASSPATH</code> your step definitions will be instantiated by OpenEJB.
+ * <p>
+ * By default the embedded container is created for each scenario. Set the
+ * <code>cucumber.jakarta.openejb.reuse-container</code> property to
+ * <code>true</code> to create it once per thread and reuse it between
+ * scenarios.
  */
 package io.cucumber.jakarta.openejb;
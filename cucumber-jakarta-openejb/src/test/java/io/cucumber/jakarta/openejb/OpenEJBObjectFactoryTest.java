@@ -8,6 +8,7 @@ import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNot.not;
 import static org.hamcrest.core.IsNull.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 class OpenEJBObjectFactoryTest {
 
@@ -31,4 +32,28 @@ class OpenEJBObjectFactoryTest {
         assertThat(o2, is(not(equalTo(o1))));
     }
 
+    @Test
+    void shouldGiveUsNewInstancesForEachScenarioWhenReusingContainer() {
+        OpenEJBObjectFactory factory = new OpenEJBObjectFactory(true);
+        factory.addClass(BellyStepDefinitions.class);
+        try {
+            // Scenario 1
+            factory.start();
+            BellyStepDefinitions o1 = factory.getInstance(BellyStepDefinitions.class);
+            o1.haveCukes(4);
+            factory.stop();
+
+            // Scenario 2
+            factory.start();
+            BellyStepDefinitions o2 = factory.getInstance(BellyStepDefinitions.class);
+            factory.stop();
+
+            assertThat(o1, is(notNullValue()));
+            assertThat(o1, is(not(equalTo(o2))));
+            assertDoesNotThrow(() -> o2.checkCukes(0));
+        } finally {
+            factory.closeContainer();
+        }
+    }
+
 }
@@ -0,0 +1,31 @@
+package io.cucumber.java;
+
+import org.apiguardian.api.API;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Executes a method after the scenarios of each feature
+ * <p>
+ * The method must be static and take no arguments. Feature hooks are executed
+ * once for each feature by each thread that executes scenarios of that
+ * feature. When the scenarios of a feature are interleaved with those of
+ * other features on the same thread, the hooks are executed again each time
+ * the thread returns to the feature.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+public @interface AfterFeature {
+
+    /**
+     * The order in which this hook should run. Higher numbers are run first.
+     * The default order is 10000.
+     *
+     * @return the order in which this hook should run.
+     */
+    int order() default 10000;
+}
@@ -45,4 +45,26 @@ public @interface DataTableType {
      */
     String[] replaceWithEmptyString() default {};
 
+    /**
+     * Declares the data table type thread safe.
+     * <p>
+     * The rows, entries or cells of large tables transformed by a thread safe
+     * table row, table entry or table cell transformer may be transformed
+     * concurrently. Only declare a data table type thread safe when the
+     * method and the glue instance it is invoked on can be used by several
+     * threads at once.
+     * <p>
+     * Parallel transformation is disabled by default and enabled with
+     * {@code cucumber.datatable.parallel-transformation.threshold}. The
+     * transformation then runs in the common fork join pool rather than on
+     * the thread that executes the scenario. Objects that an object factory
+     * binds to that thread, such as scenario scoped Spring beans or objects in
+     * Guice's {@code ScenarioScope}, are not available to the method.
+     *
+     * @return true if the data table type is thread safe.
+     * @see    io.cucumber.datatable.DataTableType#threadSafe()
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+    boolean threadSafe() default false;
+
 }
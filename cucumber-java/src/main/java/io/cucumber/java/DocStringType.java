@@ -46,4 +46,19 @@ public @interface DocStringType {
      */
     String contentType() default "";
 
+    /**
+     * Number of converted doc strings to remember.
+     * <p>
+     * When positive, doc strings with the same content are converted once and
+     * the same instance is reused for up to this many of the most recently
+     * used contents, including across scenarios. The annotated method must
+     * then be pure and the objects it creates should be immutable. When zero,
+     * the default, every doc string is converted.
+     *
+     * @return the number of converted doc strings to remember
+     * @see    io.cucumber.docstring.DocStringType#memoized(int)
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+    int memoize() default 0;
+
 }
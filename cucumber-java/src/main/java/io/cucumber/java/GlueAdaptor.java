@@ -33,6 +33,9 @@ final class GlueAdaptor {
         } else if (annotationType.equals(BeforeAll.class)) {
             BeforeAll beforeAll = (BeforeAll) annotation;
             glue.addBeforeAllHook(new JavaStaticHookDefinition(method, beforeAll.order(), lookup));
+        } else if (annotationType.equals(BeforeFeature.class)) {
+            BeforeFeature beforeFeature = (BeforeFeature) annotation;
+            glue.addBeforeFeatureHook(new JavaStaticHookDefinition(method, beforeFeature.order(), lookup));
         } else if (annotationType.equals(After.class)) {
             After after = (After) annotation;
             String tagExpression = after.value();
@@ -40,6 +43,9 @@ final class GlueAdaptor {
         } else if (annotationType.equals(AfterAll.class)) {
             AfterAll afterAll = (AfterAll) annotation;
             glue.addAfterAllHook(new JavaStaticHookDefinition(method, afterAll.order(), lookup));
+        } else if (annotationType.equals(AfterFeature.class)) {
+            AfterFeature afterFeature = (AfterFeature) annotation;
+            glue.addAfterFeatureHook(new JavaStaticHookDefinition(method, afterFeature.order(), lookup));
         } else if (annotationType.equals(BeforeStep.class)) {
             BeforeStep beforeStep = (BeforeStep) annotation;
             String tagExpression = beforeStep.value();
@@ -62,7 +68,8 @@ final class GlueAdaptor {
         } else if (annotationType.equals(DataTableType.class)) {
             DataTableType dataTableType = (DataTableType) annotation;
             glue.addDataTableType(
-                new JavaDataTableTypeDefinition(method, lookup, dataTableType.replaceWithEmptyString()));
+                new JavaDataTableTypeDefinition(method, lookup, dataTableType.replaceWithEmptyString(),
+                    dataTableType.threadSafe()));
         } else if (annotationType.equals(DefaultParameterTransformer.class)) {
             glue.addDefaultParameterTransformer(new JavaDefaultParameterTransformerDefinition(method, lookup));
         } else if (annotationType.equals(DefaultDataTableEntryTransformer.class)) {
@@ -79,7 +86,8 @@ final class GlueAdaptor {
         } else if (annotationType.equals(DocStringType.class)) {
             DocStringType docStringType = (DocStringType) annotation;
             String contentType = docStringType.contentType();
-            glue.addDocStringType(new JavaDocStringTypeDefinition(contentType, method, lookup));
+            glue.addDocStringType(
+                new JavaDocStringTypeDefinition(contentType, method, lookup, docStringType.memoize()));
         }
     }
 
@@ -19,8 +19,13 @@ class JavaDataTableTypeDefinition extends AbstractDatatableElementTransformerDef
     private final DataTableType dataTableType;
 
     JavaDataTableTypeDefinition(Method method, Lookup lookup, String[] emptyPatterns) {
+        this(method, lookup, emptyPatterns, false);
+    }
+
+    JavaDataTableTypeDefinition(Method method, Lookup lookup, String[] emptyPatterns, boolean threadSafe) {
         super(method, lookup, emptyPatterns);
-        this.dataTableType = createDataTableType(method);
+        DataTableType dataTableType = createDataTableType(method);
+        this.dataTableType = threadSafe ? dataTableType.threadSafe() : dataTableType;
     }
 
     private DataTableType createDataTableType(Method method) {
@@ -14,11 +14,16 @@ class JavaDocStringTypeDefinition extends AbstractGlueDefinition implements DocS
     private final io.cucumber.docstring.DocStringType docStringType;
 
     JavaDocStringTypeDefinition(String contentType, Method method, Lookup lookup) {
+        this(contentType, method, lookup, 0);
+    }
+
+    JavaDocStringTypeDefinition(String contentType, Method method, Lookup lookup, int memoize) {
         super(requireValidMethod(method), lookup);
-        this.docStringType = new DocStringType(
+        DocStringType docStringType = new DocStringType(
             this.method.getGenericReturnType(),
             contentType.isEmpty() ? method.getName() : contentType,
             this::invokeMethod);
+        this.docStringType = memoize > 0 ? docStringType.memoized(memoize) : docStringType;
     }
 
     private static Method requireValidMethod(Method method) {
@@ -40,6 +40,8 @@ final class JavaStaticHookDefinition extends AbstractGlueDefinition implements S
         return builder(method)
                 .addAnnotation(BeforeAll.class)
                 .addAnnotation(AfterAll.class)
+                .addAnnotation(BeforeFeature.class)
+                .addAnnotation(AfterFeature.class)
                 .addSignature("public static void before_or_after_all()")
                 .build();
     }
@@ -92,8 +92,10 @@ final class MethodScanner {
         Class<? extends Annotation> annotationClass = annotation.annotationType();
         return annotationClass.equals(Before.class)
                 || annotationClass.equals(BeforeAll.class)
+                || annotationClass.equals(BeforeFeature.class)
                 || annotationClass.equals(After.class)
                 || annotationClass.equals(AfterAll.class)
+                || annotationClass.equals(AfterFeature.class)
                 || annotationClass.equals(BeforeStep.class)
                 || annotationClass.equals(AfterStep.class)
                 || annotationClass.equals(ParameterType.class)
@@ -62,6 +62,8 @@ public class GlueAdaptorTest {
     private HookDefinition beforeHook;
     private StaticHookDefinition afterAllHook;
     private StaticHookDefinition beforeAllHook;
+    private StaticHookDefinition afterFeatureHook;
+    private StaticHookDefinition beforeFeatureHook;
     private DocStringTypeDefinition docStringTypeDefinition;
     private final Glue container = new Glue() {
         @Override
@@ -74,6 +76,16 @@ public class GlueAdaptorTest {
             GlueAdaptorTest.this.afterAllHook = afterAllHook;
         }
 
+        @Override
+        public void addBeforeFeatureHook(StaticHookDefinition beforeFeatureHook) {
+            GlueAdaptorTest.this.beforeFeatureHook = beforeFeatureHook;
+        }
+
+        @Override
+        public void addAfterFeatureHook(StaticHookDefinition afterFeatureHook) {
+            GlueAdaptorTest.this.afterFeatureHook = afterFeatureHook;
+        }
+
         @Override
         public void addStepDefinition(StepDefinition stepDefinition) {
             GlueAdaptorTest.this.stepDefinitions.add(stepDefinition);
@@ -165,6 +177,8 @@ public class GlueAdaptorTest {
             () -> assertThat(beforeHook, notNullValue()),
             () -> assertThat(beforeAllHook, notNullValue()),
             () -> assertThat(afterAllHook, notNullValue()),
+            () -> assertThat(beforeFeatureHook, notNullValue()),
+            () -> assertThat(afterFeatureHook, notNullValue()),
             () -> assertThat(docStringTypeDefinition, notNullValue()));
     }
 
@@ -234,6 +248,16 @@ public class GlueAdaptorTest {
 
     }
 
+    @AfterFeature
+    public static void afterFeature() {
+
+    }
+
+    @BeforeFeature
+    public static void beforeFeature() {
+
+    }
+
     @DocStringType
     public Object json(String docString) {
         return null;
@@ -12,6 +12,7 @@ import java.util.Optional;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -63,6 +64,16 @@ class JavaDataTableTypeDefinitionTest {
             is("convert_data_table_to_string=[[a, ], [, d]]"));
     }
 
+    @Test
+    void can_define_thread_safe_table_row_transformer() throws NoSuchMethodException {
+        Method method = JavaDataTableTypeDefinitionTest.class.getMethod("convert_table_row_to_string", List.class);
+        JavaDataTableTypeDefinition definition = new JavaDataTableTypeDefinition(method, lookup, new String[0],
+            true);
+        assertThat(definition.dataTableType().toString(), containsString("threadSafe=true"));
+        assertThat(definition.dataTableType().transform(dataTable.cells()),
+            is(asList("convert_table_row_to_string=[a, b]", "convert_table_row_to_string=[c, d]")));
+    }
+
     public String convert_data_table_to_string(DataTable table) {
         return "convert_data_table_to_string=" + table.cells();
     }
@@ -14,6 +14,7 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.collection.IsMapContaining.hasEntry;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -55,6 +56,20 @@ class JavaDocStringTypeDefinitionTest {
         return "some_desired_string";
     }
 
+    @Test
+    void can_define_memoized_doc_string_converter() throws NoSuchMethodException {
+        Method method = JavaDocStringTypeDefinitionTest.class.getMethod("convert_doc_string_to_object", String.class);
+        JavaDocStringTypeDefinition definition = new JavaDocStringTypeDefinition("text/plain", method, lookup, 1);
+        registry.defineDocStringType(definition.docStringType());
+        Object first = converter.convert(docString, Object.class);
+        Object second = converter.convert(DocString.create("some doc string", "text/plain"), Object.class);
+        assertThat(second, sameInstance(first));
+    }
+
+    public Object convert_doc_string_to_object(String docString) {
+        return new Object();
+    }
+
     @Test
     void must_have_exactly_one_argument() throws NoSuchMethodException {
         Method noArgs = JavaDocStringTypeDefinitionTest.class.getMethod("converts_nothing_to_string");
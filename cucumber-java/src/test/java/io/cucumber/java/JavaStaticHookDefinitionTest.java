@@ -50,7 +50,7 @@ public class JavaStaticHookDefinitionTest {
             InvalidMethodSignatureException.class,
             () -> new JavaStaticHookDefinition(method, 0, lookup));
         assertThat(exception.getMessage(), startsWith("" +
-                "A method annotated with BeforeAll or AfterAll must have one of these signatures:\n" +
+                "A method annotated with BeforeAll, AfterAll, BeforeFeature or AfterFeature must have one of these signatures:\n" +
                 " * public static void before_or_after_all()\n" +
                 "at io.cucumber.java.JavaStaticHookDefinitionTest.single_argument(io.cucumber.java.Scenario)\n"));
     }
@@ -67,7 +67,7 @@ public class JavaStaticHookDefinitionTest {
             InvalidMethodSignatureException.class,
             () -> new JavaStaticHookDefinition(method, 0, lookup));
         assertThat(exception.getMessage(), startsWith("" +
-                "A method annotated with BeforeAll or AfterAll must have one of these signatures:\n" +
+                "A method annotated with BeforeAll, AfterAll, BeforeFeature or AfterFeature must have one of these signatures:\n" +
                 " * public static void before_or_after_all()\n" +
                 "at io.cucumber.java.JavaStaticHookDefinitionTest.string_return_type()\n"));
     }
@@ -17,6 +17,7 @@ abstract class AbstractGlueDefinition implements Located {
 
     private Object body;
     private Method method;
+    private Runnable deferredRegistration;
     private SourceReference sourceReference;
     final StackTraceElement location;
 
@@ -32,11 +33,28 @@ abstract class AbstractGlueDefinition implements Located {
     private void updateClosure(Object body) {
         this.body = requireNonNull(body);
         this.method = getAcceptMethod(body.getClass());
+        this.deferredRegistration = null;
     }
 
     void disposeClosure() {
         this.body = null;
         this.method = null;
+        this.deferredRegistration = null;
+    }
+
+    /**
+     * Disposes the closure and provides the registration that will create a
+     * new closure when this definition is used.
+     */
+    void deferClosure(Runnable registration) {
+        disposeClosure();
+        this.deferredRegistration = registration;
+    }
+
+    private void requireClosure() {
+        if (body == null && deferredRegistration != null) {
+            deferredRegistration.run();
+        }
     }
 
     private static Method getAcceptMethod(Class<?> bodyClass) {
@@ -54,6 +72,7 @@ abstract class AbstractGlueDefinition implements Located {
     }
 
     protected Object invokeMethod(Object... args) {
+        requireClosure();
         if (body == null) {
             throw new IllegalStateException("Can not execute scenario scoped glue when scenario has been disposed of");
         }
@@ -61,6 +80,7 @@ abstract class AbstractGlueDefinition implements Located {
     }
 
     protected int getParameterCount() {
+        requireClosure();
         return method.getParameterCount();
     }
 
@@ -28,7 +28,15 @@ final class ClosureAwareGlueRegistry implements LambdaGlueRegistry {
     }
 
     void startRegistration() {
-        registered = 0;
+        startRegistration(0);
+    }
+
+    void startRegistration(int slot) {
+        registered = slot;
+    }
+
+    int getRegistered() {
+        return registered;
     }
 
     void finishRegistration() {
@@ -42,6 +50,25 @@ final class ClosureAwareGlueRegistry implements LambdaGlueRegistry {
         }
     }
 
+    void finishRegistration(int startSlot, int endSlot) {
+        if (registered != endSlot) {
+            throw new CucumberBackendException(String.format("Found an inconsistent number of glue registrations.\n" +
+                    "Previously %s step definitions, hooks and parameter types were registered. Currently %s.\n" +
+                    "To optimize performance Cucumber expects glue registration to be identical for each scenario and example.",
+                endSlot - startSlot, registered - startSlot));
+        }
+    }
+
+    /**
+     * Disposes the closures in the given slots. When any of these is used the
+     * registration is invoked to create new closures.
+     */
+    void deferRegistration(int startSlot, int endSlot, Runnable registration) {
+        for (int slot = startSlot; slot < endSlot; slot++) {
+            definitions.get(slot).deferClosure(registration);
+        }
+    }
+
     @Override
     public void addStepDefinition(StepDefinition stepDefinition) {
         updateOrRegister((Java8StepDefinition) stepDefinition, definitions, glue::addStepDefinition);
@@ -24,6 +24,9 @@ final class Java8Backend implements Backend {
 
     private final List<Class<? extends LambdaGlue>> lambdaGlueClasses = new ArrayList<>();
     private ClosureAwareGlueRegistry glue;
+    // The first slot registered by each glue class, followed by the total
+    // number of slots. Known after the first world has been built.
+    private int[] glueSlots;
 
     Java8Backend(Lookup lookup, Container container, Supplier<ClassLoader> classLoaderProvider) {
         this.container = container;
@@ -51,15 +54,50 @@ final class Java8Backend implements Backend {
 
     @Override
     public void buildWorld() {
+        if (glueSlots != null) {
+            deferWorld(glueSlots);
+            return;
+        }
         // Instantiate all the stepdef classes for java8 - the stepdef will be
         // initialised in the constructor.
+        int[] slots = new int[lambdaGlueClasses.size() + 1];
         glue.startRegistration();
         LambdaGlueRegistry.INSTANCE.set(glue);
-        for (Class<? extends LambdaGlue> lambdaGlueClass : lambdaGlueClasses) {
-            lookup.getInstance(lambdaGlueClass);
+        for (int i = 0; i < lambdaGlueClasses.size(); i++) {
+            slots[i] = glue.getRegistered();
+            lookup.getInstance(lambdaGlueClasses.get(i));
         }
+        slots[lambdaGlueClasses.size()] = glue.getRegistered();
         LambdaGlueRegistry.INSTANCE.set(CLOSED);
         glue.finishRegistration();
+        glueSlots = slots;
+    }
+
+    private void deferWorld(int[] slots) {
+        // Like cucumber-java, only instantiate the stepdef classes that are
+        // used by a scenario. The stepdefs of each class are recreated when
+        // any of them is first used.
+        for (int i = 0; i < lambdaGlueClasses.size(); i++) {
+            int startSlot = slots[i];
+            int endSlot = slots[i + 1];
+            if (startSlot == endSlot) {
+                continue;
+            }
+            Class<? extends LambdaGlue> lambdaGlueClass = lambdaGlueClasses.get(i);
+            glue.deferRegistration(startSlot, endSlot, () -> register(lambdaGlueClass, startSlot, endSlot));
+        }
+    }
+
+    private void register(Class<? extends LambdaGlue> lambdaGlueClass, int startSlot, int endSlot) {
+        LambdaGlueRegistry previous = LambdaGlueRegistry.INSTANCE.get();
+        glue.startRegistration(startSlot);
+        LambdaGlueRegistry.INSTANCE.set(glue);
+        try {
+            lookup.getInstance(lambdaGlueClass);
+        } finally {
+            LambdaGlueRegistry.INSTANCE.set(previous);
+        }
+        glue.finishRegistration(startSlot, endSlot);
     }
 
     @Override
@@ -47,6 +47,56 @@ class ClosureAwareGlueRegistryTest {
         assertThat(invocations, equalTo(Arrays.asList("closure a with: first", "closure b with: second")));
     }
 
+    @Test
+    void should_replace_deferred_closures_when_used() {
+        List<String> invocations = new ArrayList<>();
+        StepDefinitionBody.A1<String> a = p1 -> {
+            invocations.add("closure a with: " + p1);
+        };
+        StepDefinitionBody.A1<String> b = p1 -> {
+            invocations.add("closure b with: " + p1);
+        };
+        Java8StepDefinition firstInstance = Java8StepDefinition.create("some step", StepDefinitionBody.A1.class, a);
+        Java8StepDefinition secondInstance = Java8StepDefinition.create("some step", StepDefinitionBody.A1.class, b);
+
+        registry.startRegistration();
+        registry.addStepDefinition(firstInstance);
+        registry.finishRegistration();
+
+        registry.deferRegistration(0, 1, () -> {
+            invocations.add("registration");
+            registry.startRegistration(0);
+            registry.addStepDefinition(secondInstance);
+            registry.finishRegistration(0, 1);
+        });
+        assertThat(invocations, equalTo(Arrays.asList()));
+
+        firstInstance.invokeMethod("first");
+        firstInstance.invokeMethod("second");
+
+        assertThat(invocations,
+            equalTo(Arrays.asList("registration", "closure b with: first", "closure b with: second")));
+    }
+
+    @Test
+    void should_complain_about_missing_deferred_registrations() {
+        StepDefinitionBody.A0 a = () -> {
+        };
+        Java8StepDefinition stepDefinition = Java8StepDefinition.create("some step", StepDefinitionBody.A0.class, a);
+
+        registry.startRegistration();
+        registry.addStepDefinition(stepDefinition);
+        registry.finishRegistration();
+
+        registry.startRegistration(0);
+        CucumberBackendException exception = assertThrows(CucumberBackendException.class,
+            () -> registry.finishRegistration(0, 1));
+        assertThat(exception.getMessage(), equalTo("" +
+                "Found an inconsistent number of glue registrations.\n" +
+                "Previously 1 step definitions, hooks and parameter types were registered. Currently 0.\n" +
+                "To optimize performance Cucumber expects glue registration to be identical for each scenario and example."));
+    }
+
     @Test
     void should_complain_about_missing_registrations() {
         StepDefinitionBody.A0 a = () -> {
@@ -2,23 +2,89 @@ package io.cucumber.junit.platform.engine;
 
 import io.cucumber.core.feature.FeatureParser;
 import io.cucumber.core.gherkin.Feature;
+import io.cucumber.core.gherkin.FeatureParserException;
 import io.cucumber.core.resource.Resource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+/**
+ * Parses each feature at most once.
+ * <p>
+ * When created with an executor, features are parsed concurrently. Because
+ * resources may be backed by a file system that is closed once scanning
+ * completes, the content of each resource is read before parsing is handed
+ * off to the executor.
+ */
 class CachingFeatureParser {
 
-    private final Map<URI, Optional<Feature>> cache = new HashMap<>();
+    private final ConcurrentMap<URI, CompletableFuture<Optional<Feature>>> cache = new ConcurrentHashMap<>();
     private final FeatureParser delegate;
+    private final Executor executor;
 
     CachingFeatureParser(FeatureParser delegate) {
+        this(delegate, null);
+    }
+
+    CachingFeatureParser(FeatureParser delegate, Executor executor) {
         this.delegate = delegate;
+        this.executor = executor;
     }
 
-    Optional<Feature> parseResource(Resource resource) {
-        return cache.computeIfAbsent(resource.getUri(), uri -> delegate.parseResource(resource));
+    CompletableFuture<Optional<Feature>> parseResource(Resource resource) {
+        return cache.computeIfAbsent(resource.getUri(), uri -> {
+            if (executor == null) {
+                return completedFuture(delegate.parseResource(resource));
+            }
+            Resource buffered = new BufferedResource(uri, read(resource));
+            return CompletableFuture.supplyAsync(() -> delegate.parseResource(buffered), executor);
+        });
     }
+
+    private static byte[] read(Resource resource) {
+        try (InputStream source = resource.getInputStream()) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = source.read(buffer)) != -1) {
+                bytes.write(buffer, 0, read);
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new FeatureParserException("Failed to parse resource at: " + resource.getUri(), e);
+        }
+    }
+
+    private static final class BufferedResource implements Resource {
+
+        private final URI uri;
+        private final byte[] content;
+
+        BufferedResource(URI uri, byte[] content) {
+            this.uri = uri;
+            this.content = content;
+        }
+
+        @Override
+        public URI getUri() {
+            return uri;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+    }
+
 }
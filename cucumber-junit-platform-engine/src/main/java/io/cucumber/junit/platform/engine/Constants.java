@@ -24,6 +24,30 @@ public final class Constants {
      */
     public static final String ANSI_COLORS_DISABLED_PROPERTY_NAME = io.cucumber.core.options.Constants.ANSI_COLORS_DISABLED_PROPERTY_NAME;
 
+    /**
+     * Property name used to enable parallel transformation of large data
+     * tables: {@value}
+     * <p>
+     * Data tables with at least this number of rows that are transformed by a
+     * data table type that was declared thread safe are transformed in the
+     * common fork join pool. Glue that depends on the thread that executes the
+     * scenario, e.g. scenario scoped Spring beans or Guice objects, can not be
+     * used by these data table types.
+     * <p>
+     * By default, data tables are not transformed in parallel.
+     */
+    public static final String DATATABLE_PARALLEL_TRANSFORMATION_THRESHOLD_PROPERTY_NAME = io.cucumber.core.options.Constants.DATATABLE_PARALLEL_TRANSFORMATION_THRESHOLD_PROPERTY_NAME;
+
+    /**
+     * Property name used to set the number of chunks a data table is split
+     * into when transformed in parallel: {@value}
+     * <p>
+     * By default, the number of available processors.
+     *
+     * @see #DATATABLE_PARALLEL_TRANSFORMATION_THRESHOLD_PROPERTY_NAME
+     */
+    public static final String DATATABLE_PARALLEL_TRANSFORMATION_PARALLELISM_PROPERTY_NAME = io.cucumber.core.options.Constants.DATATABLE_PARALLEL_TRANSFORMATION_PARALLELISM_PROPERTY_NAME;
+
     /**
      * Property name used to enable dry-run: {@value}
      * <p>
@@ -123,6 +147,38 @@ public final class Constants {
      */
     public static final String GLUE_PROPERTY_NAME = io.cucumber.core.options.Constants.GLUE_PROPERTY_NAME;
 
+    /**
+     * Property name used to configure the number of threads used to parse
+     * features during discovery: {@value}
+     * <p>
+     * Value must be a positive integer. By default, features are parsed by
+     * the thread that performs the discovery. Descriptors are merged in the
+     * same order regardless of the parallelism.
+     * <p>
+     * Note: Scenario ids generated by the
+     * {@code IncrementingUuidGenerator} depend on
+     * the order in which features are parsed and will not be stable between
+     * runs when features are parsed in parallel.
+     */
+    @API(status = Status.EXPERIMENTAL, since = "7.22.0")
+    public static final String DISCOVERY_PARALLELISM_PROPERTY_NAME = "cucumber.discovery.parallelism";
+
+    /**
+     * Property name used to apply the tag and name filters during discovery:
+     * {@value}
+     * <p>
+     * By default, scenarios that do not match {@value #FILTER_TAGS_PROPERTY_NAME}
+     * or {@value #FILTER_NAME_PROPERTY_NAME} are discovered and reported as
+     * skipped. When set to {@code true} these scenarios are not discovered at
+     * all. This reduces the time and memory used by discovery when a filter
+     * selects a small part of a large suite.
+     *
+     * @see #FILTER_TAGS_PROPERTY_NAME
+     * @see #FILTER_NAME_PROPERTY_NAME
+     */
+    @API(status = Status.EXPERIMENTAL, since = "7.22.0")
+    public static final String JUNIT_PLATFORM_DISCOVERY_FILTER_ENABLED_PROPERTY_NAME = "cucumber.junit-platform.discovery.filter.enabled";
+
     /**
      * Property name used to configure the naming strategy: {@value}
      * <p>
@@ -268,6 +324,58 @@ public final class Constants {
      */
     public static final String PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "cucumber.execution.parallel.enabled";
 
+    /**
+     * Property name used to select the unit of work distributed over threads
+     * when executing in parallel: {@value}
+     * <p>
+     * Valid values are {@code scenario} or {@code feature}. Default value is
+     * {@code scenario}.
+     * <p>
+     * When set to {@code feature}, scenarios and examples are executed
+     * sequentially in the same thread as the parent feature. This is a
+     * shorthand for setting {@value #EXECUTION_MODE_FEATURE_PROPERTY_NAME} to
+     * {@code same_thread}, which takes precedence when set explicitly.
+     *
+     * @see #PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME
+     */
+    public static final String EXECUTION_PARALLEL_GRANULARITY_PROPERTY_NAME = io.cucumber.core.options.Constants.EXECUTION_PARALLEL_GRANULARITY_PROPERTY_NAME;
+
+    /**
+     * Property name used to select the shard executed by this process: {@value}
+     * <p>
+     * The zero-based index of the shard. Must be less than
+     * {@value #EXECUTION_SHARD_TOTAL_PROPERTY_NAME}. Default value is
+     * {@code 0}.
+     * <p>
+     * Scenarios that are not part of the shard are removed during discovery.
+     * Every shard must discover the same features and use the same filters.
+     *
+     * @see #EXECUTION_SHARD_TOTAL_PROPERTY_NAME
+     */
+    public static final String EXECUTION_SHARD_INDEX_PROPERTY_NAME = io.cucumber.core.options.Constants.EXECUTION_SHARD_INDEX_PROPERTY_NAME;
+
+    /**
+     * Property name used to set the total number of shards: {@value}
+     * <p>
+     * Default value is {@code 1}.
+     *
+     * @see #EXECUTION_SHARD_INDEX_PROPERTY_NAME
+     */
+    public static final String EXECUTION_SHARD_TOTAL_PROPERTY_NAME = io.cucumber.core.options.Constants.EXECUTION_SHARD_TOTAL_PROPERTY_NAME;
+
+    /**
+     * Property name used to set a file with historical scenario durations:
+     * {@value}
+     * <p>
+     * When set, scenarios are distributed over shards such that each shard
+     * takes about the same time. Otherwise, scenarios are distributed by a
+     * stable hash of their location. The file can be created with the
+     * {@code timings} plugin.
+     *
+     * @see #EXECUTION_SHARD_TOTAL_PROPERTY_NAME
+     */
+    public static final String EXECUTION_SHARD_TIMINGS_PROPERTY_NAME = io.cucumber.core.options.Constants.EXECUTION_SHARD_TIMINGS_PROPERTY_NAME;
+
     static final String EXECUTION_EXCLUSIVE_RESOURCES_PREFIX = "cucumber.execution.exclusive-resources.";
 
     static final String READ_WRITE_SUFFIX = ".read-write";
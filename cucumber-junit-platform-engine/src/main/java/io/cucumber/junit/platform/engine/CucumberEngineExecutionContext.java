@@ -7,6 +7,7 @@ import io.cucumber.core.logging.Logger;
 import io.cucumber.core.logging.LoggerFactory;
 import io.cucumber.core.plugin.PluginFactory;
 import io.cucumber.core.plugin.Plugins;
+import io.cucumber.core.runner.TestCaseResult;
 import io.cucumber.core.runtime.BackendServiceLoader;
 import io.cucumber.core.runtime.BackendSupplier;
 import io.cucumber.core.runtime.CucumberExecutionContext;
@@ -28,7 +29,7 @@ import java.time.Clock;
 import java.util.function.Supplier;
 
 import static io.cucumber.core.runtime.SynchronizedEventBus.synchronize;
-import static io.cucumber.junit.platform.engine.TestCaseResultObserver.observe;
+import static io.cucumber.junit.platform.engine.TestCaseResultObserver.assertTestCasePassed;
 
 @API(status = API.Status.STABLE)
 public final class CucumberEngineExecutionContext implements EngineExecutionContext {
@@ -50,7 +51,8 @@ public final class CucumberEngineExecutionContext implements EngineExecutionCont
         Supplier<ClassLoader> classLoader = CucumberEngineExecutionContext.class::getClassLoader;
         UuidGeneratorServiceLoader uuidGeneratorServiceLoader = new UuidGeneratorServiceLoader(classLoader, options);
         EventBus bus = synchronize(
-            new TimeServiceEventBus(Clock.systemUTC(), uuidGeneratorServiceLoader.loadUuidGenerator()));
+            new TimeServiceEventBus(Clock.systemUTC(), System::nanoTime,
+                uuidGeneratorServiceLoader.loadUuidGenerator()));
         ObjectFactoryServiceLoader objectFactoryServiceLoader = new ObjectFactoryServiceLoader(classLoader, options);
         Plugins plugins = new Plugins(new PluginFactory(), options);
         ExitStatus exitStatus = new ExitStatus(options);
@@ -109,15 +111,18 @@ public final class CucumberEngineExecutionContext implements EngineExecutionCont
 
     void runTestCase(Pickle pickle) {
         context.runTestCase((runner) -> {
-            try (TestCaseResultObserver observer = observe(runner.getBus())) {
-                log.debug(() -> "Executing test case " + pickle.getName());
-                runner.runPickle(pickle);
-                log.debug(() -> "Finished test case " + pickle.getName());
-                observer.assertTestCasePassed();
-            }
+            log.debug(() -> "Executing test case " + pickle.getName());
+            TestCaseResult result = runner.runPickle(pickle);
+            log.debug(() -> "Finished test case " + pickle.getName());
+            assertTestCasePassed(result);
         });
     }
 
+    public void runAfterFeatureHooks() {
+        log.debug(() -> "Running after feature hooks");
+        context.runAfterFeatureHooks();
+    }
+
     public void runAfterAllHooks() {
         log.debug(() -> "Running after all hooks");
         context.runAfterAllHooks();
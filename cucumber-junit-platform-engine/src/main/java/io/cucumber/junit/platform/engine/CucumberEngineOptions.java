@@ -4,6 +4,8 @@ import io.cucumber.core.backend.ObjectFactory;
 import io.cucumber.core.eventbus.UuidGenerator;
 import io.cucumber.core.feature.FeatureWithLines;
 import io.cucumber.core.feature.GluePath;
+import io.cucumber.core.filter.CompiledTagExpression;
+import io.cucumber.core.filter.Shard;
 import io.cucumber.core.options.ObjectFactoryParser;
 import io.cucumber.core.options.PluginOption;
 import io.cucumber.core.options.SnippetTypeParser;
@@ -11,27 +13,42 @@ import io.cucumber.core.options.UuidGeneratorParser;
 import io.cucumber.core.plugin.NoPublishFormatter;
 import io.cucumber.core.plugin.PublishFormatter;
 import io.cucumber.core.snippets.SnippetType;
-import io.cucumber.tagexpressions.Expression;
 import io.cucumber.tagexpressions.TagExpressionParser;
 import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
 
 import java.net.URI;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static io.cucumber.core.resource.ClasspathSupport.CLASSPATH_SCHEME_PREFIX;
 import static io.cucumber.junit.platform.engine.Constants.ANSI_COLORS_DISABLED_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.DATATABLE_PARALLEL_TRANSFORMATION_PARALLELISM_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.DATATABLE_PARALLEL_TRANSFORMATION_THRESHOLD_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.DISCOVERY_PARALLELISM_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.EXECUTION_DRY_RUN_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.EXECUTION_EXCLUSIVE_RESOURCES_PREFIX;
+import static io.cucumber.junit.platform.engine.Constants.EXECUTION_SHARD_INDEX_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.EXECUTION_SHARD_TIMINGS_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.EXECUTION_SHARD_TOTAL_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.FEATURES_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.FILTER_NAME_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.FILTER_TAGS_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.GLUE_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.JUNIT_PLATFORM_DISCOVERY_FILTER_ENABLED_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.JUNIT_PLATFORM_NAMING_STRATEGY_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.OBJECT_FACTORY_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
@@ -39,6 +56,8 @@ import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PUBLISH_ENABLED_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PUBLISH_QUIET_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PUBLISH_TOKEN_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.READ_SUFFIX;
+import static io.cucumber.junit.platform.engine.Constants.READ_WRITE_SUFFIX;
 import static io.cucumber.junit.platform.engine.Constants.SNIPPET_TYPE_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.UUID_GENERATOR_PROPERTY_NAME;
 
@@ -49,6 +68,8 @@ class CucumberEngineOptions implements
         io.cucumber.core.eventbus.Options {
 
     private final ConfigurationParameters configurationParameters;
+    private Optional<CompiledTagExpression> tagFilter;
+    private final Map<String, Set<ExclusiveResource>> exclusiveResourcesByTag = new ConcurrentHashMap<>();
 
     CucumberEngineOptions(ConfigurationParameters configurationParameters) {
         this.configurationParameters = configurationParameters;
@@ -117,14 +138,38 @@ class CucumberEngineOptions implements
         return false;
     }
 
-    Optional<Expression> tagFilter() {
-        return configurationParameters.get(FILTER_TAGS_PROPERTY_NAME, TagExpressionParser::parse);
+    synchronized Optional<CompiledTagExpression> tagFilter() {
+        if (tagFilter == null) {
+            tagFilter = configurationParameters.get(FILTER_TAGS_PROPERTY_NAME, TagExpressionParser::parse)
+                    .map(CompiledTagExpression::new);
+        }
+        return tagFilter;
     }
 
     Optional<Pattern> nameFilter() {
         return configurationParameters.get(FILTER_NAME_PROPERTY_NAME, Pattern::compile);
     }
 
+    int discoveryParallelism() {
+        return configurationParameters
+                .get(DISCOVERY_PARALLELISM_PROPERTY_NAME, Integer::parseInt)
+                .filter(parallelism -> parallelism > 0)
+                .orElse(1);
+    }
+
+    Shard shard() {
+        return Shard.create(
+            configurationParameters.get(EXECUTION_SHARD_INDEX_PROPERTY_NAME, Integer::parseInt).orElse(0),
+            configurationParameters.get(EXECUTION_SHARD_TOTAL_PROPERTY_NAME, Integer::parseInt).orElse(1),
+            configurationParameters.get(EXECUTION_SHARD_TIMINGS_PROPERTY_NAME, Paths::get).orElse(null));
+    }
+
+    boolean isDiscoveryFilterEnabled() {
+        return configurationParameters
+                .getBoolean(JUNIT_PLATFORM_DISCOVERY_FILTER_ENABLED_PROPERTY_NAME)
+                .orElse(false);
+    }
+
     @Override
     public List<URI> getGlue() {
         return configurationParameters
@@ -150,6 +195,20 @@ class CucumberEngineOptions implements
                 .orElse(SnippetType.UNDERSCORE);
     }
 
+    @Override
+    public int getDataTableParallelTransformationThreshold() {
+        return configurationParameters
+                .get(DATATABLE_PARALLEL_TRANSFORMATION_THRESHOLD_PROPERTY_NAME, Integer::parseInt)
+                .orElse(0);
+    }
+
+    @Override
+    public int getDataTableParallelTransformationParallelism() {
+        return configurationParameters
+                .get(DATATABLE_PARALLEL_TRANSFORMATION_PARALLELISM_PROPERTY_NAME, Integer::parseInt)
+                .orElse(Runtime.getRuntime().availableProcessors());
+    }
+
     @Override
     public Class<? extends ObjectFactory> getObjectFactoryClass() {
         return configurationParameters
@@ -177,6 +236,31 @@ class CucumberEngineOptions implements
                 .create(configurationParameters);
     }
 
+    /**
+     * Returns the exclusive resources configured for a tag. The configuration
+     * for each tag is parsed once and shared by all scenarios with that tag.
+     */
+    Set<ExclusiveResource> exclusiveResources(TestTag tag) {
+        return exclusiveResourcesByTag.computeIfAbsent(tag.getName(), this::parseExclusiveResources);
+    }
+
+    private Set<ExclusiveResource> parseExclusiveResources(String tagName) {
+        String prefix = EXECUTION_EXCLUSIVE_RESOURCES_PREFIX + tagName;
+        Set<ExclusiveResource> resources = new LinkedHashSet<>();
+        parseResources(prefix + READ_WRITE_SUFFIX)
+                .forEach(resource -> resources.add(new ExclusiveResource(resource, LockMode.READ_WRITE)));
+        parseResources(prefix + READ_SUFFIX)
+                .forEach(resource -> resources.add(new ExclusiveResource(resource, LockMode.READ)));
+        return resources.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(resources);
+    }
+
+    private List<String> parseResources(String key) {
+        return configurationParameters.get(key, s -> Arrays.stream(s.split(","))
+                .map(String::trim)
+                .collect(Collectors.toList()))
+                .orElse(Collections.emptyList());
+    }
+
     List<FeatureWithLines> featuresWithLines() {
         return configurationParameters.get(FEATURES_PROPERTY_NAME,
             s -> Arrays.stream(s.split(","))
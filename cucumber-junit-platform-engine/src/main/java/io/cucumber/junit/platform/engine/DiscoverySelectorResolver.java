@@ -1,6 +1,8 @@
 package io.cucumber.junit.platform.engine;
 
 import io.cucumber.core.feature.FeatureWithLines;
+import io.cucumber.core.filter.Shard;
+import io.cucumber.core.gherkin.Pickle;
 import io.cucumber.core.logging.Logger;
 import io.cucumber.core.logging.LoggerFactory;
 import io.cucumber.junit.platform.engine.NodeDescriptor.PickleDescriptor;
@@ -18,7 +20,10 @@ import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
 import org.junit.platform.engine.discovery.UriSelector;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import static io.cucumber.junit.platform.engine.Constants.FEATURES_PROPERTY_NAME;
@@ -52,6 +57,7 @@ class DiscoverySelectorResolver {
         Predicate<String> packageFilter = buildPackageFilter(request);
         resolve(request, engineDescriptor, packageFilter);
         filter(engineDescriptor, packageFilter);
+        shard(request, engineDescriptor);
         pruneTree(engineDescriptor);
     }
 
@@ -68,7 +74,15 @@ class DiscoverySelectorResolver {
             configuration,
             engineDescriptor,
             packageFilter);
+        try {
+            resolve(request, featureResolver);
+        } finally {
+            featureResolver.close();
+        }
+    }
 
+    private void resolve(EngineDiscoveryRequest request, FeatureResolver featureResolver) {
+        ConfigurationParameters configuration = request.getConfigurationParameters();
         CucumberEngineOptions options = new CucumberEngineOptions(configuration);
         List<FeatureWithLines> featureWithLines = options.featuresWithLines();
         if (!featureWithLines.isEmpty()) {
@@ -91,6 +105,19 @@ class DiscoverySelectorResolver {
         applyPackagePredicate(packageFilter, engineDescriptor);
     }
 
+    private void shard(EngineDiscoveryRequest request, TestDescriptor engineDescriptor) {
+        Shard shard = new CucumberEngineOptions(request.getConfigurationParameters()).shard();
+        Map<Pickle, PickleDescriptor> descriptors = new IdentityHashMap<>();
+        engineDescriptor.accept(descriptor -> {
+            if (descriptor instanceof PickleDescriptor) {
+                PickleDescriptor pickleDescriptor = (PickleDescriptor) descriptor;
+                descriptors.put(pickleDescriptor.getPickle(), pickleDescriptor);
+            }
+        });
+        shard.select(new ArrayList<>(descriptors.keySet())).forEach(descriptors::remove);
+        descriptors.values().forEach(TestDescriptor::removeFromHierarchy);
+    }
+
     private void pruneTree(TestDescriptor rootDescriptor) {
         rootDescriptor.accept(TestDescriptor::prune);
     }
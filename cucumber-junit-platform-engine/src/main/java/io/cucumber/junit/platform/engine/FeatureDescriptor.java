@@ -44,6 +44,11 @@ class FeatureDescriptor extends AbstractTestDescriptor implements Node<CucumberE
         return context;
     }
 
+    @Override
+    public void after(CucumberEngineExecutionContext context) {
+        context.runAfterFeatureHooks();
+    }
+
     @Override
     public Type getType() {
         return Type.CONTAINER;
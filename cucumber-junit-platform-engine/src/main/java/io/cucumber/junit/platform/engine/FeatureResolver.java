@@ -4,6 +4,8 @@ import io.cucumber.core.eventbus.UuidGenerator;
 import io.cucumber.core.feature.FeatureIdentifier;
 import io.cucumber.core.feature.FeatureParser;
 import io.cucumber.core.feature.FeatureWithLines;
+import io.cucumber.core.filter.CompiledTagExpression;
+import io.cucumber.core.filter.TagSets;
 import io.cucumber.core.gherkin.Feature;
 import io.cucumber.core.gherkin.Pickle;
 import io.cucumber.core.logging.Logger;
@@ -29,9 +31,18 @@ import org.junit.platform.engine.discovery.UniqueIdSelector;
 import org.junit.platform.engine.discovery.UriSelector;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import static java.util.Comparator.comparing;
@@ -40,12 +51,16 @@ final class FeatureResolver {
 
     private static final Logger log = LoggerFactory.getLogger(FeatureResolver.class);
 
-    private final ResourceScanner<Feature> featureScanner;
+    private final ResourceScanner<CompletableFuture<Optional<Feature>>> featureScanner;
+    private final ExecutorService executor;
 
     private final CucumberEngineDescriptor engineDescriptor;
     private final Predicate<String> packageFilter;
     private final ConfigurationParameters parameters;
+    private final CucumberEngineOptions options;
     private final NamingStrategy namingStrategy;
+    private final TagSets tagSets = new TagSets();
+    private final Predicate<Pickle> pickleFilter;
 
     private FeatureResolver(
             ConfigurationParameters parameters, CucumberEngineDescriptor engineDescriptor,
@@ -55,20 +70,81 @@ final class FeatureResolver {
         this.engineDescriptor = engineDescriptor;
         this.packageFilter = packageFilter;
         CucumberEngineOptions options = new CucumberEngineOptions(parameters);
+        this.options = options;
         this.namingStrategy = options.namingStrategy();
-        CachingFeatureParser featureParser = createFeatureParser(options);
+        this.pickleFilter = createPickleFilter(options, tagSets);
+        this.executor = createExecutor(options.discoveryParallelism());
+        CachingFeatureParser featureParser = createFeatureParser(options, executor);
         this.featureScanner = new ResourceScanner<>(
             ClassLoaders::getDefaultClassLoader,
             FeatureIdentifier::isFeature,
-            featureParser::parseResource);
+            resource -> Optional.of(featureParser.parseResource(resource)));
     }
 
-    private static CachingFeatureParser createFeatureParser(CucumberEngineOptions options) {
+    private static ExecutorService createExecutor(int parallelism) {
+        if (parallelism < 2) {
+            return null;
+        }
+        // The feature parser is loaded from the context class loader
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "cucumber-discovery-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        });
+    }
+
+    private static CachingFeatureParser createFeatureParser(CucumberEngineOptions options, Executor executor) {
         Supplier<ClassLoader> classLoader = FeatureResolver.class::getClassLoader;
         UuidGeneratorServiceLoader uuidGeneratorServiceLoader = new UuidGeneratorServiceLoader(classLoader, options);
         UuidGenerator uuidGenerator = uuidGeneratorServiceLoader.loadUuidGenerator();
         FeatureParser featureParser = new FeatureParser(uuidGenerator::generateId);
-        return new CachingFeatureParser(featureParser);
+        return new CachingFeatureParser(featureParser, executor);
+    }
+
+    private static List<Feature> await(List<CompletableFuture<Optional<Feature>>> parsedFeatures) {
+        List<Feature> features = new ArrayList<>(parsedFeatures.size());
+        for (CompletableFuture<Optional<Feature>> parsedFeature : parsedFeatures) {
+            try {
+                parsedFeature.join().ifPresent(features::add);
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+        return features;
+    }
+
+    void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Predicate<Pickle> createPickleFilter(CucumberEngineOptions options, TagSets tagSets) {
+        Predicate<Pickle> filter = pickle -> true;
+        if (!options.isDiscoveryFilterEnabled()) {
+            return filter;
+        }
+        Optional<CompiledTagExpression> tagFilter = options.tagFilter();
+        if (tagFilter.isPresent()) {
+            CompiledTagExpression expression = tagFilter.get();
+            filter = filter.and(pickle -> expression.evaluate(tagSets.of(pickle)));
+        }
+        Optional<Pattern> nameFilter = options.nameFilter();
+        if (nameFilter.isPresent()) {
+            Pattern pattern = nameFilter.get();
+            filter = filter.and(pickle -> pattern.matcher(pickle.getName()).matches());
+        }
+        return filter;
     }
 
     static FeatureResolver create(
@@ -79,8 +155,7 @@ final class FeatureResolver {
     }
 
     void resolveFile(FileSelector selector) {
-        featureScanner
-                .scanForResourcesPath(selector.getPath())
+        await(featureScanner.scanForResourcesPath(selector.getPath()))
                 .stream()
                 .sorted(comparing(Feature::getUri))
                 .map(this::createFeatureDescriptor)
@@ -110,12 +185,17 @@ final class FeatureResolver {
                 return descriptor;
             }, (Node.Scenario node, TestDescriptor parent) -> {
                 Pickle pickle = feature.getPickleAt(node);
+                if (!pickleFilter.test(pickle)) {
+                    return parent;
+                }
                 TestDescriptor descriptor = new PickleDescriptor(
                     parameters,
+                    options,
                     source.scenarioSegment(parent.getUniqueId(), node),
                     namingStrategy.name(node),
                     source.nodeSource(node),
-                    pickle);
+                    pickle,
+                    tagSets.of(pickle));
                 parent.addChild(descriptor);
                 return descriptor;
             },
@@ -139,20 +219,24 @@ final class FeatureResolver {
             },
             (Node.Example node, TestDescriptor parent) -> {
                 Pickle pickle = feature.getPickleAt(node);
+                if (!pickleFilter.test(pickle)) {
+                    return parent;
+                }
                 PickleDescriptor descriptor = new PickleDescriptor(
                     parameters,
+                    options,
                     source.exampleSegment(parent.getUniqueId(), node),
                     namingStrategy.nameExample(node, pickle),
                     source.nodeSource(node),
-                    pickle);
+                    pickle,
+                    tagSets.of(pickle));
                 parent.addChild(descriptor);
                 return descriptor;
             });
     }
 
     void resolveDirectory(DirectorySelector selector) {
-        featureScanner
-                .scanForResourcesPath(selector.getPath())
+        await(featureScanner.scanForResourcesPath(selector.getPath()))
                 .stream()
                 .sorted(comparing(Feature::getUri))
                 .map(this::createFeatureDescriptor)
@@ -164,8 +248,8 @@ final class FeatureResolver {
     }
 
     private List<Feature> resolvePackageResource(String packageName) {
-        List<Feature> features = featureScanner
-                .scanForResourcesInPackage(packageName, packageFilter);
+        List<Feature> features = await(featureScanner
+                .scanForResourcesInPackage(packageName, packageFilter));
 
         features
                 .stream()
@@ -196,8 +280,7 @@ final class FeatureResolver {
     void resolveClasspathResource(ClasspathResourceSelector selector) {
         String classpathResourceName = selector.getClasspathResourceName();
 
-        featureScanner
-                .scanForClasspathResource(classpathResourceName, packageFilter)
+        await(featureScanner.scanForClasspathResource(classpathResourceName, packageFilter))
                 .stream()
                 .sorted(comparing(Feature::getUri))
                 .map(this::createFeatureDescriptor)
@@ -208,8 +291,7 @@ final class FeatureResolver {
     }
 
     void resolveClasspathRoot(ClasspathRootSelector selector) {
-        featureScanner
-                .scanForResourcesInClasspathRoot(selector.getClasspathRoot(), packageFilter)
+        await(featureScanner.scanForResourcesInClasspathRoot(selector.getClasspathRoot(), packageFilter))
                 .stream()
                 .sorted(comparing(Feature::getUri))
                 .map(this::createFeatureDescriptor)
@@ -243,8 +325,7 @@ final class FeatureResolver {
     }
 
     private Stream<FeatureDescriptor> resolveUri(URI uri) {
-        return featureScanner
-                .scanForResourcesUri(uri)
+        return await(featureScanner.scanForResourcesUri(uri))
                 .stream()
                 .sorted(comparing(Feature::getUri))
                 .map(this::createFeatureDescriptor);
@@ -1,19 +1,18 @@
 package io.cucumber.junit.platform.engine;
 
+import io.cucumber.core.filter.TagSet;
 import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.core.options.ParallelGranularity;
 import io.cucumber.core.resource.ClasspathSupport;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.TestSource;
 import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
-import org.junit.platform.engine.support.config.PrefixedConfigurationParameters;
 import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
 import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
 import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
-import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
 import org.junit.platform.engine.support.hierarchical.Node;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Locale;
@@ -21,10 +20,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
-import static io.cucumber.junit.platform.engine.Constants.EXECUTION_EXCLUSIVE_RESOURCES_PREFIX;
 import static io.cucumber.junit.platform.engine.Constants.EXECUTION_MODE_FEATURE_PROPERTY_NAME;
-import static io.cucumber.junit.platform.engine.Constants.READ_SUFFIX;
-import static io.cucumber.junit.platform.engine.Constants.READ_WRITE_SUFFIX;
+import static io.cucumber.junit.platform.engine.Constants.EXECUTION_PARALLEL_GRANULARITY_PROPERTY_NAME;
 import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toCollection;
 
@@ -37,7 +34,15 @@ abstract class NodeDescriptor extends AbstractTestDescriptor implements Node<Cuc
         this.executionMode = parameters
                 .get(EXECUTION_MODE_FEATURE_PROPERTY_NAME,
                     value -> ExecutionMode.valueOf(value.toUpperCase(Locale.US)))
-                .orElse(ExecutionMode.CONCURRENT);
+                .orElseGet(() -> defaultExecutionMode(parameters));
+    }
+
+    private static ExecutionMode defaultExecutionMode(ConfigurationParameters parameters) {
+        ParallelGranularity granularity = parameters
+                .get(EXECUTION_PARALLEL_GRANULARITY_PROPERTY_NAME,
+                    value -> ParallelGranularity.valueOf(value.toUpperCase(Locale.US)))
+                .orElse(ParallelGranularity.SCENARIO);
+        return granularity == ParallelGranularity.FEATURE ? ExecutionMode.SAME_THREAD : ExecutionMode.CONCURRENT;
     }
 
     @Override
@@ -90,25 +95,35 @@ abstract class NodeDescriptor extends AbstractTestDescriptor implements Node<Cuc
     static final class PickleDescriptor extends NodeDescriptor {
 
         private final Pickle pickle;
+        private final TagSet tagSet;
         private final Set<TestTag> tags;
-        private final Set<ExclusiveResource> exclusiveResources = new LinkedHashSet<>(0);
+        private final Set<ExclusiveResource> exclusiveResources;
 
         PickleDescriptor(
-                ConfigurationParameters parameters, UniqueId uniqueId, String name, TestSource source,
-                Pickle pickle
+                ConfigurationParameters parameters, CucumberEngineOptions options, UniqueId uniqueId, String name,
+                TestSource source, Pickle pickle, TagSet tagSet
         ) {
             super(parameters, uniqueId, name, source);
             this.pickle = pickle;
+            this.tagSet = tagSet;
             this.tags = getTags(pickle);
-            this.tags.forEach(tag -> {
-                ExclusiveResourceOptions exclusiveResourceOptions = new ExclusiveResourceOptions(parameters, tag);
-                exclusiveResourceOptions.exclusiveReadWriteResource()
-                        .map(resource -> new ExclusiveResource(resource, LockMode.READ_WRITE))
-                        .forEach(exclusiveResources::add);
-                exclusiveResourceOptions.exclusiveReadResource()
-                        .map(resource -> new ExclusiveResource(resource, LockMode.READ))
-                        .forEach(exclusiveResources::add);
-            });
+            this.exclusiveResources = getExclusiveResources(options, tags);
+        }
+
+        private static Set<ExclusiveResource> getExclusiveResources(CucumberEngineOptions options, Set<TestTag> tags) {
+            Set<ExclusiveResource> exclusiveResources = Collections.emptySet();
+            for (TestTag tag : tags) {
+                Set<ExclusiveResource> resources = options.exclusiveResources(tag);
+                if (resources.isEmpty()) {
+                    continue;
+                }
+                if (exclusiveResources.isEmpty()) {
+                    exclusiveResources = new LinkedHashSet<>(resources);
+                } else {
+                    exclusiveResources.addAll(resources);
+                }
+            }
+            return exclusiveResources;
         }
 
         Pickle getPickle() {
@@ -140,7 +155,7 @@ abstract class NodeDescriptor extends AbstractTestDescriptor implements Node<Cuc
 
         private Optional<SkipResult> shouldBeSkippedByTagFilter(CucumberEngineExecutionContext context) {
             return context.getOptions().tagFilter().map(expression -> {
-                if (expression.evaluate(pickle.getTags())) {
+                if (expression.evaluate(tagSet)) {
                     return SkipResult.doNotSkip();
                 }
                 return SkipResult
@@ -196,30 +211,6 @@ abstract class NodeDescriptor extends AbstractTestDescriptor implements Node<Cuc
                     .map(ClasspathSupport::packageNameOfResource);
         }
 
-        private static final class ExclusiveResourceOptions {
-
-            private final ConfigurationParameters parameters;
-
-            ExclusiveResourceOptions(ConfigurationParameters parameters, TestTag tag) {
-                this.parameters = new PrefixedConfigurationParameters(
-                    parameters,
-                    EXECUTION_EXCLUSIVE_RESOURCES_PREFIX + tag.getName());
-            }
-
-            public Stream<String> exclusiveReadWriteResource() {
-                return parameters.get(READ_WRITE_SUFFIX, s -> Arrays.stream(s.split(","))
-                        .map(String::trim))
-                        .orElse(Stream.empty());
-            }
-
-            public Stream<String> exclusiveReadResource() {
-                return parameters.get(READ_SUFFIX, s -> Arrays.stream(s.split(","))
-                        .map(String::trim))
-                        .orElse(Stream.empty());
-            }
-
-        }
-
     }
 
 }
@@ -1,34 +1,22 @@
 package io.cucumber.junit.platform.engine;
 
-import io.cucumber.core.eventbus.EventBus;
-import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.core.runner.TestCaseResult;
 import org.opentest4j.TestAbortedException;
 
 import java.util.function.Function;
 
-class TestCaseResultObserver implements AutoCloseable {
+final class TestCaseResultObserver {
 
-    private final io.cucumber.core.runtime.TestCaseResultObserver delegate;
-
-    private TestCaseResultObserver(EventPublisher bus) {
-        this.delegate = new io.cucumber.core.runtime.TestCaseResultObserver(bus);
-    }
-
-    static TestCaseResultObserver observe(EventBus bus) {
-        return new TestCaseResultObserver(bus);
+    private TestCaseResultObserver() {
     }
 
-    void assertTestCasePassed() {
-        delegate.assertTestCasePassed(
+    static void assertTestCasePassed(TestCaseResult testCaseResult) {
+        io.cucumber.core.runtime.TestCaseResultObserver.assertTestCasePassed(
+            testCaseResult,
             TestAbortedException::new,
             Function.identity(),
             UndefinedStepException::new,
             Function.identity());
     }
 
-    @Override
-    public void close() {
-        delegate.close();
-    }
-
 }
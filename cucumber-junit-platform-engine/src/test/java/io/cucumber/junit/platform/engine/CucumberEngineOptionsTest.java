@@ -6,9 +6,14 @@ import io.cucumber.core.plugin.Options;
 import io.cucumber.core.snippets.SnippetType;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
 
 import java.net.URI;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import static java.util.stream.Collectors.toList;
 import static org.hamcrest.CoreMatchers.is;
@@ -18,6 +23,7 @@ import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.core.IsIterableContaining.hasItem;
 import static org.hamcrest.core.IsIterableContaining.hasItems;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CucumberEngineOptionsTest {
@@ -136,6 +142,19 @@ class CucumberEngineOptionsTest {
         assertFalse(new CucumberEngineOptions(noDryRun).isDryRun());
     }
 
+    @Test
+    void getDataTableParallelTransformation() {
+        ConfigurationParameters disabled = new MapConfigurationParameters(new HashMap<>());
+        assertThat(new CucumberEngineOptions(disabled).getDataTableParallelTransformationThreshold(), is(0));
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put(Constants.DATATABLE_PARALLEL_TRANSFORMATION_THRESHOLD_PROPERTY_NAME, "500");
+        properties.put(Constants.DATATABLE_PARALLEL_TRANSFORMATION_PARALLELISM_PROPERTY_NAME, "4");
+        CucumberEngineOptions options = new CucumberEngineOptions(new MapConfigurationParameters(properties));
+        assertThat(options.getDataTableParallelTransformationThreshold(), is(500));
+        assertThat(options.getDataTableParallelTransformationParallelism(), is(4));
+    }
+
     @Test
     void getSnippetType() {
         ConfigurationParameters underscore = new MapConfigurationParameters(
@@ -185,4 +204,21 @@ class CucumberEngineOptionsTest {
         assertThat(new CucumberEngineOptions(configurationParameters).getUuidGeneratorClass(),
             is(IncrementingUuidGenerator.class));
     }
+
+    @Test
+    void getExclusiveResources() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("cucumber.execution.exclusive-resources.ResourceA.read-write", "resource-a, resource-b");
+        properties.put("cucumber.execution.exclusive-resources.ResourceA.read", "resource-c");
+        CucumberEngineOptions options = new CucumberEngineOptions(new MapConfigurationParameters(properties));
+
+        Set<ExclusiveResource> resources = options.exclusiveResources(TestTag.create("ResourceA"));
+        assertThat(resources, contains(
+            new ExclusiveResource("resource-a", LockMode.READ_WRITE),
+            new ExclusiveResource("resource-b", LockMode.READ_WRITE),
+            new ExclusiveResource("resource-c", LockMode.READ)));
+        assertSame(resources, options.exclusiveResources(TestTag.create("ResourceA")));
+        assertThat(options.exclusiveResources(TestTag.create("ResourceB")), empty());
+    }
+
 }
@@ -38,7 +38,13 @@ import java.util.logging.LogRecord;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static io.cucumber.junit.platform.engine.Constants.DISCOVERY_PARALLELISM_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.EXECUTION_SHARD_INDEX_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.EXECUTION_SHARD_TOTAL_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.FEATURES_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.FILTER_NAME_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.FILTER_TAGS_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.JUNIT_PLATFORM_DISCOVERY_FILTER_ENABLED_PROPERTY_NAME;
 import static java.util.Collections.singleton;
 import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toSet;
@@ -143,6 +149,57 @@ class DiscoverySelectorResolverTest {
         assertEquals(unsorted, sorted);
     }
 
+    @Test
+    void resolveFeatureTestDescriptorsInUriOrderWithDiscoveryParallelism() {
+        Path classpathRoot = Paths.get("src/test/resources/");
+        DiscoverySelector resource = selectClasspathRoots(singleton(classpathRoot)).get(0);
+        resolver.resolveSelectors(new SelectorRequest(resource), testDescriptor);
+
+        ConfigurationParameters parameters = new MapConfigurationParameters(
+            DISCOVERY_PARALLELISM_PROPERTY_NAME, "4");
+        CucumberEngineDescriptor parallelTestDescriptor = new CucumberEngineDescriptor(testDescriptor.getUniqueId());
+        resolver.resolveSelectors(new SelectorRequest(parameters, resource), parallelTestDescriptor);
+
+        assertEquals(uniqueIds(testDescriptor), uniqueIds(parallelTestDescriptor));
+    }
+
+    @Test
+    void resolveRequestWithShardsPartitionsScenarios() {
+        Path classpathRoot = Paths.get("src/test/resources/");
+        DiscoverySelector resource = selectClasspathRoots(singleton(classpathRoot)).get(0);
+        resolver.resolveSelectors(new SelectorRequest(resource), testDescriptor);
+
+        Set<UniqueId> sharded = new HashSet<>();
+        int scenarios = 0;
+        for (int index = 0; index < 3; index++) {
+            Map<String, String> properties = new HashMap<>();
+            properties.put(EXECUTION_SHARD_INDEX_PROPERTY_NAME, String.valueOf(index));
+            properties.put(EXECUTION_SHARD_TOTAL_PROPERTY_NAME, "3");
+            ConfigurationParameters parameters = new MapConfigurationParameters(properties);
+            CucumberEngineDescriptor shardDescriptor = new CucumberEngineDescriptor(testDescriptor.getUniqueId());
+            resolver.resolveSelectors(new SelectorRequest(parameters, resource), shardDescriptor);
+            Set<UniqueId> shard = testIds(shardDescriptor);
+            scenarios += shard.size();
+            sharded.addAll(shard);
+        }
+
+        assertEquals(testIds(testDescriptor), sharded);
+        assertEquals(sharded.size(), scenarios);
+    }
+
+    private static Set<UniqueId> testIds(TestDescriptor descriptor) {
+        return descriptor.getDescendants().stream()
+                .filter(TestDescriptor::isTest)
+                .map(TestDescriptor::getUniqueId)
+                .collect(toSet());
+    }
+
+    private static List<UniqueId> uniqueIds(TestDescriptor descriptor) {
+        List<UniqueId> uniqueIds = new ArrayList<>();
+        descriptor.accept(child -> uniqueIds.add(child.getUniqueId()));
+        return uniqueIds;
+    }
+
     @Test
     void resolveRequestWithUriSelectorWithScenarioOutlineLine() {
         File file = new File("src/test/resources/io/cucumber/junit/platform/engine/feature-with-outline.feature");
@@ -206,6 +263,56 @@ class DiscoverySelectorResolverTest {
         assertEquals(2, tests.size());
     }
 
+    @Test
+    void resolveRequestWithDiscoveryFilterRemovesScenariosThatDoNotMatchTags() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(JUNIT_PLATFORM_DISCOVERY_FILTER_ENABLED_PROPERTY_NAME, "true");
+        properties.put(FILTER_TAGS_PROPERTY_NAME, "@Example2Tag or @ScenarioTag");
+        ConfigurationParameters parameters = new MapConfigurationParameters(properties);
+        DiscoverySelector resource = selectClasspathResource(
+            "io/cucumber/junit/platform/engine/feature-with-outline.feature");
+        EngineDiscoveryRequest discoveryRequest = new SelectorRequest(parameters, resource);
+        resolver.resolveSelectors(discoveryRequest, testDescriptor);
+
+        Set<String> tests = testDescriptor.getDescendants().stream()
+                .filter(TestDescriptor::isTest)
+                .map(TestDescriptor::getDisplayName)
+                .collect(toSet());
+        assertEquals(new HashSet<>(Arrays.asList("A scenario", "Example #2.1", "Example #2.2")), tests);
+        // The outline with only non-matching examples is removed entirely
+        assertEquals(1, testDescriptor.getChildren().size());
+        TestDescriptor feature = testDescriptor.getChildren().iterator().next();
+        assertEquals(2, feature.getChildren().size());
+    }
+
+    @Test
+    void resolveRequestWithDiscoveryFilterRemovesScenariosThatDoNotMatchName() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(JUNIT_PLATFORM_DISCOVERY_FILTER_ENABLED_PROPERTY_NAME, "true");
+        properties.put(FILTER_NAME_PROPERTY_NAME, "^Nothing$");
+        ConfigurationParameters parameters = new MapConfigurationParameters(properties);
+        DiscoverySelector resource = selectClasspathResource(
+            "io/cucumber/junit/platform/engine/feature-with-outline.feature");
+        EngineDiscoveryRequest discoveryRequest = new SelectorRequest(parameters, resource);
+        resolver.resolveSelectors(discoveryRequest, testDescriptor);
+
+        assertEquals(0, testDescriptor.getChildren().size());
+    }
+
+    @Test
+    void resolveRequestWithoutDiscoveryFilterRetainsScenariosThatDoNotMatchTags() {
+        ConfigurationParameters parameters = new MapConfigurationParameters(FILTER_TAGS_PROPERTY_NAME, "@Nothing");
+        DiscoverySelector resource = selectClasspathResource(
+            "io/cucumber/junit/platform/engine/feature-with-outline.feature");
+        EngineDiscoveryRequest discoveryRequest = new SelectorRequest(parameters, resource);
+        resolver.resolveSelectors(discoveryRequest, testDescriptor);
+
+        long tests = testDescriptor.getDescendants().stream()
+                .filter(TestDescriptor::isTest)
+                .count();
+        assertEquals(7, tests);
+    }
+
     @Test
     void resolveRequestWithUriSelectorThroughPropertyIgnoresOtherSelectors() {
         URI uri1 = URI.create("classpath:/io/cucumber/junit/platform/engine/feature-with-outline.feature:19");
@@ -0,0 +1,88 @@
+package io.cucumber.junit.platform.engine;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Measures looking up the exclusive resources of the pickles found during
+ * discovery.
+ * <p>
+ * Compares {@link CucumberEngineOptions} shared by all pickles, as the
+ * {@link FeatureResolver} does, with options created for each pickle. The
+ * latter parses the configuration of every tag of every pickle again, as each
+ * {@code PickleDescriptor} did before the parsed resources were kept.
+ * <p>
+ * Like the benchmarks in cucumber-core this is a plain main class that is not
+ * run by the build. The median CPU time of the current thread is reported.
+ */
+public class ExclusiveResourcesBenchmark {
+
+    private static final int PICKLES = 100_000;
+    private static final int WARMUPS = 3;
+    private static final int ITERATIONS = 10;
+
+    private static final List<TestTag> tags = Arrays.asList(
+        TestTag.create("database"),
+        TestTag.create("smoke"),
+        TestTag.create("browser"));
+
+    public static void main(String[] args) {
+        ConfigurationParameters parameters = createConfigurationParameters();
+        CucumberEngineOptions shared = new CucumberEngineOptions(parameters);
+        System.out.printf("%-30s %12s %12s%n", "workload", "resources", "cpu (ms)");
+        measure("shared options", () -> shared);
+        measure("options per pickle", () -> new CucumberEngineOptions(parameters));
+    }
+
+    private static ConfigurationParameters createConfigurationParameters() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put(Constants.EXECUTION_EXCLUSIVE_RESOURCES_PREFIX + "database" + Constants.READ_WRITE_SUFFIX,
+            "orders, customers, invoices");
+        parameters.put(Constants.EXECUTION_EXCLUSIVE_RESOURCES_PREFIX + "database" + Constants.READ_SUFFIX,
+            "products");
+        parameters.put(Constants.EXECUTION_EXCLUSIVE_RESOURCES_PREFIX + "browser" + Constants.READ_WRITE_SUFFIX,
+            "selenium");
+        return new MapConfigurationParameters(parameters);
+    }
+
+    private static void measure(String name, Supplier<CucumberEngineOptions> options) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUPS; i++) {
+            discover(options);
+        }
+        long[] cpuTimes = new long[ITERATIONS];
+        long resources = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = threads.getCurrentThreadCpuTime();
+            resources = discover(options);
+            cpuTimes[i] = threads.getCurrentThreadCpuTime() - start;
+        }
+        Arrays.sort(cpuTimes);
+        System.out.printf("%-30s %12d %12d%n", name, resources, NANOSECONDS.toMillis(cpuTimes[ITERATIONS / 2]));
+    }
+
+    private static long discover(Supplier<CucumberEngineOptions> options) {
+        long resources = 0;
+        for (int i = 0; i < PICKLES; i++) {
+            CucumberEngineOptions pickleOptions = options.get();
+            for (TestTag tag : tags) {
+                Set<ExclusiveResource> exclusiveResources = pickleOptions.exclusiveResources(tag);
+                resources += exclusiveResources.size();
+            }
+        }
+        return resources;
+    }
+
+}
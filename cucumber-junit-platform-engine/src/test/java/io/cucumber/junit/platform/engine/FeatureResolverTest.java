@@ -20,6 +20,7 @@ import java.util.stream.Collectors;
 import static io.cucumber.core.resource.ClasspathSupport.CLASSPATH_SCHEME_PREFIX;
 import static io.cucumber.junit.platform.engine.Constants.EXECUTION_EXCLUSIVE_RESOURCES_PREFIX;
 import static io.cucumber.junit.platform.engine.Constants.EXECUTION_MODE_FEATURE_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.EXECUTION_PARALLEL_GRANULARITY_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.JUNIT_PLATFORM_LONG_NAMING_STRATEGY_EXAMPLE_NAME_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.JUNIT_PLATFORM_NAMING_STRATEGY_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.JUNIT_PLATFORM_SHORT_NAMING_STRATEGY_EXAMPLE_NAME_PROPERTY_NAME;
@@ -217,6 +218,17 @@ class FeatureResolverTest {
         getPickles().forEach(pickle -> assertEquals(Node.ExecutionMode.SAME_THREAD, pickle.getExecutionMode()));
     }
 
+    @Test
+    void featureGranularityExecutesScenariosInSameThreadAsFeature() {
+        configurationParameters = new MapConfigurationParameters(
+            EXECUTION_PARALLEL_GRANULARITY_PROPERTY_NAME, "feature");
+
+        assertTrue(getNodes().size() > 0);
+        assertTrue(getPickles().size() > 0);
+        getNodes().forEach(node -> assertEquals(Node.ExecutionMode.SAME_THREAD, node.getExecutionMode()));
+        getPickles().forEach(pickle -> assertEquals(Node.ExecutionMode.SAME_THREAD, pickle.getExecutionMode()));
+    }
+
     private Set<NodeDescriptor> getNodes() {
         return getFeature().getChildren().stream()
                 .filter(TestDescriptor::isContainer)
@@ -3,6 +3,7 @@ package io.cucumber.junit;
 import io.cucumber.core.eventbus.EventBus;
 import io.cucumber.core.feature.FeatureParser;
 import io.cucumber.core.filter.Filters;
+import io.cucumber.core.filter.TagSets;
 import io.cucumber.core.gherkin.Feature;
 import io.cucumber.core.gherkin.Pickle;
 import io.cucumber.core.options.Constants;
@@ -77,6 +78,11 @@ import static java.util.stream.Collectors.toList;
  * </ol>
  * For available properties see {@link Constants}.
  * <p>
+ * Scenarios can be executed in parallel by setting the
+ * {@code cucumber.junit.parallelism} property to the number of threads to use.
+ * Unlike a {@link RunnerScheduler} set by a build tool, which runs features
+ * in parallel, this also runs the scenarios of a single feature in parallel.
+ * <p>
  * Cucumber also supports JUnits {@link ClassRule}, {@link BeforeClass} and
  * {@link AfterClass} annotations. These will be executed before and after all
  * scenarios. Using these is not recommended as it limits the portability
@@ -93,6 +99,7 @@ public final class Cucumber extends ParentRunner<ParentRunner<?>> {
     private final EventBus bus;
     private final Plugins plugins;
     private final CucumberExecutionContext context;
+    private final ParallelScheduler parallelScheduler;
 
     private boolean multiThreadingAssumed = false;
 
@@ -150,7 +157,8 @@ public final class Cucumber extends ParentRunner<ParentRunner<?>> {
         UuidGeneratorServiceLoader uuidGeneratorServiceLoader = new UuidGeneratorServiceLoader(classLoader,
             runtimeOptions);
         this.bus = synchronize(
-            new TimeServiceEventBus(Clock.systemUTC(), uuidGeneratorServiceLoader.loadUuidGenerator()));
+            new TimeServiceEventBus(Clock.systemUTC(), System::nanoTime,
+                uuidGeneratorServiceLoader.loadUuidGenerator()));
 
         // Parse the features early. Don't proceed when there are lexer errors
         FeatureParser parser = new FeatureParser(bus::generateId);
@@ -168,10 +176,11 @@ public final class Cucumber extends ParentRunner<ParentRunner<?>> {
             runtimeOptions);
         ObjectFactorySupplier objectFactorySupplier = new ThreadLocalObjectFactorySupplier(objectFactoryServiceLoader);
         BackendSupplier backendSupplier = new BackendServiceLoader(clazz::getClassLoader, objectFactorySupplier);
+        TagSets tagSets = new TagSets();
         ThreadLocalRunnerSupplier runnerSupplier = new ThreadLocalRunnerSupplier(runtimeOptions, bus, backendSupplier,
-            objectFactorySupplier);
+            objectFactorySupplier, tagSets);
         this.context = new CucumberExecutionContext(bus, exitStatus, runnerSupplier);
-        Predicate<Pickle> filters = new Filters(runtimeOptions);
+        Predicate<Pickle> filters = new Filters(runtimeOptions, tagSets);
 
         Map<Optional<String>, List<Feature>> groupedByName = features.stream()
                 .collect(groupingBy(Feature::getName));
@@ -182,6 +191,14 @@ public final class Cucumber extends ParentRunner<ParentRunner<?>> {
                 })
                 .filter(runner -> !runner.isEmpty())
                 .collect(toList());
+
+        if (junitOptions.parallelism() > 1) {
+            this.parallelScheduler = new ParallelScheduler(junitOptions.parallelism());
+            this.children.forEach(runner -> runner.setScheduler(parallelScheduler.forScenarios()));
+            setScheduler(parallelScheduler.forFeatures());
+        } else {
+            this.parallelScheduler = null;
+        }
     }
 
     @Override
@@ -226,7 +243,13 @@ public final class Cucumber extends ParentRunner<ParentRunner<?>> {
             } else {
                 plugins.setEventBusOnEventListenerPlugins(bus);
             }
-            context.runFeatures(next::evaluate);
+            try {
+                context.runFeatures(next::evaluate);
+            } finally {
+                if (parallelScheduler != null) {
+                    parallelScheduler.shutdown();
+                }
+            }
         }
     }
 
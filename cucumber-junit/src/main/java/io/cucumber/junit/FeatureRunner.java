@@ -135,6 +135,12 @@ final class FeatureRunner extends ParentRunner<PickleRunner> {
     public void run(RunNotifier notifier) {
         context.beforeFeature(feature);
         super.run(notifier);
+        try {
+            context.runAfterFeatureHooks();
+        } catch (Throwable t) {
+            // Collected in CucumberExecutionContext
+            rethrowIfUnrecoverable(t);
+        }
     }
 
     @Override
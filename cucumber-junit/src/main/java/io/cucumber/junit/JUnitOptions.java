@@ -4,6 +4,7 @@ final class JUnitOptions {
 
     private boolean filenameCompatibleNames = false;
     private boolean stepNotifications = false;
+    private int parallelism = 1;
 
     boolean filenameCompatibleNames() {
         return filenameCompatibleNames;
@@ -13,6 +14,10 @@ final class JUnitOptions {
         return stepNotifications;
     }
 
+    int parallelism() {
+        return parallelism;
+    }
+
     void setFilenameCompatibleNames(boolean filenameCompatibleNames) {
         this.filenameCompatibleNames = filenameCompatibleNames;
     }
@@ -21,4 +26,8 @@ final class JUnitOptions {
         this.stepNotifications = stepNotifications;
     }
 
+    void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
 }
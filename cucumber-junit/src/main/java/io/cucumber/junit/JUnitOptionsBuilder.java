@@ -4,6 +4,7 @@ final class JUnitOptionsBuilder {
 
     private Boolean filenameCompatibleNames = null;
     private Boolean stepNotifications = null;
+    private Integer parallelism = null;
 
     JUnitOptions build() {
         JUnitOptions jUnitOptions = new JUnitOptions();
@@ -17,6 +18,9 @@ final class JUnitOptionsBuilder {
         if (stepNotifications != null) {
             jUnitOptions.setStepNotifications(stepNotifications);
         }
+        if (parallelism != null) {
+            jUnitOptions.setParallelism(parallelism);
+        }
         return jUnitOptions;
     }
 
@@ -30,4 +34,9 @@ final class JUnitOptionsBuilder {
         return this;
     }
 
+    JUnitOptionsBuilder setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
 }
@@ -1,13 +1,34 @@
 package io.cucumber.junit;
 
+import io.cucumber.core.exception.CucumberException;
+
 import java.util.Map;
 
 final class JUnitOptionsParser {
 
+    static final String PARALLELISM_PROPERTY_NAME = "cucumber.junit.parallelism";
+
     JUnitOptionsBuilder parse(Map<String, String> properties) {
-        // TODO: Nothing to parse yet. See
-        // https://github.com/cucumber/cucumber-jvm/issues/1675
-        return new JUnitOptionsBuilder();
+        JUnitOptionsBuilder args = new JUnitOptionsBuilder();
+        String parallelism = properties.get(PARALLELISM_PROPERTY_NAME);
+        if (parallelism != null && !parallelism.isEmpty()) {
+            args.setParallelism(parseParallelism(parallelism));
+        }
+        return args;
+    }
+
+    private static int parseParallelism(String property) {
+        try {
+            int parallelism = Integer.parseInt(property.trim());
+            if (parallelism > 0) {
+                return parallelism;
+            }
+        } catch (NumberFormatException ignored) {
+            // fall through
+        }
+        throw new CucumberException(
+            "Failed to parse '" + PARALLELISM_PROPERTY_NAME + "' with value '" + property
+                    + "'. Expected a positive integer");
     }
 
     JUnitOptionsBuilder parse(Class<?> clazz) {
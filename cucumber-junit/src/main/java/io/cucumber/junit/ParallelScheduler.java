@@ -0,0 +1,115 @@
+package io.cucumber.junit;
+
+import io.cucumber.core.exception.CucumberException;
+import org.junit.runners.model.RunnerScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs scenarios of all features on a shared pool of threads.
+ * <p>
+ * Features are started on a separate pool of the same size. A feature only
+ * finishes once all its scenarios have finished. This keeps the test suite
+ * started and finished notifications of each feature around the notifications
+ * of its scenarios, while the scenarios of a single large feature can still use
+ * all threads.
+ */
+final class ParallelScheduler {
+
+    private final int parallelism;
+    private ExecutorService featureExecutor;
+    private ExecutorService scenarioExecutor;
+
+    ParallelScheduler(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    RunnerScheduler forFeatures() {
+        return new WaitingScheduler(this::getFeatureExecutor);
+    }
+
+    RunnerScheduler forScenarios() {
+        return new WaitingScheduler(this::getScenarioExecutor);
+    }
+
+    private synchronized ExecutorService getFeatureExecutor() {
+        if (featureExecutor == null) {
+            featureExecutor = createExecutor("cucumber-feature-");
+        }
+        return featureExecutor;
+    }
+
+    private synchronized ExecutorService getScenarioExecutor() {
+        if (scenarioExecutor == null) {
+            scenarioExecutor = createExecutor("cucumber-scenario-");
+        }
+        return scenarioExecutor;
+    }
+
+    private ExecutorService createExecutor(String threadNamePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    synchronized void shutdown() {
+        if (featureExecutor != null) {
+            featureExecutor.shutdown();
+            featureExecutor = null;
+        }
+        if (scenarioExecutor != null) {
+            scenarioExecutor.shutdown();
+            scenarioExecutor = null;
+        }
+    }
+
+    private static final class WaitingScheduler implements RunnerScheduler {
+
+        private final Supplier<ExecutorService> executor;
+        private final List<Future<?>> scheduled = new ArrayList<>();
+
+        private WaitingScheduler(Supplier<ExecutorService> executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public void schedule(Runnable childStatement) {
+            scheduled.add(executor.get().submit(childStatement));
+        }
+
+        @Override
+        public void finished() {
+            try {
+                for (Future<?> future : scheduled) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CucumberException("Interrupted while waiting for scenarios to finish", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new CucumberException(cause);
+            } finally {
+                scheduled.clear();
+            }
+        }
+
+    }
+
+}
@@ -133,6 +133,41 @@ class CucumberTest {
         }
     }
 
+    @Test
+    void cucumber_can_run_scenarios_in_parallel() throws Exception {
+        System.setProperty("cucumber.junit.parallelism", "4");
+        try {
+            Cucumber cucumber = new Cucumber(ValidEmpty.class);
+            RunNotifier notifier = new RunNotifier();
+            RunListener listener = Mockito.mock(RunListener.class);
+            notifier.addListener(listener);
+            cucumber.run(notifier);
+
+            int scenarios = cucumber.getDescription().testCount();
+            Mockito.verify(listener, Mockito.times(scenarios)).testStarted(Mockito.any());
+            Mockito.verify(listener, Mockito.times(scenarios)).testFinished(Mockito.any());
+
+            InOrder order = Mockito.inOrder(listener);
+            order.verify(listener).testStarted(argThat(new DescriptionMatcher("C #3(Feature B)")));
+            order.verify(listener).testFinished(argThat(new DescriptionMatcher("C #3(Feature B)")));
+        } finally {
+            System.clearProperty("cucumber.junit.parallelism");
+        }
+    }
+
+    @Test
+    void cucumber_rejects_invalid_parallelism() {
+        System.setProperty("cucumber.junit.parallelism", "0");
+        try {
+            Executable testMethod = () -> new Cucumber(ValidEmpty.class);
+            CucumberException expectedThrown = assertThrows(CucumberException.class, testMethod);
+            assertThat(expectedThrown.getMessage(), is(equalTo(
+                "Failed to parse 'cucumber.junit.parallelism' with value '0'. Expected a positive integer")));
+        } finally {
+            System.clearProperty("cucumber.junit.parallelism");
+        }
+    }
+
     @Test
     void cucumber_distinguishes_between_identical_features() throws Exception {
         RunNotifier notifier = new RunNotifier();
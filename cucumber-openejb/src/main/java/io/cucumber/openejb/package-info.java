@@ -3,5 +3,9 @@
  * <p>
  * By including the <code>cucumber-openejb</code> on your <code>CLASSPATH</code>
  * your step definitions will be instantiated by OpenEJB.
+ * <p>
+ * By default the embedded container is created for each scenario. Set the
+ * <code>cucumber.openejb.reuse-container</code> property to <code>true</code> to create it
+ * once per thread and reuse it between scenarios.
  */
 package io.cucumber.openejb;
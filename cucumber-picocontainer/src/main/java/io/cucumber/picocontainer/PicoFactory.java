@@ -1,22 +1,58 @@
 package io.cucumber.picocontainer;
 
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.options.CucumberProperties;
 import org.apiguardian.api.API;
+import org.picocontainer.ComponentAdapter;
+import org.picocontainer.ComponentMonitor;
 import org.picocontainer.MutablePicoContainer;
 import org.picocontainer.PicoBuilder;
 import org.picocontainer.behaviors.Cached;
 import org.picocontainer.lifecycle.DefaultLifecycleState;
+import org.picocontainer.lifecycle.StartableLifecycleStrategy;
+import org.picocontainer.monitors.NullComponentMonitor;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @API(status = API.Status.STABLE)
 public final class PicoFactory implements ObjectFactory {
 
+    /**
+     * Property name used to start components lazily: {@value}
+     * <p>
+     * Value must be {@code true} or {@code false}. By default, all
+     * {@link org.picocontainer.Startable} and
+     * {@link org.picocontainer.Disposable} components are instantiated and
+     * started when a scenario starts. When {@code true}, these components are
+     * only instantiated and started when a scenario uses them.
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+    public static final String LAZY_LIFECYCLE_PROPERTY_NAME = "cucumber.picocontainer.lazy-lifecycle";
+
     private final Set<Class<?>> classes = new HashSet<>();
+    private final Map<Class<?>, Object> instances = new HashMap<>();
+    private final List<Cached<?>> cachedAdapters = new ArrayList<>();
     private MutablePicoContainer pico;
+    private MutablePicoContainer runPico;
+    private final boolean lazyLifecycle;
+    private Thread disposeRunPicoOnShutdown;
+
+    public PicoFactory() {
+        this(Boolean.parseBoolean(CucumberProperties.create().get(LAZY_LIFECYCLE_PROPERTY_NAME)));
+    }
+
+    PicoFactory(boolean lazyLifecycle) {
+        this.lazyLifecycle = lazyLifecycle;
+    }
 
     private static boolean isInstantiable(Class<?> clazz) {
         boolean isNonStaticInnerClass = !Modifier.isStatic(clazz.getModifiers()) && clazz.getEnclosingClass() != null;
@@ -27,26 +63,98 @@ public final class PicoFactory implements ObjectFactory {
     @Override
     public void start() {
         if (pico == null) {
-            pico = new PicoBuilder()
-                    .withCaching()
-                    .withLifecycle()
-                    .build();
+            Set<Class<?>> runScopedClasses = findRunScopedClasses();
+            if (!runScopedClasses.isEmpty()) {
+                // Run scoped components are always created when first used
+                runPico = createContainer(new PicoBuilder(), true);
+                for (Class<?> clazz : runScopedClasses) {
+                    runPico.addComponent(clazz);
+                }
+                runPico.start();
+                // Disposed when the test run finishes. The shutdown hook is a
+                // fallback for runners that do not finish the test run.
+                disposeRunPicoOnShutdown = new Thread(this::dispose, "cucumber-picocontainer-shutdown");
+                Runtime.getRuntime().addShutdownHook(disposeRunPicoOnShutdown);
+            }
+            pico = createContainer(runPico == null ? new PicoBuilder() : new PicoBuilder(runPico), lazyLifecycle);
             for (Class<?> clazz : classes) {
-                pico.addComponent(clazz);
+                if (!runScopedClasses.contains(clazz)) {
+                    pico.addComponent(clazz);
+                }
+            }
+            for (ComponentAdapter<?> adapter : pico.getComponentAdapters()) {
+                cachedAdapters.add((Cached<?>) adapter);
             }
         } else {
             // we already get a pico container which is in "disposed" lifecycle,
             // so recycle it by defining a new lifecycle and removing all
             // instances
             pico.setLifecycleState(new DefaultLifecycleState());
-            pico.getComponentAdapters()
-                    .forEach(cached -> ((Cached<?>) cached).flush());
+            for (Cached<?> cached : cachedAdapters) {
+                cached.flush();
+            }
         }
         pico.start();
     }
 
+    private static MutablePicoContainer createContainer(PicoBuilder builder, boolean lazyLifecycle) {
+        ComponentMonitor monitor = new NullComponentMonitor();
+        return builder
+                .withCaching()
+                .withLifecycle(lazyLifecycle
+                        ? new LazyStartableLifecycleStrategy(monitor)
+                        : new StartableLifecycleStrategy(monitor))
+                .build();
+    }
+
+    /**
+     * Run scoped classes are held by the parent container. Because a parent
+     * container can not see the components of its children, all constructor
+     * dependencies of a run scoped class are run scoped as well.
+     */
+    private Set<Class<?>> findRunScopedClasses() {
+        Set<Class<?>> runScoped = new HashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        for (Class<?> clazz : classes) {
+            if (clazz.isAnnotationPresent(RunScoped.class)) {
+                queue.add(clazz);
+            }
+        }
+        while (!queue.isEmpty()) {
+            Class<?> clazz = queue.remove();
+            if (runScoped.add(clazz)) {
+                for (Constructor<?> constructor : clazz.getConstructors()) {
+                    for (Class<?> paramClazz : constructor.getParameterTypes()) {
+                        if (classes.contains(paramClazz)) {
+                            queue.add(paramClazz);
+                        }
+                    }
+                }
+            }
+        }
+        return runScoped;
+    }
+
+    @Override
+    public synchronized void dispose() {
+        if (disposeRunPicoOnShutdown != null && Thread.currentThread() != disposeRunPicoOnShutdown) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(disposeRunPicoOnShutdown);
+            } catch (IllegalStateException e) {
+                // Already shutting down
+            }
+        }
+        disposeRunPicoOnShutdown = null;
+        if (runPico != null) {
+            runPico.stop();
+            runPico.dispose();
+            runPico = null;
+        }
+    }
+
     @Override
     public void stop() {
+        instances.clear();
         pico.stop();
         pico.dispose();
     }
@@ -61,7 +169,16 @@ public final class PicoFactory implements ObjectFactory {
 
     @Override
     public <T> T getInstance(Class<T> type) {
-        return pico.getComponent(type);
+        // Step definitions and hooks look up their instance on every
+        // invocation. Avoid resolving the same component through pico again.
+        Object instance = instances.get(type);
+        if (instance == null) {
+            instance = pico.getComponent(type);
+            if (instance != null) {
+                instances.put(type, instance);
+            }
+        }
+        return type.cast(instance);
     }
 
     private void addConstructorDependencies(Class<?> clazz) {
@@ -72,4 +189,22 @@ public final class PicoFactory implements ObjectFactory {
         }
     }
 
+    /**
+     * Components are only instantiated when a scenario uses them. Startable
+     * components are started when they are first used rather than when the
+     * container is started. Only components that were started are stopped.
+     */
+    private static final class LazyStartableLifecycleStrategy extends StartableLifecycleStrategy {
+
+        LazyStartableLifecycleStrategy(ComponentMonitor monitor) {
+            super(monitor);
+        }
+
+        @Override
+        public boolean isLazy(ComponentAdapter<?> adapter) {
+            return true;
+        }
+
+    }
+
 }
@@ -0,0 +1,35 @@
+package io.cucumber.picocontainer;
+
+import org.apiguardian.api.API;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class as run scoped.
+ * <p>
+ * By default all glue classes and their dependencies are created for each
+ * scenario. A run scoped class is instead created once, when it is first used,
+ * and shared by all scenarios executed by the same object factory. Scenario
+ * scoped classes may depend on run scoped classes, but not the other way
+ * around. All constructor dependencies of a run scoped class are run scoped as
+ * well.
+ * <p>
+ * Run scoped classes that implement {@code org.picocontainer.Startable} or
+ * {@code org.picocontainer.Disposable} are stopped and disposed when the JVM
+ * shuts down.
+ * <p>
+ * Note: A run scoped instance is shared between all scenarios executed by the
+ * same object factory. When scenarios are executed in parallel each thread
+ * uses its own object factory and thus its own instance.
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface RunScoped {
+
+}
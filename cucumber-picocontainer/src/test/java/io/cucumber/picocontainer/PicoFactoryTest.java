@@ -2,13 +2,16 @@ package io.cucumber.picocontainer;
 
 import io.cucumber.core.backend.ObjectFactory;
 import org.junit.jupiter.api.Test;
+import org.picocontainer.Startable;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PicoFactoryTest {
@@ -79,6 +82,114 @@ class PicoFactoryTest {
         assertTrue(steps.getBelly().isDisposed());
     }
 
+    @Test
+    void shouldStartUnusedLifeCycleComponentsByDefault() {
+        ObjectFactory factory = new PicoFactory();
+        factory.addClass(StepDefinitions.class);
+        factory.addClass(StartableSteps.class);
+        StartableSteps.instances = 0;
+
+        factory.start();
+        factory.getInstance(StepDefinitions.class);
+        factory.stop();
+
+        assertEquals(1, StartableSteps.instances);
+    }
+
+    @Test
+    void shouldNotInstantiateUnusedLifeCycleComponentsWithLazyLifecycle() {
+        ObjectFactory factory = new PicoFactory(true);
+        factory.addClass(StepDefinitions.class);
+        factory.addClass(StartableSteps.class);
+        StartableSteps.instances = 0;
+
+        factory.start();
+        StepDefinitions steps = factory.getInstance(StepDefinitions.class);
+        factory.stop();
+
+        assertAll(
+            () -> assertTrue(steps.getBelly().isDisposed()),
+            () -> assertEquals(0, StartableSteps.instances));
+    }
+
+    @Test
+    void shouldStartLifeCycleComponentsForEachScenario() {
+        ObjectFactory factory = new PicoFactory();
+        factory.addClass(StartableSteps.class);
+
+        // Scenario 1
+        factory.start();
+        StartableSteps o1 = factory.getInstance(StartableSteps.class);
+        assertSame(o1, factory.getInstance(StartableSteps.class));
+        factory.stop();
+
+        // Scenario 2
+        factory.start();
+        StartableSteps o2 = factory.getInstance(StartableSteps.class);
+        factory.stop();
+
+        assertAll(
+            () -> assertNotSame(o1, o2),
+            () -> assertTrue(o1.started),
+            () -> assertTrue(o1.stopped),
+            () -> assertTrue(o2.started),
+            () -> assertTrue(o2.stopped));
+    }
+
+    @Test
+    void shouldShareRunScopedInstancesBetweenScenarios() {
+        PicoFactory factory = new PicoFactory();
+        factory.addClass(StepsWithRunScopedDependency.class);
+
+        // Scenario 1
+        factory.start();
+        StepsWithRunScopedDependency o1 = factory.getInstance(StepsWithRunScopedDependency.class);
+        factory.stop();
+
+        // Scenario 2
+        factory.start();
+        StepsWithRunScopedDependency o2 = factory.getInstance(StepsWithRunScopedDependency.class);
+        factory.stop();
+
+        try {
+            assertAll(
+                () -> assertNotSame(o1, o2),
+                () -> assertNotSame(o1.belly, o2.belly),
+                () -> assertSame(o1.runScoped, o2.runScoped),
+                () -> assertSame(o1.runScoped.dependency, o2.runScoped.dependency),
+                () -> assertTrue(o1.runScoped.started),
+                () -> assertFalse(o1.runScoped.stopped));
+        } finally {
+            factory.dispose();
+        }
+
+        assertTrue(o1.runScoped.stopped);
+    }
+
+    @Test
+    void shouldStopRunScopedInstancesOnceWhenDisposed() {
+        PicoFactory factory = new PicoFactory();
+        factory.addClass(StepsWithRunScopedDependency.class);
+
+        // Scenario 1
+        factory.start();
+        StepsWithRunScopedDependency o1 = factory.getInstance(StepsWithRunScopedDependency.class);
+        factory.stop();
+
+        // Scenario 2
+        factory.start();
+        factory.getInstance(StepsWithRunScopedDependency.class);
+        factory.stop();
+
+        assertEquals(0, o1.runScoped.stops);
+
+        // Test run finished, the shutdown hook does not stop them again
+        factory.dispose();
+        factory.dispose();
+
+        assertEquals(1, o1.runScoped.stops);
+    }
+
     @Test
     void public_non_static_inner_classes_are_not_instantiable() {
         ObjectFactory factory = new PicoFactory();
@@ -88,6 +199,69 @@ class PicoFactoryTest {
         assertThat(factory.getInstance(NonStaticInnerClass.class), nullValue());
     }
 
+    public static class StartableSteps implements Startable {
+
+        static int instances;
+        boolean started;
+        boolean stopped;
+
+        public StartableSteps() {
+            instances++;
+        }
+
+        @Override
+        public void start() {
+            started = true;
+        }
+
+        @Override
+        public void stop() {
+            stopped = true;
+        }
+
+    }
+
+    public static class StepsWithRunScopedDependency {
+
+        final RunScopedComponent runScoped;
+        final DisposableCucumberBelly belly;
+
+        public StepsWithRunScopedDependency(RunScopedComponent runScoped, DisposableCucumberBelly belly) {
+            this.runScoped = runScoped;
+            this.belly = belly;
+        }
+
+    }
+
+    @RunScoped
+    public static class RunScopedComponent implements Startable {
+
+        final RunScopedDependency dependency;
+        boolean started;
+        boolean stopped;
+        int stops;
+
+        public RunScopedComponent(RunScopedDependency dependency) {
+            this.dependency = dependency;
+        }
+
+        @Override
+        public void start() {
+            started = true;
+        }
+
+        @Override
+        public void stop() {
+            stopped = true;
+            stops++;
+        }
+
+    }
+
+    public static class RunScopedDependency {
+
+    }
+
     @SuppressWarnings("InnerClassMayBeStatic")
     public class NonStaticInnerClass {
 
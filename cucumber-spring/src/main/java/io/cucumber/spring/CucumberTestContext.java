@@ -2,9 +2,10 @@ package io.cucumber.spring;
 
 import org.apiguardian.api.API;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @API(status = API.Status.STABLE)
@@ -16,8 +17,15 @@ public final class CucumberTestContext {
             .withInitial(CucumberTestContext::new);
     private static final AtomicInteger sessionCounter = new AtomicInteger(0);
 
-    private final Map<String, Object> objects = new HashMap<>();
-    private final Map<String, Runnable> callbacks = new HashMap<>();
+    // Bean names are assigned a slot once, when the glue is registered. The
+    // slots are shared by all threads so each context only has to reset its
+    // slots between scenarios. Destruction callbacks run in slot order.
+    private static final ConcurrentMap<String, Integer> slots = new ConcurrentHashMap<>();
+    private static final AtomicInteger slotCounter = new AtomicInteger(0);
+
+    private Object[] objects = new Object[0];
+    private Runnable[] callbacks = new Runnable[0];
+    private int used;
 
     private Integer sessionId;
 
@@ -28,6 +36,10 @@ public final class CucumberTestContext {
         return localContext.get();
     }
 
+    static void registerBean(String name) {
+        slots.computeIfAbsent(name, n -> slotCounter.getAndIncrement());
+    }
+
     void start() {
         sessionId = sessionCounter.incrementAndGet();
     }
@@ -37,32 +49,68 @@ public final class CucumberTestContext {
     }
 
     void stop() {
-        for (Runnable callback : callbacks.values()) {
-            callback.run();
+        try {
+            for (int i = 0; i < used; i++) {
+                Runnable callback = callbacks[i];
+                if (callback != null) {
+                    callback.run();
+                }
+            }
+        } finally {
+            Arrays.fill(objects, 0, used, null);
+            Arrays.fill(callbacks, 0, used, null);
+            used = 0;
+            sessionId = null;
         }
-        localContext.remove();
-        sessionId = null;
     }
 
     Object get(String name) {
         requireActiveScenario();
-        return objects.get(name);
+        Integer slot = slots.get(name);
+        return slot == null || slot >= used ? null : objects[slot];
     }
 
     void put(String name, Object object) {
         requireActiveScenario();
-        objects.put(name, object);
+        int slot = claim(name);
+        objects[slot] = object;
     }
 
     Object remove(String name) {
         requireActiveScenario();
-        callbacks.remove(name);
-        return objects.remove(name);
+        Integer slot = slots.get(name);
+        if (slot == null || slot >= used) {
+            return null;
+        }
+        Object object = objects[slot];
+        objects[slot] = null;
+        callbacks[slot] = null;
+        return object;
     }
 
     void registerDestructionCallback(String name, Runnable callback) {
         requireActiveScenario();
-        callbacks.put(name, callback);
+        int slot = claim(name);
+        callbacks[slot] = callback;
+    }
+
+    private int claim(String name) {
+        // Beans that were not registered with the glue, e.g. those defined
+        // after the glue was registered, are assigned a slot on first use.
+        Integer slot = slots.get(name);
+        if (slot == null) {
+            registerBean(name);
+            slot = slots.get(name);
+        }
+        if (slot >= objects.length) {
+            int capacity = Math.max(slotCounter.get(), slot + 1);
+            objects = Arrays.copyOf(objects, capacity);
+            callbacks = Arrays.copyOf(callbacks, capacity);
+        }
+        if (slot >= used) {
+            used = slot + 1;
+        }
+        return slot;
     }
 
     void requireActiveScenario() {
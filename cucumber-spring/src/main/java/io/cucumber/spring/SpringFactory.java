@@ -117,8 +117,12 @@ public final class SpringFactory implements ObjectFactory {
 
         // The application context created by the TestContextManager is
         // a singleton and reused between scenarios and shared between
-        // threads.
-        testContextAdaptor = create(() -> new TestContextManager(withCucumberContextConfiguration), stepClasses);
+        // threads. The test context manager and the registration of the glue
+        // are reused between scenarios executed by this object factory.
+        if (testContextAdaptor == null) {
+            testContextAdaptor = create(() -> new TestContextManager(withCucumberContextConfiguration),
+                stepClasses);
+        }
         testContextAdaptor.start();
     }
 
@@ -22,7 +22,8 @@ class TestContextAdaptor {
 
     private static final Object monitor = new Object();
     private final TestContextManager delegate;
-    private final ConfigurableApplicationContext applicationContext;
+    private final Collection<Class<?>> glueClasses;
+    private ConfigurableApplicationContext applicationContext;
     private final Deque<Runnable> stopInvocations = new ArrayDeque<>();
     private Object delegateTestInstance;
 
@@ -36,28 +37,50 @@ class TestContextAdaptor {
             // Since Spring Boot 3 and in combination with AOT building this
             // configuration is not idempotent (#2686).
             TestContextManager delegate = testContextManagerSupplier.get();
+            ConfigurableApplicationContext applicationContext = getApplicationContext(delegate);
+            registerGlue(applicationContext, glueClasses);
+            return new TestContextAdaptor(delegate, glueClasses, applicationContext);
+        }
+    }
 
-            TestContext testContext = delegate.getTestContext();
-            ConfigurableApplicationContext applicationContext = (ConfigurableApplicationContext) testContext
-                    .getApplicationContext();
+    private TestContextAdaptor(
+            TestContextManager delegate, Collection<Class<?>> glueClasses,
+            ConfigurableApplicationContext applicationContext
+    ) {
+        this.delegate = delegate;
+        this.glueClasses = glueClasses;
+        this.applicationContext = applicationContext;
+    }
 
-            // The TestContextManager delegate makes the application context
-            // available to other threads. Registering the glue however modifies
-            // the application context. To avoid concurrent modification issues
-            // (#1823, #1153, #1148, #1106) we do this serially.
-            registerGlueCodeScope(applicationContext);
-            registerStepClassBeanDefinitions(applicationContext.getBeanFactory(), glueClasses);
+    private static ConfigurableApplicationContext getApplicationContext(TestContextManager delegate) {
+        TestContext testContext = delegate.getTestContext();
+        return (ConfigurableApplicationContext) testContext.getApplicationContext();
+    }
 
-            return new TestContextAdaptor(delegate);
-        }
+    private static void registerGlue(
+            ConfigurableApplicationContext applicationContext, Collection<Class<?>> glueClasses
+    ) {
+        // The TestContextManager delegate makes the application context
+        // available to other threads. Registering the glue however modifies
+        // the application context. To avoid concurrent modification issues
+        // (#1823, #1153, #1148, #1106) we do this serially.
+        registerGlueCodeScope(applicationContext);
+        registerStepClassBeanDefinitions(applicationContext.getBeanFactory(), glueClasses);
+        registerGlueCodeScopedBeans(applicationContext.getBeanFactory());
     }
 
-    TestContextAdaptor(TestContextManager delegate) {
-        this.delegate = delegate;
-        this.applicationContext = (ConfigurableApplicationContext) delegate.getTestContext().getApplicationContext();
+    private static void registerGlueCodeScopedBeans(ConfigurableListableBeanFactory beanFactory) {
+        // Assigns each scenario scoped bean a slot in the CucumberTestContext
+        // up front, so scenarios only have to reset the slots.
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            if (SCOPE_CUCUMBER_GLUE.equals(beanFactory.getBeanDefinition(beanName).getScope())) {
+                CucumberTestContext.registerBean(beanName);
+            }
+        }
     }
 
     final void start() {
+        refreshApplicationContext();
         stopInvocations.push(this::notifyTestContextManagerAboutAfterTestClass);
         notifyContextManagerAboutBeforeTestClass();
         stopInvocations.push(this::stopCucumberTestContext);
@@ -70,6 +93,21 @@ class TestContextAdaptor {
         notifyTestContextManagerAboutBeforeExecution();
     }
 
+    private void refreshApplicationContext() {
+        // The adaptor is reused between scenarios. The application context is
+        // cached by Spring and usually remains the same. But it may have been
+        // closed and recreated if it was marked dirty (e.g. @DirtiesContext)
+        // in which case the glue must be registered with the new context.
+        ConfigurableApplicationContext current = getApplicationContext(delegate);
+        if (current == applicationContext) {
+            return;
+        }
+        synchronized (monitor) {
+            registerGlue(current, glueClasses);
+        }
+        applicationContext = current;
+    }
+
     private void notifyContextManagerAboutBeforeTestClass() {
         try {
             delegate.beforeTestClass();
@@ -183,7 +221,8 @@ class TestContextAdaptor {
         // and Spring have 2 sets. So here we use a stack to ensure we don't
         // invoke only the matching after methods for each before methods.
         CucumberBackendException lastException = null;
-        for (Runnable stopInvocation : stopInvocations) {
+        Runnable stopInvocation;
+        while ((stopInvocation = stopInvocations.poll()) != null) {
             try {
                 stopInvocation.run();
             } catch (CucumberBackendException e) {
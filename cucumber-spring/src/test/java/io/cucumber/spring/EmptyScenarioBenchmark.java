@@ -0,0 +1,80 @@
+package io.cucumber.spring;
+
+import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.spring.commonglue.OneStepDef;
+import io.cucumber.spring.commonglue.ThirdStepDef;
+import io.cucumber.spring.contextconfig.BellyStepDefinitions;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Measures the throughput of empty scenarios with Spring glue.
+ * <p>
+ * Compares a {@link SpringFactory} that is reused for every scenario with one
+ * that is created for each scenario. The latter creates the test context
+ * manager and registers the glue for every scenario, as the factory did before
+ * it kept its {@link TestContextAdaptor}. The application context is cached by
+ * Spring in both cases.
+ * <p>
+ * Like the benchmarks in cucumber-core this is a plain main class that is not
+ * run by the build. The median CPU time of the current thread is reported.
+ */
+public class EmptyScenarioBenchmark {
+
+    private static final int SCENARIOS = 10_000;
+    private static final int WARMUPS = 3;
+    private static final int ITERATIONS = 10;
+
+    public static void main(String[] args) {
+        System.out.printf("%-30s %12s %12s%n", "workload", "scenarios/s", "cpu (ms)");
+        measure("reused factory", () -> {
+            ObjectFactory factory = createFactory();
+            for (int i = 0; i < SCENARIOS; i++) {
+                runScenario(factory);
+            }
+        });
+        measure("factory per scenario", () -> {
+            for (int i = 0; i < SCENARIOS; i++) {
+                runScenario(createFactory());
+            }
+        });
+    }
+
+    private static ObjectFactory createFactory() {
+        ObjectFactory factory = new SpringFactory();
+        factory.addClass(BellyStepDefinitions.class);
+        factory.addClass(OneStepDef.class);
+        factory.addClass(ThirdStepDef.class);
+        return factory;
+    }
+
+    private static void runScenario(ObjectFactory factory) {
+        factory.start();
+        factory.getInstance(BellyStepDefinitions.class);
+        factory.getInstance(OneStepDef.class);
+        factory.getInstance(ThirdStepDef.class);
+        factory.stop();
+    }
+
+    private static void measure(String name, Runnable workload) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUPS; i++) {
+            workload.run();
+        }
+        long[] cpuTimes = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = threads.getCurrentThreadCpuTime();
+            workload.run();
+            cpuTimes[i] = threads.getCurrentThreadCpuTime() - start;
+        }
+        Arrays.sort(cpuTimes);
+        long cpuTime = cpuTimes[ITERATIONS / 2];
+        System.out.printf("%-30s %12d %12d%n", name, SCENARIOS * 1_000_000_000L / cpuTime,
+            NANOSECONDS.toMillis(cpuTime));
+    }
+
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.function.Executable;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.test.context.ContextConfiguration;
@@ -36,6 +37,7 @@ import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNot.not;
 import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -87,6 +89,28 @@ class SpringFactoryTest {
         assertEquals(testContextId1.get() + 1, testContextId2.get());
     }
 
+    @Test
+    void shouldReuseTheCucumberContextOfAThreadBetweenScenarios() {
+        final ObjectFactory factory = new SpringFactory();
+        factory.addClass(BellyStepDefinitions.class);
+
+        // Scenario 1
+        factory.start();
+        CucumberTestContext context1 = CucumberTestContext.getInstance();
+        final BellyStepDefinitions o1 = factory.getInstance(BellyStepDefinitions.class);
+        factory.stop();
+
+        // Scenario 2
+        factory.start();
+        CucumberTestContext context2 = CucumberTestContext.getInstance();
+        final BellyStepDefinitions o2 = factory.getInstance(BellyStepDefinitions.class);
+        factory.stop();
+
+        assertAll(
+            () -> assertThat(context1, is(sameInstance(context2))),
+            () -> assertThat(o1, is(not(sameInstance(o2)))));
+    }
+
     @Test
     void shouldNeverCreateNewApplicationBeanInstances() {
         // Feature 1
@@ -241,6 +265,34 @@ class SpringFactoryTest {
             () -> assertThat(o2, is(not(equalTo(o1)))));
     }
 
+    @Test
+    void shouldRegisterGlueWithApplicationContextRecreatedByDirtiesContext() {
+        final ObjectFactory factory = new SpringFactory();
+        factory.addClass(DirtiesContextBellyStepDefinitions.class);
+        factory.addClass(WithApplicationContext.class);
+
+        // Scenario 1
+        factory.start();
+        final ConfigurableApplicationContext c1 = factory.getInstance(WithApplicationContext.class)
+                .getApplicationContext();
+        factory.stop();
+
+        // Scenario 2
+        factory.start();
+        final ConfigurableApplicationContext c2 = factory.getInstance(WithApplicationContext.class)
+                .getApplicationContext();
+        final boolean c1ActiveInScenario2 = c1.isActive();
+        final boolean c2ActiveInScenario2 = c2.isActive();
+        factory.stop();
+
+        assertAll(
+            () -> assertThat(c1, is(not(equalTo(c2)))),
+            () -> assertThat(c1ActiveInScenario2, is(false)),
+            () -> assertThat(c2ActiveInScenario2, is(true)),
+            () -> assertTrue(c2.containsBeanDefinition(WithApplicationContext.class.getName())),
+            () -> assertTrue(c2.containsBeanDefinition(DirtiesContextBellyStepDefinitions.class.getName())));
+    }
+
     @Test
     void shouldRespectCustomPropertyPlaceholderConfigurer() {
         final ObjectFactory factory = new SpringFactory();
@@ -397,6 +449,17 @@ class SpringFactoryTest {
 
     }
 
+    public static class WithApplicationContext {
+
+        @Autowired
+        private ConfigurableApplicationContext applicationContext;
+
+        public ConfigurableApplicationContext getApplicationContext() {
+            return applicationContext;
+        }
+
+    }
+
     @CucumberContextConfiguration
     @ContextConfiguration("classpath:cucumber.xml")
     public static class FailedTestInstanceCreation {
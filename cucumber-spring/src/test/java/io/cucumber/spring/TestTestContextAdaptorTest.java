@@ -61,6 +61,27 @@ public class TestTestContextAdaptorTest {
         inOrder.verify(listener).afterTestClass(any());
     }
 
+    @Test
+    void invokesAllLiveCycleHooksOncePerScenarioWhenReused() throws Exception {
+        TestContextManager manager = new TestContextManager(SomeContextConfiguration.class);
+        TestContextAdaptor adaptor = create(() -> manager, singletonList(SomeContextConfiguration.class));
+        manager.registerTestExecutionListeners(listener);
+        InOrder inOrder = inOrder(listener);
+
+        for (int i = 0; i < 2; i++) {
+            adaptor.start();
+            inOrder.verify(listener).beforeTestClass(any());
+            inOrder.verify(listener).prepareTestInstance(any());
+            inOrder.verify(listener).beforeTestMethod(any());
+            inOrder.verify(listener).beforeTestExecution(any());
+
+            adaptor.stop();
+            inOrder.verify(listener).afterTestExecution(any());
+            inOrder.verify(listener).afterTestMethod(any());
+            inOrder.verify(listener).afterTestClass(any());
+        }
+    }
+
     @Test
     void invokesAfterClassIfBeforeClassFailed() throws Exception {
         TestContextManager manager = new TestContextManager(SomeContextConfiguration.class);
@@ -0,0 +1,72 @@
+package io.cucumber.testng;
+
+import org.apiguardian.api.API;
+import org.testng.ITestContext;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlTest;
+
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * Abstract TestNG Cucumber Test that runs scenarios in batches
+ * <p>
+ * Runs batches of cucumber scenarios found in the features as separate tests.
+ * This reduces the overhead of TestNG for suites with many short scenarios.
+ * Each scenario is still reported individually to Cucumber's plugins. The size
+ * of the batches can be changed by overriding {@link #getBatchSize()}.
+ *
+ * @see AbstractTestNGCucumberTests
+ * @see TestNGCucumberRunner#runScenarios(java.util.List)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+public abstract class AbstractBatchedTestNGCucumberTests {
+
+    private TestNGCucumberRunner testNGCucumberRunner;
+
+    @BeforeClass(alwaysRun = true)
+    public void setUpClass(ITestContext context) {
+        XmlTest currentXmlTest = context.getCurrentXmlTest();
+        CucumberPropertiesProvider properties = currentXmlTest::getParameter;
+        testNGCucumberRunner = new TestNGCucumberRunner(this.getClass(), properties);
+    }
+
+    @Test(groups = "cucumber", description = "Runs Cucumber Scenarios", dataProvider = "scenarioBatches")
+    public void runScenarios(PickleBatchWrapper pickleBatchWrapper) {
+        testNGCucumberRunner.runScenarios(pickleBatchWrapper.getPickles());
+    }
+
+    /**
+     * Returns an iterator of {@link PickleBatchWrapper}s.
+     *
+     * @return an iterator of scenario batches.
+     */
+    @DataProvider
+    public Iterator<Object[]> scenarioBatches() {
+        if (testNGCucumberRunner == null) {
+            return Collections.emptyIterator();
+        }
+        return testNGCucumberRunner.provideScenarioBatches(getBatchSize());
+    }
+
+    /**
+     * Returns the maximum number of scenarios executed by a single test.
+     *
+     * @return the maximum number of scenarios in a batch, defaults to 10.
+     */
+    protected int getBatchSize() {
+        return 10;
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDownClass() {
+        if (testNGCucumberRunner == null) {
+            return;
+        }
+        testNGCucumberRunner.finish();
+    }
+
+}
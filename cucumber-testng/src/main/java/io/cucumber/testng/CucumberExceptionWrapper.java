@@ -2,13 +2,16 @@ package io.cucumber.testng;
 
 import io.cucumber.core.exception.CucumberException;
 
+import java.util.List;
+
 /**
  * The only purpose of this class is to move parse errors from the DataProvider
  * to the test execution of the TestNG tests.
  *
  * @see TestNGCucumberRunner#provideScenarios()
+ * @see TestNGCucumberRunner#provideScenarioBatches(int)
  */
-final class CucumberExceptionWrapper implements PickleWrapper {
+final class CucumberExceptionWrapper implements PickleWrapper, PickleBatchWrapper {
 
     private final CucumberException exception;
 
@@ -21,4 +24,9 @@ final class CucumberExceptionWrapper implements PickleWrapper {
         throw this.exception;
     }
 
+    @Override
+    public List<Pickle> getPickles() {
+        throw this.exception;
+    }
+
 }
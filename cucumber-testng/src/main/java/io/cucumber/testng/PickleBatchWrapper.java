@@ -0,0 +1,20 @@
+package io.cucumber.testng;
+
+import org.apiguardian.api.API;
+
+import java.util.List;
+
+/**
+ * A batch of scenarios executed by a single TestNG test invocation.
+ * <p>
+ * Like {@link PickleWrapper} this interface exists to provide a custom string
+ * representation, making TestNG reports look more descriptive.
+ *
+ * @see AbstractBatchedTestNGCucumberTests#runScenarios(PickleBatchWrapper)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+public interface PickleBatchWrapper {
+
+    List<Pickle> getPickles();
+
+}
@@ -0,0 +1,27 @@
+package io.cucumber.testng;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.joining;
+
+final class PickleBatchWrapperImpl implements PickleBatchWrapper {
+
+    private final List<Pickle> pickles;
+
+    PickleBatchWrapperImpl(List<Pickle> pickles) {
+        this.pickles = pickles;
+    }
+
+    @Override
+    public List<Pickle> getPickles() {
+        return pickles;
+    }
+
+    @Override
+    public String toString() {
+        return pickles.stream()
+                .map(pickle -> "\"" + pickle.getPickle().getName() + "\"")
+                .collect(joining(", "));
+    }
+
+}
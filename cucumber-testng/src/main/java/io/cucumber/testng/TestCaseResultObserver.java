@@ -1,37 +1,30 @@
 package io.cucumber.testng;
 
-import io.cucumber.core.eventbus.EventBus;
-import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.core.runner.TestCaseResult;
 import org.testng.SkipException;
 
 import java.util.function.Function;
 
-class TestCaseResultObserver implements AutoCloseable {
+final class TestCaseResultObserver {
 
     private static final String SKIP_MESSAGE = "This scenario is skipped";
-    private final io.cucumber.core.runtime.TestCaseResultObserver delegate;
 
-    private TestCaseResultObserver(EventPublisher bus) {
-        this.delegate = new io.cucumber.core.runtime.TestCaseResultObserver(bus);
+    private TestCaseResultObserver() {
     }
 
-    static TestCaseResultObserver observe(EventBus bus) {
-        return new TestCaseResultObserver(bus);
-    }
-
-    void assertTestCasePassed() {
-        delegate.assertTestCasePassed(
+    static void assertTestCasePassed(TestCaseResult testCaseResult) {
+        io.cucumber.core.runtime.TestCaseResultObserver.assertTestCasePassed(
+            testCaseResult,
             () -> new SkipException(SKIP_MESSAGE),
-            (exception) -> exception instanceof SkipException
-                    ? exception
-                    : new SkipException(exception.getMessage(), exception),
+            TestCaseResultObserver::toSkipException,
             UndefinedStepException::new,
             Function.identity());
     }
 
-    @Override
-    public void close() {
-        delegate.close();
+    private static Throwable toSkipException(Throwable exception) {
+        return exception instanceof SkipException
+                ? exception
+                : new SkipException(exception.getMessage(), exception);
     }
 
 }
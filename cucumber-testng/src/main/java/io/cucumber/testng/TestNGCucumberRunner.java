@@ -4,6 +4,7 @@ import io.cucumber.core.eventbus.EventBus;
 import io.cucumber.core.exception.CucumberException;
 import io.cucumber.core.feature.FeatureParser;
 import io.cucumber.core.filter.Filters;
+import io.cucumber.core.filter.TagSets;
 import io.cucumber.core.gherkin.Feature;
 import io.cucumber.core.gherkin.Pickle;
 import io.cucumber.core.options.Constants;
@@ -14,6 +15,7 @@ import io.cucumber.core.options.RuntimeOptions;
 import io.cucumber.core.plugin.PluginFactory;
 import io.cucumber.core.plugin.Plugins;
 import io.cucumber.core.resource.ClassLoaders;
+import io.cucumber.core.runner.TestCaseResult;
 import io.cucumber.core.runtime.BackendServiceLoader;
 import io.cucumber.core.runtime.CucumberExecutionContext;
 import io.cucumber.core.runtime.ExitStatus;
@@ -25,14 +27,18 @@ import io.cucumber.core.runtime.ThreadLocalRunnerSupplier;
 import io.cucumber.core.runtime.TimeServiceEventBus;
 import io.cucumber.core.runtime.UuidGeneratorServiceLoader;
 import org.apiguardian.api.API;
+import org.testng.SkipException;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static io.cucumber.core.runtime.SynchronizedEventBus.synchronize;
-import static io.cucumber.testng.TestCaseResultObserver.observe;
+import static io.cucumber.testng.TestCaseResultObserver.assertTestCasePassed;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -102,7 +108,8 @@ public final class TestNGCucumberRunner {
         UuidGeneratorServiceLoader uuidGeneratorServiceLoader = new UuidGeneratorServiceLoader(classLoader,
             runtimeOptions);
         EventBus bus = synchronize(
-            new TimeServiceEventBus(Clock.systemUTC(), uuidGeneratorServiceLoader.loadUuidGenerator()));
+            new TimeServiceEventBus(Clock.systemUTC(), System::nanoTime,
+                uuidGeneratorServiceLoader.loadUuidGenerator()));
 
         FeatureParser parser = new FeatureParser(bus::generateId);
         FeaturePathFeatureSupplier featureSupplier = new FeaturePathFeatureSupplier(classLoader, runtimeOptions,
@@ -115,9 +122,10 @@ public final class TestNGCucumberRunner {
             runtimeOptions);
         ObjectFactorySupplier objectFactorySupplier = new ThreadLocalObjectFactorySupplier(objectFactoryServiceLoader);
         BackendServiceLoader backendSupplier = new BackendServiceLoader(clazz::getClassLoader, objectFactorySupplier);
-        this.filters = new Filters(runtimeOptions);
+        TagSets tagSets = new TagSets();
+        this.filters = new Filters(runtimeOptions, tagSets);
         ThreadLocalRunnerSupplier runnerSupplier = new ThreadLocalRunnerSupplier(runtimeOptions, bus, backendSupplier,
-            objectFactorySupplier);
+            objectFactorySupplier, tagSets);
         this.context = new CucumberExecutionContext(bus, exitStatus, runnerSupplier);
 
         // Start test execution now.
@@ -130,14 +138,79 @@ public final class TestNGCucumberRunner {
 
     public void runScenario(io.cucumber.testng.Pickle pickle) {
         context.runTestCase(runner -> {
-            try (TestCaseResultObserver observer = observe(runner.getBus())) {
-                Pickle cucumberPickle = pickle.getPickle();
-                runner.runPickle(cucumberPickle);
-                observer.assertTestCasePassed();
+            Pickle cucumberPickle = pickle.getPickle();
+            TestCaseResult result = runner.runPickle(cucumberPickle);
+            assertTestCasePassed(result);
+        });
+    }
+
+    /**
+     * Runs a batch of scenarios one after another.
+     * <p>
+     * Every scenario in the batch is executed, even when an earlier scenario
+     * failed. Each scenario is reported to Cucumber's plugins individually. When
+     * any scenario failed, the first failure is rethrown with the failures of
+     * the other scenarios added as suppressed exceptions. When scenarios were
+     * skipped but none failed, the batch is skipped.
+     *
+     * @param pickles the scenarios to run
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+    public void runScenarios(List<io.cucumber.testng.Pickle> pickles) {
+        context.runTestCase(runner -> {
+            RuntimeException failure = null;
+            for (io.cucumber.testng.Pickle pickle : pickles) {
+                try {
+                    TestCaseResult result = runner.runPickle(pickle.getPickle());
+                    assertTestCasePassed(result);
+                } catch (RuntimeException e) {
+                    failure = mergeFailures(failure, e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
             }
         });
     }
 
+    private static RuntimeException mergeFailures(RuntimeException failure, RuntimeException next) {
+        // Failed results are wrapped to avoid collecting them twice, add the
+        // suppressed exception to the actual failure instead. Exceptions
+        // thrown while running a pickle are not wrapped.
+        if (failure == null) {
+            return next;
+        }
+        if (isSkipped(failure) && !isSkipped(next)) {
+            addSuppressed(unwrap(next), unwrap(failure));
+            return next;
+        }
+        addSuppressed(unwrap(failure), unwrap(next));
+        return failure;
+    }
+
+    private static Throwable unwrap(RuntimeException failure) {
+        Throwable cause = failure.getCause();
+        return cause != null ? cause : failure;
+    }
+
+    private static void addSuppressed(Throwable primary, Throwable suppressed) {
+        // Scenarios may fail with the same exception, e.g. a failed before
+        // feature hook is rethrown by all remaining scenarios of the feature
+        if (primary == suppressed) {
+            return;
+        }
+        for (Throwable existing : primary.getSuppressed()) {
+            if (existing == suppressed) {
+                return;
+            }
+        }
+        primary.addSuppressed(suppressed);
+    }
+
+    private static boolean isSkipped(RuntimeException failure) {
+        return unwrap(failure) instanceof SkipException;
+    }
+
     /**
      * Finishes test execution by Cucumber.
      */
@@ -170,4 +243,72 @@ public final class TestNGCucumberRunner {
         }
     }
 
+    /**
+     * Lazily provides the same scenarios as {@link #provideScenarios()}.
+     * <p>
+     * Scenarios are only wrapped when TestNG requests the next invocation
+     * rather than all at once.
+     *
+     * @return an iterator of {@link PickleWrapper} scenarios combined with
+     *         their {@link FeatureWrapper} feature.
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+    public Iterator<Object[]> provideScenarioIterator() {
+        // Possibly invoked in a multi-threaded context
+        try {
+            return features.stream()
+                    .flatMap(feature -> feature.getPickles().stream()
+                            .filter(filters)
+                            .map(cucumberPickle -> new Object[] {
+                                    new PickleWrapperImpl(new io.cucumber.testng.Pickle(cucumberPickle)),
+                                    new FeatureWrapperImpl(feature) }))
+                    .iterator();
+        } catch (CucumberException e) {
+            return singletonList(new Object[] { new CucumberExceptionWrapper(e), null }).iterator();
+        }
+    }
+
+    /**
+     * Lazily provides the scenarios in batches.
+     * <p>
+     * Consecutive scenarios, possibly from different features, are grouped
+     * into batches of at most {@code batchSize} scenarios. Each batch can be
+     * executed with {@link #runScenarios(List)}.
+     *
+     * @param  batchSize the maximum number of scenarios in a batch
+     * @return           an iterator of single element arrays containing a
+     *                   {@link PickleBatchWrapper}
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "7.22.0")
+    public Iterator<Object[]> provideScenarioBatches(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1 but was " + batchSize);
+        }
+        // Possibly invoked in a multi-threaded context
+        try {
+            Iterator<io.cucumber.testng.Pickle> pickles = features.stream()
+                    .flatMap(feature -> feature.getPickles().stream())
+                    .filter(filters)
+                    .map(io.cucumber.testng.Pickle::new)
+                    .iterator();
+            return new Iterator<Object[]>() {
+                @Override
+                public boolean hasNext() {
+                    return pickles.hasNext();
+                }
+
+                @Override
+                public Object[] next() {
+                    List<io.cucumber.testng.Pickle> batch = new ArrayList<>(batchSize);
+                    do {
+                        batch.add(pickles.next());
+                    } while (batch.size() < batchSize && pickles.hasNext());
+                    return new Object[] { new PickleBatchWrapperImpl(batch) };
+                }
+            };
+        } catch (CucumberException e) {
+            return singletonList(new Object[] { new CucumberExceptionWrapper(e) }).iterator();
+        }
+    }
+
 }
@@ -19,6 +19,8 @@ import java.util.function.Supplier;
 
 public class StubBackendProviderService implements BackendProviderService {
 
+    static final RuntimeException SHARED_FAILURE = new RuntimeException("shared failure");
+
     @Override
     public Backend create(Lookup lookup, Container container, Supplier<ClassLoader> classLoader) {
         return new StubBackend();
@@ -51,15 +53,23 @@ public class StubBackendProviderService implements BackendProviderService {
             glue.addStepDefinition(createStepDefinition("G&A"));
             glue.addStepDefinition(createStepDefinition("G<A"));
             glue.addStepDefinition(createStepDefinition("T>A"));
+            glue.addStepDefinition(createStepDefinition("a shared failure", () -> {
+                throw SHARED_FAILURE;
+            }));
 
         }
 
         private StepDefinition createStepDefinition(final String pattern) {
+            return createStepDefinition(pattern, () -> {
+            });
+        }
+
+        private StepDefinition createStepDefinition(final String pattern, final Runnable body) {
             return new StepDefinition() {
 
                 @Override
                 public void execute(Object[] args) {
-
+                    body.run();
                 }
 
                 @Override
@@ -11,14 +11,18 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import static io.cucumber.core.options.Constants.PLUGIN_PROPERTY_NAME;
 import static io.cucumber.testng.TestNGCucumberRunnerTest.Plugin.events;
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonMap;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.expectThrows;
 
 public class TestNGCucumberRunnerTest {
 
@@ -54,6 +58,61 @@ public class TestNGCucumberRunnerTest {
             () -> testNGCucumberRunner.runScenario(wrapper.getPickle()));
     }
 
+    @Test
+    public void provideScenarioIteratorProvidesSameScenarios() {
+        testNGCucumberRunner = new TestNGCucumberRunner(RunCucumberTest.class);
+
+        List<String> expected = new ArrayList<>();
+        for (Object[] scenario : testNGCucumberRunner.provideScenarios()) {
+            expected.add(scenario[0] + " " + scenario[1]);
+        }
+        List<String> actual = new ArrayList<>();
+        testNGCucumberRunner.provideScenarioIterator()
+                .forEachRemaining(scenario -> actual.add(scenario[0] + " " + scenario[1]));
+
+        assertEquals(actual, expected);
+    }
+
+    @Test
+    public void runCucumberTestInBatches() {
+        testNGCucumberRunner = new TestNGCucumberRunner(RunFeatureWithThreeScenariosTest.class);
+
+        List<String> batches = new ArrayList<>();
+        Iterator<Object[]> iterator = testNGCucumberRunner.provideScenarioBatches(2);
+        while (iterator.hasNext()) {
+            PickleBatchWrapper wrapper = (PickleBatchWrapper) iterator.next()[0];
+            batches.add(wrapper.toString());
+            testNGCucumberRunner.runScenarios(wrapper.getPickles());
+        }
+
+        assertEquals(batches, asList("\"SC1\", \"SC2\"", "\"SC3\""));
+    }
+
+    @Test
+    public void runScenariosWithUndefinedSteps() {
+        testNGCucumberRunner = new TestNGCucumberRunner(RunScenarioWithUndefinedSteps.class);
+        Iterator<Object[]> batches = testNGCucumberRunner.provideScenarioBatches(10);
+        PickleBatchWrapper wrapper = (PickleBatchWrapper) batches.next()[0];
+
+        assertThrows(
+            UndefinedStepException.class,
+            () -> testNGCucumberRunner.runScenarios(wrapper.getPickles()));
+    }
+
+    @Test
+    public void runScenariosThatFailWithTheSameException() {
+        testNGCucumberRunner = new TestNGCucumberRunner(SharedFailure.class);
+        Iterator<Object[]> batches = testNGCucumberRunner.provideScenarioBatches(10);
+        PickleBatchWrapper wrapper = (PickleBatchWrapper) batches.next()[0];
+
+        RuntimeException thrown = expectThrows(
+            RuntimeException.class,
+            () -> testNGCucumberRunner.runScenarios(wrapper.getPickles()));
+
+        assertSame(thrown, StubBackendProviderService.SHARED_FAILURE);
+        assertEquals(thrown.getSuppressed().length, 0);
+    }
+
     @Test
     public void parse_error_propagated_to_testng_test_execution() {
         try {
@@ -129,6 +188,11 @@ public class TestNGCucumberRunnerTest {
 
     }
 
+    @CucumberOptions(features = "classpath:io/cucumber/failure/shared-failure.feature")
+    static class SharedFailure extends AbstractTestNGCucumberTests {
+
+    }
+
     @CucumberOptions(features = "classpath:io/cucumber/error/parse-error.feature")
     static class ParseError extends AbstractTestNGCucumberTests {
 
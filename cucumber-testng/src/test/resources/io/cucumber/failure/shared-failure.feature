@@ -0,0 +1,7 @@
+Feature: A feature in which scenarios fail with the same exception
+
+  Scenario: SC1
+    Given a shared failure
+
+  Scenario: SC2
+    Given a shared failure
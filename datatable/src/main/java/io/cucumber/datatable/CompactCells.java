@@ -0,0 +1,77 @@
+package io.cucumber.datatable;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable cells of a rectangular table stored row-major in a single flat
+ * array.
+ * <p>
+ * Rows are views on the underlying array and are created without copying.
+ */
+final class CompactCells extends AbstractList<List<String>> implements RandomAccess {
+
+    private final String[] cells;
+    private final int width;
+    private final int height;
+
+    private CompactCells(String[] cells, int width, int height) {
+        this.cells = cells;
+        this.width = width;
+        this.height = height;
+    }
+
+    static CompactCells create(List<List<String>> balanced, DataTableCellInterner interner) {
+        int height = balanced.size();
+        int width = height == 0 ? 0 : balanced.get(0).size();
+        String[] cells = new String[width * height];
+        int index = 0;
+        for (List<String> row : balanced) {
+            for (String cell : row) {
+                cells[index++] = interner == null ? cell : interner.intern(cell);
+            }
+        }
+        return new CompactCells(cells, width, height);
+    }
+
+    String cell(int row, int column) {
+        return cells[row * width + column];
+    }
+
+    int width() {
+        return width;
+    }
+
+    @Override
+    public List<String> get(int row) {
+        if (row < 0 || row >= height)
+            throw new IndexOutOfBoundsException("row: " + row + ", Height: " + height);
+        return new RowView(row * width);
+    }
+
+    @Override
+    public int size() {
+        return height;
+    }
+
+    private final class RowView extends AbstractList<String> implements RandomAccess {
+        private final int offset;
+
+        RowView(int offset) {
+            this.offset = offset;
+        }
+
+        @Override
+        public String get(int column) {
+            if (column < 0 || column >= width)
+                throw new IndexOutOfBoundsException("column: " + column + ", Width: " + width);
+            return cells[offset + column];
+        }
+
+        @Override
+        public int size() {
+            return width;
+        }
+    }
+}
@@ -95,6 +95,49 @@ public final class DataTable {
         return new DataTable(copy(requireRectangularTable(raw)), tableConverter);
     }
 
+    /**
+     * Creates a new DataTable with a table converter. The cells of the table
+     * are stored in a single flat array rather than a list of lists.
+     * <p>
+     * Compact tables are equal to and behave the same as tables created by
+     * {@link #create(List, TableConverter)} but take up less memory.
+     *
+     * @param  raw                      the underlying table
+     * @param  tableConverter           to transform the table
+     * @return                          a new data table containing the raw
+     *                                  values
+     * @throws NullPointerException     if either raw or tableConverter is null
+     * @throws IllegalArgumentException when the table is not rectangular
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public static DataTable createCompact(List<List<String>> raw, TableConverter tableConverter) {
+        return new DataTable(CompactCells.create(withoutEmptyRows(requireRectangularTable(raw)), null), tableConverter);
+    }
+
+    /**
+     * Creates a new DataTable with a table converter. The cells of the table
+     * are stored in a single flat array rather than a list of lists and each
+     * cell value is deduplicated with the {@code interner}.
+     *
+     * @param  raw                      the underlying table
+     * @param  tableConverter           to transform the table
+     * @param  interner                 to deduplicate cell values with
+     * @return                          a new data table containing the raw
+     *                                  values
+     * @throws NullPointerException     if either raw, tableConverter or
+     *                                  interner is null
+     * @throws IllegalArgumentException when the table is not rectangular
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public static DataTable createCompact(
+            List<List<String>> raw, TableConverter tableConverter, DataTableCellInterner interner
+    ) {
+        if (interner == null)
+            throw new NullPointerException("interner can not be null");
+        return new DataTable(CompactCells.create(withoutEmptyRows(requireRectangularTable(raw)), interner),
+            tableConverter);
+    }
+
     private static List<List<String>> copy(List<List<String>> balanced) {
         List<List<String>> rawCopy = new ArrayList<>(balanced.size());
         for (List<String> row : balanced) {
@@ -110,6 +153,11 @@ public final class DataTable {
         return unmodifiableList(rawCopy);
     }
 
+    private static List<List<String>> withoutEmptyRows(List<List<String>> balanced) {
+        // A table without columns is an empty table and has no rows.
+        return !balanced.isEmpty() && balanced.get(0).isEmpty() ? emptyList() : balanced;
+    }
+
     private static List<List<String>> requireRectangularTable(List<List<String>> table) {
         int columns = table.isEmpty() ? 0 : table.get(0).size();
         for (List<String> row : table) {
@@ -393,6 +441,13 @@ public final class DataTable {
     public String cell(int row, int column) {
         rangeCheckRow(row, height());
         rangeCheckColumn(column, width());
+        return rawCell(row, column);
+    }
+
+    private String rawCell(int row, int column) {
+        if (raw instanceof CompactCells) {
+            return ((CompactCells) raw).cell(row, column);
+        }
         return raw.get(row).get(column);
     }
 
@@ -593,6 +648,9 @@ public final class DataTable {
      * @return the number of columns in the table
      */
     public int width() {
+        if (raw instanceof CompactCells) {
+            return ((CompactCells) raw).width();
+        }
         return raw.isEmpty() ? 0 : raw.get(0).size();
     }
 
@@ -975,7 +1033,7 @@ public final class DataTable {
                 @Override
                 public String get(final int column) {
                     rangeCheckColumn(column, size());
-                    return raw.get(fromRow + row).get(fromColumn + column);
+                    return rawCell(fromRow + row, fromColumn + column);
                 }
 
                 @Override
@@ -1000,7 +1058,7 @@ public final class DataTable {
         @Override
         public String get(int index) {
             rangeCheck(index, size());
-            return raw.get(index / width).get(index % width);
+            return rawCell(index / width, index % width);
         }
 
         @Override
@@ -1020,7 +1078,7 @@ public final class DataTable {
         @Override
         public String get(final int row) {
             rangeCheckRow(row, size());
-            return raw.get(row).get(column);
+            return rawCell(row, column);
         }
 
         @Override
@@ -1042,7 +1100,7 @@ public final class DataTable {
                 @Override
                 public String get(final int column) {
                     rangeCheckColumn(column, size());
-                    return raw.get(column).get(row);
+                    return rawCell(column, row);
                 }
 
                 @Override
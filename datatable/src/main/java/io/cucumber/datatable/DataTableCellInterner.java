@@ -0,0 +1,47 @@
+package io.cucumber.datatable;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Deduplicates cell values across data tables.
+ * <p>
+ * Scenario outlines and repeated steps often create many tables with identical
+ * cell values. Tables created with
+ * {@link DataTable#createCompact(java.util.List, DataTable.TableConverter, DataTableCellInterner)}
+ * share a single instance of each distinct value. An interner is thread safe
+ * and retains every value it has seen, so its life time should be limited to
+ * that of a test run.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class DataTableCellInterner {
+
+    private final ConcurrentMap<String, String> values = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a canonical instance of {@code value}.
+     *
+     * @param  value the value to intern, may be null
+     * @return       a canonical instance equal to {@code value} or null when
+     *               value was null
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = values.putIfAbsent(value, value);
+        return existing == null ? value : existing;
+    }
+
+    /**
+     * Returns the number of distinct values interned.
+     *
+     * @return the number of distinct values interned
+     */
+    public int size() {
+        return values.size();
+    }
+
+}
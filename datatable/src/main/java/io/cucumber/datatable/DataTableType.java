@@ -30,12 +30,19 @@ public final class DataTableType {
     private final RawTableTransformer<?> transformer;
     private final Type elementType;
     private final boolean replaceable;
+    private final boolean threadSafe;
 
     private DataTableType(Type type, RawTableTransformer<?> transformer) {
         this(type, transformer, false);
     }
 
     private DataTableType(Type type, RawTableTransformer<?> transformer, boolean replaceable) {
+        this(type, transformer, replaceable, false);
+    }
+
+    private DataTableType(
+            Type type, RawTableTransformer<?> transformer, boolean replaceable, boolean threadSafe
+    ) {
         if (type == null)
             throw new NullPointerException("type cannot be null");
         if (transformer == null)
@@ -43,6 +50,7 @@ public final class DataTableType {
         this.elementType = type;
         this.transformer = transformer;
         this.replaceable = replaceable;
+        this.threadSafe = threadSafe;
     }
 
     /**
@@ -150,8 +158,32 @@ public final class DataTableType {
                 .transform(entry, entryType, tableCellByTypeTransformer));
     }
 
+    /**
+     * Returns a copy of this data table type that declares its transformer
+     * thread safe.
+     * <p>
+     * When parallel transformation is enabled with
+     * {@link DataTableTypeRegistry#setParallelTransformation(int, int)} the
+     * rows, entries or cells of large tables transformed by a thread safe
+     * table row, table entry or table cell transformer may be transformed
+     * concurrently.
+     *
+     * @return a thread safe copy of this data table type
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public DataTableType threadSafe() {
+        return new DataTableType(elementType, transformer, replaceable, true);
+    }
+
     public Object transform(List<List<String>> raw) {
+        return transform(raw, null);
+    }
+
+    Object transform(List<List<String>> raw, ParallelTransformation parallelTransformation) {
         try {
+            if (threadSafe && parallelTransformation != null) {
+                return transformer.transform(raw, parallelTransformation);
+            }
             return transformer.transform(raw);
         } catch (Throwable throwable) {
             throw new CucumberDataTableException(
@@ -179,11 +211,16 @@ public final class DataTableType {
         return replaceable;
     }
 
+    boolean isThreadSafe() {
+        return threadSafe;
+    }
+
     DataTableType asOptional() {
         return new DataTableType(
             elementType,
             transformer.asOptional(),
-            replaceable);
+            replaceable,
+            threadSafe);
     }
 
     @Override
@@ -191,6 +228,7 @@ public final class DataTableType {
         return new StringJoiner(", ", DataTableType.class.getSimpleName() + "[", "]")
                 .add("targetType=" + this.toCanonical())
                 .add("replaceable=" + replaceable)
+                .add("threadSafe=" + threadSafe)
                 .toString();
     }
 
@@ -216,6 +254,11 @@ public final class DataTableType {
 
         T transform(List<List<String>> raw) throws Throwable;
 
+        default T transform(List<List<String>> raw, ParallelTransformation parallelTransformation)
+                throws Throwable {
+            return transform(raw);
+        }
+
         RawTableTransformer<?> asOptional();
 
         JavaType getTargetType();
@@ -258,6 +301,21 @@ public final class DataTableType {
             return list;
         }
 
+        @Override
+        public List<List<T>> transform(List<List<String>> raw, ParallelTransformation parallelTransformation)
+                throws Throwable {
+            if (!parallelTransformation.appliesTo(raw)) {
+                return transform(raw);
+            }
+            return parallelTransformation.transform(raw, tableRow -> {
+                List<T> row = new ArrayList<>(tableRow.size());
+                for (String entry : tableRow) {
+                    row.add(transformer.transform(entry));
+                }
+                return row;
+            });
+        }
+
         @Override
         public RawTableTransformer<?> asOptional() {
             return new TableCellTransformerAdaptor<>(optionalOf(elementType), new OptionalTableCellTransformer());
@@ -304,6 +362,15 @@ public final class DataTableType {
             return list;
         }
 
+        @Override
+        public List<T> transform(List<List<String>> raw, ParallelTransformation parallelTransformation)
+                throws Throwable {
+            if (!parallelTransformation.appliesTo(raw)) {
+                return transform(raw);
+            }
+            return parallelTransformation.transform(raw, transformer::transform);
+        }
+
         @Override
         public RawTableTransformer<?> asOptional() {
             throw new UnsupportedOperationException();
@@ -337,8 +404,22 @@ public final class DataTableType {
         @Override
         public List<T> transform(List<List<String>> raw) throws Throwable {
             DataTable table = DataTable.create(raw, CONVERSION_REQUIRED);
+            return transformEntries(table.entries());
+        }
+
+        @Override
+        public List<T> transform(List<List<String>> raw, ParallelTransformation parallelTransformation)
+                throws Throwable {
+            List<Map<String, String>> entries = DataTable.create(raw, CONVERSION_REQUIRED).entries();
+            if (!parallelTransformation.appliesTo(entries)) {
+                return transformEntries(entries);
+            }
+            return parallelTransformation.transform(entries, transformer::transform);
+        }
+
+        private List<T> transformEntries(List<Map<String, String>> entries) throws Throwable {
             List<T> list = new ArrayList<>();
-            for (Map<String, String> entry : table.entries()) {
+            for (Map<String, String> entry : entries) {
                 list.add(transformer.transform(entry));
             }
 
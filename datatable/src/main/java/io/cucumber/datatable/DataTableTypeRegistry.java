@@ -23,6 +23,7 @@ public final class DataTableTypeRegistry {
     private final Map<JavaType, DataTableType> tableTypeByType = new HashMap<>();
     private TableEntryByTypeTransformer defaultDataTableEntryTransformer;
     private TableCellByTypeTransformer defaultDataTableCellTransformer;
+    private ParallelTransformation parallelTransformation;
 
     public DataTableTypeRegistry(Locale locale) {
         final NumberParser numberParser = new NumberParser(locale);
@@ -168,4 +169,30 @@ public final class DataTableTypeRegistry {
         this.defaultDataTableCellTransformer = defaultDataTableCellTransformer;
     }
 
+    /**
+     * Enables parallel transformation of large tables.
+     * <p>
+     * Tables with at least {@code threshold} rows (or entries) that are
+     * transformed by a {@link DataTableType#threadSafe() thread safe} data
+     * table type are split into {@code parallelism} chunks that are
+     * transformed in the {@link java.util.concurrent.ForkJoinPool#commonPool()
+     * common pool}. The order of the transformed rows is preserved and when a
+     * transformer fails, the failure of the first failing row is reported.
+     *
+     * @param  threshold                the minimum number of rows to transform
+     *                                  in parallel
+     * @param  parallelism              the number of chunks to split a table
+     *                                  into
+     * @throws IllegalArgumentException if either threshold or parallelism is
+     *                                  less than 1
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public void setParallelTransformation(int threshold, int parallelism) {
+        this.parallelTransformation = new ParallelTransformation(threshold, parallelism);
+    }
+
+    ParallelTransformation getParallelTransformation() {
+        return parallelTransformation;
+    }
+
 }
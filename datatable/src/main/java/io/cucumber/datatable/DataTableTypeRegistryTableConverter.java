@@ -69,7 +69,7 @@ public final class DataTableTypeRegistryTableConverter implements TableConverter
 
         DataTableType tableType = registry.lookupTableTypeByType(javaType);
         if (tableType != null) {
-            return (T) tableType.transform(dataTable.cells());
+            return (T) transform(tableType, dataTable.cells());
         }
 
         if (type.equals(DataTable.class)) {
@@ -155,7 +155,7 @@ public final class DataTableTypeRegistryTableConverter implements TableConverter
 
         DataTableType entryOrRowValueType = registry.lookupRowTypeByType(itemType);
         if (entryOrRowValueType != null) {
-            return ListOrProblems.list((List<T>) entryOrRowValueType.transform(cells));
+            return ListOrProblems.list((List<T>) transform(entryOrRowValueType, cells));
         } else {
             problems.add(problemNoTableEntryOrTableRowTransformer(itemType));
         }
@@ -163,7 +163,7 @@ public final class DataTableTypeRegistryTableConverter implements TableConverter
         DataTableType cellValueType = registry.lookupCellTypeByType(itemType);
         if (cellValueType != null) {
             if (singleColumn) {
-                return ListOrProblems.list(unpack((List<List<T>>) cellValueType.transform(cells)));
+                return ListOrProblems.list(unpack((List<List<T>>) transform(cellValueType, cells)));
             }
             // This is not common but when it happens it is usually the cause.
             // Make sure its on the top.
@@ -175,7 +175,7 @@ public final class DataTableTypeRegistryTableConverter implements TableConverter
         DataTableType defaultTableEntryType = registry.getDefaultTableEntryTransformer(itemType);
         if (defaultTableEntryType != null) {
             if (mayHaveHeader) {
-                return ListOrProblems.list((List<T>) defaultTableEntryType.transform(cells));
+                return ListOrProblems.list((List<T>) transform(defaultTableEntryType, cells));
             }
             problems.add(problemTableTooShortForDefaultTableEntry(itemType));
         } else if (mayHaveHeader) {
@@ -185,7 +185,7 @@ public final class DataTableTypeRegistryTableConverter implements TableConverter
         DataTableType defaultCellValueType = registry.getDefaultTableCellTransformer(itemType);
         if (defaultCellValueType != null) {
             if (singleColumn) {
-                return ListOrProblems.list(unpack((List<List<T>>) defaultCellValueType.transform(cells)));
+                return ListOrProblems.list(unpack((List<List<T>>) transform(defaultCellValueType, cells)));
             }
             // This is not common but when it happens it is usually the cause.
             // Make sure its on the top.
@@ -241,14 +241,14 @@ public final class DataTableTypeRegistryTableConverter implements TableConverter
 
         DataTableType tableType = registry.lookupCellTypeByType(itemType);
         if (tableType != null) {
-            return unmodifiableList((List<List<T>>) tableType.transform(dataTable.cells()));
+            return unmodifiableList((List<List<T>>) transform(tableType, dataTable.cells()));
         } else {
             problems.add(problemNoTableCellTransformer(itemType));
         }
 
         tableType = registry.getDefaultTableCellTransformer(itemType);
         if (tableType != null) {
-            return unmodifiableList((List<List<T>>) tableType.transform(dataTable.cells()));
+            return unmodifiableList((List<List<T>>) transform(tableType, dataTable.cells()));
         } else {
             problems.add(problemNoDefaultTableCellTransformer(itemType));
         }
@@ -324,14 +324,14 @@ public final class DataTableTypeRegistryTableConverter implements TableConverter
 
         DataTableType keyConverter = registry.lookupCellTypeByType(keyType);
         if (keyConverter != null) {
-            return unpack((List<List<K>>) keyConverter.transform(keyColumnRows.cells()));
+            return unpack((List<List<K>>) transform(keyConverter, keyColumnRows.cells()));
         } else {
             problems.add(problemNoTableCellTransformer(keyType));
         }
 
         keyConverter = registry.getDefaultTableCellTransformer(keyType);
         if (keyConverter != null) {
-            return unpack((List<List<K>>) keyConverter.transform(keyColumnRows.cells()));
+            return unpack((List<List<K>>) transform(keyConverter, keyColumnRows.cells()));
         } else {
             problems.add(problemNoDefaultTableCellTransformer(keyType));
         }
@@ -387,7 +387,7 @@ public final class DataTableTypeRegistryTableConverter implements TableConverter
                 problems.add(problemNoDefaultTableCellTransformer(listType.getElementType()));
                 throw mapNoConverterDefined(keyType, valueType, problems);
             }
-            return (List<V>) cellValueConverter.transform(dataTable.cells());
+            return (List<V>) transform(cellValueConverter, dataTable.cells());
         }
 
         // Handle case #2
@@ -402,7 +402,7 @@ public final class DataTableTypeRegistryTableConverter implements TableConverter
         // But this type was registered as such.
         DataTableType entryValueConverter = registry.lookupRowTypeByType(valueType);
         if (entryValueConverter != null) {
-            return (List<V>) entryValueConverter.transform(dataTable.cells());
+            return (List<V>) transform(entryValueConverter, dataTable.cells());
         } else {
             problems.add(problemNoTableEntryTransformer(valueType));
         }
@@ -411,7 +411,7 @@ public final class DataTableTypeRegistryTableConverter implements TableConverter
             // There is no way around it though. This is probably a table entry.
             DataTableType defaultEntryValueConverter = registry.getDefaultTableEntryTransformer(valueType);
             if (defaultEntryValueConverter != null) {
-                return (List<V>) defaultEntryValueConverter.transform(dataTable.cells());
+                return (List<V>) transform(defaultEntryValueConverter, dataTable.cells());
             }
             throw keysImplyTableEntryTransformer(keyType, valueType);
         }
@@ -419,13 +419,13 @@ public final class DataTableTypeRegistryTableConverter implements TableConverter
         // This may result in multiple values per key if the table is too wide.
         DataTableType cellValueConverter = registry.lookupTableTypeByType(aListOf(aListOf(valueType)));
         if (cellValueConverter != null) {
-            return unpack((List<List<V>>) cellValueConverter.transform(dataTable.cells()));
+            return unpack((List<List<V>>) transform(cellValueConverter, dataTable.cells()));
         } else {
             problems.add(problemNoTableCellTransformer(valueType));
         }
         DataTableType defaultCellValueConverter = registry.getDefaultTableCellTransformer(valueType);
         if (defaultCellValueConverter != null) {
-            return unpack((List<List<V>>) defaultCellValueConverter.transform(dataTable.cells()));
+            return unpack((List<List<V>>) transform(defaultCellValueConverter, dataTable.cells()));
         } else {
             problems.add(problemNoDefaultTableCellTransformer(valueType));
         }
@@ -461,7 +461,7 @@ public final class DataTableTypeRegistryTableConverter implements TableConverter
         DataTable header = dataTable.rows(0, 1);
 
         List<Map<K, V>> result = new ArrayList<>();
-        List<K> keys = unpack((List<List<K>>) keyConverter.transform(header.cells()));
+        List<K> keys = unpack((List<List<K>>) transform(keyConverter, header.cells()));
 
         DataTable rows = dataTable.rows(1);
 
@@ -469,7 +469,7 @@ public final class DataTableTypeRegistryTableConverter implements TableConverter
             return emptyList();
         }
 
-        List<List<V>> transform = (List<List<V>>) valueConverter.transform(rows.cells());
+        List<List<V>> transform = (List<List<V>>) transform(valueConverter, rows.cells());
 
         for (List<V> values : transform) {
             result.add(createMap(keyType, keys, valueType, values));
@@ -485,4 +485,8 @@ public final class DataTableTypeRegistryTableConverter implements TableConverter
         return unpacked;
     }
 
+    private Object transform(DataTableType dataTableType, List<List<String>> cells) {
+        return dataTableType.transform(cells, registry.getParallelTransformation());
+    }
+
 }
@@ -0,0 +1,84 @@
+package io.cucumber.datatable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Transforms the rows of large tables concurrently.
+ * <p>
+ * Rows are split into contiguous chunks, one per thread. Each chunk is
+ * transformed in order, so the results can be concatenated in order and the
+ * exception reported is always the one thrown for the first failing row.
+ * <p>
+ * Chunks are transformed in the {@link ForkJoinPool#commonPool() common pool}
+ * so no threads are owned by, or have to be released with, a registry.
+ */
+final class ParallelTransformation {
+
+    private final int threshold;
+    private final int parallelism;
+
+    ParallelTransformation(int threshold, int parallelism) {
+        if (threshold < 1)
+            throw new IllegalArgumentException("threshold must be at least 1 but was " + threshold);
+        if (parallelism < 1)
+            throw new IllegalArgumentException("parallelism must be at least 1 but was " + parallelism);
+        this.threshold = threshold;
+        this.parallelism = parallelism;
+    }
+
+    boolean appliesTo(List<?> rows) {
+        return parallelism > 1 && rows.size() >= threshold;
+    }
+
+    <S, T> List<T> transform(List<S> rows, RowTransformer<S, T> transformer) throws Throwable {
+        int size = rows.size();
+        int chunks = Math.min(parallelism, size);
+        List<Callable<Chunk<T>>> tasks = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            int from = (int) ((long) size * i / chunks);
+            int to = (int) ((long) size * (i + 1) / chunks);
+            List<S> rowsInChunk = rows.subList(from, to);
+            tasks.add(() -> {
+                Chunk<T> chunk = new Chunk<>(rowsInChunk.size());
+                try {
+                    for (S row : rowsInChunk) {
+                        chunk.transformed.add(transformer.transform(row));
+                    }
+                } catch (Throwable t) {
+                    chunk.failure = t;
+                }
+                return chunk;
+            });
+        }
+
+        List<Future<Chunk<T>>> futures = ForkJoinPool.commonPool().invokeAll(tasks);
+        List<T> list = new ArrayList<>(size);
+        for (Future<Chunk<T>> future : futures) {
+            Chunk<T> chunk = future.get();
+            if (chunk.failure != null) {
+                throw chunk.failure;
+            }
+            list.addAll(chunk.transformed);
+        }
+        return list;
+    }
+
+    private static final class Chunk<T> {
+        final List<T> transformed;
+        Throwable failure;
+
+        Chunk(int size) {
+            this.transformed = new ArrayList<>(size);
+        }
+    }
+
+    @FunctionalInterface
+    interface RowTransformer<S, T> {
+        T transform(S row) throws Throwable;
+    }
+
+}
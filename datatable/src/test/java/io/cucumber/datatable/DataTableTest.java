@@ -368,6 +368,69 @@ class DataTableTest {
         assertThrows(UnsupportedOperationException.class, () -> createSimpleTable().cells().get(0).remove(0));
     }
 
+    @Test
+    void compact_table_should_equal_table() {
+        List<List<String>> raw = asList(asList("hundred", "100"), asList("thousand", "1000"));
+        DataTable compact = DataTable.createCompact(raw, tableConverter);
+        assertEquals(DataTable.create(raw, tableConverter), compact);
+        assertEquals(raw, compact.cells());
+        assertEquals(raw.hashCode(), compact.hashCode());
+    }
+
+    @Test
+    void compact_table_should_view_rows_columns_and_transpose() {
+        List<List<String>> raw = asList(
+            asList("one", "four", "seven"),
+            asList("4444", "55555", "666666"));
+        DataTable compact = DataTable.createCompact(raw, tableConverter);
+        assertEquals(3, compact.width());
+        assertEquals(2, compact.height());
+        assertEquals("55555", compact.cell(1, 1));
+        assertEquals(asList("4444", "55555", "666666"), compact.row(1));
+        assertEquals(asList("seven", "666666"), compact.column(2));
+        assertEquals(DataTable.create(raw).transpose().cells(), compact.transpose().cells());
+        assertEquals(asList(asList("55555", "666666")), compact.subTable(1, 1).cells());
+        assertThrows(IndexOutOfBoundsException.class, () -> compact.cells().get(0).get(3));
+    }
+
+    @Test
+    void compact_table_without_columns_behaves_as_table() {
+        List<List<String>> raw = asList(emptyList(), emptyList());
+        DataTable compact = DataTable.createCompact(raw, tableConverter);
+        DataTable table = DataTable.create(raw, tableConverter);
+        assertEquals(table, compact);
+        assertEquals(table.isEmpty(), compact.isEmpty());
+        assertEquals(table.width(), compact.width());
+        assertEquals(table.height(), compact.height());
+        assertEquals(table.cells(), compact.cells());
+    }
+
+    @Test
+    void compact_table_cells_are_immutable() {
+        DataTable compact = DataTable.createCompact(asList(asList("a", "b")), tableConverter);
+        assertThrows(UnsupportedOperationException.class, () -> compact.cells().get(0).set(0, "c"));
+    }
+
+    @Test
+    void compact_table_can_not_support_non_rectangular_tables() {
+        List<List<String>> raw = asList(
+            asList("one", "four", "seven"),
+            asList("a1", "a4444"));
+        assertThrows(IllegalArgumentException.class, () -> DataTable.createCompact(raw, tableConverter));
+    }
+
+    @Test
+    void compact_tables_share_interned_cells() {
+        DataTableCellInterner interner = new DataTableCellInterner();
+        DataTable first = DataTable.createCompact(
+            asList(asList(new String("a"), null)), tableConverter, interner);
+        DataTable second = DataTable.createCompact(
+            asList(asList(new String("a"), null)), tableConverter, interner);
+        assertSame(first.cell(0, 0), second.cell(0, 0));
+        assertEquals(asList("a", null), second.row(0));
+        assertEquals(1, interner.size());
+    }
+
     @Test
     void convert_delegates_to_converter() {
         List<List<String>> raw = singletonList(
@@ -13,6 +13,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -139,6 +140,69 @@ class DataTableTypeRegistryTableConverterTest {
         assertEquals(emptyList(), converter.convert(table, LIST_OF_INT));
     }
 
+    @Test
+    void convert_to_list__with_parallel_transformation__preserves_order() {
+        registry.setParallelTransformation(10, 4);
+        registry.defineDataTableType(
+            new DataTableType(AirPortCode.class, AIR_PORT_CODE_TABLE_ENTRY_TRANSFORMER).threadSafe());
+
+        List<List<String>> raw = new ArrayList<>();
+        List<AirPortCode> expected = new ArrayList<>();
+        raw.add(singletonList("code"));
+        for (int i = 0; i < 1000; i++) {
+            raw.add(singletonList("A" + i));
+            expected.add(new AirPortCode("A" + i));
+        }
+        DataTable table = DataTable.create(raw, converter);
+
+        assertEquals(expected, converter.toList(table, AirPortCode.class));
+    }
+
+    @Test
+    void convert_to_lists__with_parallel_transformation__preserves_order() {
+        registry.setParallelTransformation(10, 4);
+        registry.defineDataTableType(new DataTableType(AirPortCode.class, AIR_PORT_CODE_TABLE_CELL_TRANSFORMER)
+                .threadSafe());
+
+        List<List<String>> raw = new ArrayList<>();
+        List<List<AirPortCode>> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            raw.add(asList("A" + i, "B" + i));
+            expected.add(asList(new AirPortCode("A" + i), new AirPortCode("B" + i)));
+        }
+        DataTable table = DataTable.create(raw, converter);
+
+        assertEquals(expected, converter.toLists(table, AirPortCode.class));
+    }
+
+    @Test
+    void convert_to_list__with_parallel_transformation__reports_first_failing_row() {
+        registry.setParallelTransformation(10, 4);
+        registry.defineDataTableType(new DataTableType(AirPortCode.class, (TableRowTransformer<AirPortCode>) row -> {
+            if (row.get(0).startsWith("X")) {
+                throw new IllegalArgumentException(row.get(0));
+            }
+            return new AirPortCode(row.get(0));
+        }).threadSafe());
+
+        List<List<String>> raw = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            raw.add(singletonList(i == 333 || i == 777 ? "X" + i : "A" + i));
+        }
+        DataTable table = DataTable.create(raw, converter);
+
+        CucumberDataTableException exception = assertThrows(
+            CucumberDataTableException.class,
+            () -> converter.toList(table, AirPortCode.class));
+        assertEquals("X333", exception.getCause().getMessage());
+    }
+
+    @Test
+    void parallel_transformation_requires_positive_threshold_and_parallelism() {
+        assertThrows(IllegalArgumentException.class, () -> registry.setParallelTransformation(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> registry.setParallelTransformation(10, 0));
+    }
+
     @Test
     void convert_to_empty_lists__empty_table() {
         DataTable table = emptyDataTable();
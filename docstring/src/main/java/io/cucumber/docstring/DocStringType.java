@@ -3,6 +3,9 @@ package io.cucumber.docstring;
 import org.apiguardian.api.API;
 
 import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
@@ -37,6 +40,29 @@ public final class DocStringType {
         this.transformer = requireNonNull(transformer);
     }
 
+    /**
+     * Returns a copy of this doc string type that remembers the objects it
+     * created.
+     * <p>
+     * Doc strings with the same content will be converted to the same
+     * instance, so the transformer must be pure and the objects it creates
+     * should be immutable. At most {@code maximumSize} of the most recently
+     * used objects are remembered.
+     *
+     * @param  maximumSize              the maximum number of objects to
+     *                                  remember
+     * @return                          a memoizing copy of this doc string
+     *                                  type
+     * @throws IllegalArgumentException when maximumSize is less than 1
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public DocStringType memoized(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1 but was " + maximumSize);
+        }
+        return new DocStringType(type, contentType, new MemoizingTransformer<>(transformer, maximumSize));
+    }
+
     String getContentType() {
         return contentType;
     }
@@ -63,4 +89,36 @@ public final class DocStringType {
 
     }
 
+    private static final class MemoizingTransformer<T> implements Transformer<T> {
+
+        private final Transformer<T> transformer;
+        private final Map<String, T> transformed;
+
+        MemoizingTransformer(Transformer<T> transformer, int maximumSize) {
+            this.transformer = transformer;
+            this.transformed = Collections.synchronizedMap(new LinkedHashMap<String, T>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                    return size() > maximumSize;
+                }
+            });
+        }
+
+        @Override
+        public T transform(String content) throws Throwable {
+            T existing = transformed.get(content);
+            if (existing != null || transformed.containsKey(content)) {
+                return existing;
+            }
+            // Transform outside the lock. Concurrent conversions of the same
+            // content may both transform, the last result is remembered.
+            T result = transformer.transform(content);
+            transformed.put(content, result);
+            return result;
+        }
+
+    }
+
 }
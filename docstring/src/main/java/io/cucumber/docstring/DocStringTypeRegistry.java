@@ -3,11 +3,11 @@ package io.cucumber.docstring;
 import org.apiguardian.api.API;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 
@@ -17,6 +17,7 @@ public final class DocStringTypeRegistry {
     private static final Class<String> DEFAULT_TYPE = String.class;
     private static final String DEFAULT_CONTENT_TYPE = "";
     private final Map<String, Map<Type, DocStringType>> docStringTypes = new HashMap<>();
+    private final Map<Type, List<DocStringType>> docStringTypesByType = new HashMap<>();
 
     public DocStringTypeRegistry() {
         defineDocStringType(new DocStringType(DEFAULT_TYPE, DEFAULT_CONTENT_TYPE, (String docString) -> docString));
@@ -31,6 +32,8 @@ public final class DocStringTypeRegistry {
             s -> new HashMap<>());
         map.put(docStringType.getType(), docStringType);
         docStringTypes.put(docStringType.getContentType(), map);
+        docStringTypesByType.computeIfAbsent(docStringType.getType(), type -> new ArrayList<>())
+                .add(docStringType);
     }
 
     private static CucumberDocStringException createDuplicateTypeException(
@@ -64,11 +67,11 @@ public final class DocStringTypeRegistry {
     }
 
     private List<DocStringType> lookUpByType(Type type) {
-        return docStringTypes.values().stream()
-                .flatMap(typeDocStringTypeMap -> typeDocStringTypeMap.entrySet().stream()
-                        .filter(entry -> entry.getKey().equals(type))
-                        .map(Map.Entry::getValue))
-                .collect(Collectors.toList());
+        List<DocStringType> docStringTypesForType = docStringTypesByType.get(type);
+        if (docStringTypesForType == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(docStringTypesForType);
     }
 
     private DocStringType lookupByContentTypeAndType(String contentType, Type type) {
@@ -5,11 +5,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.equalToCompressingWhiteSpace;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -171,6 +173,45 @@ class DocStringTypeRegistryDocStringConverterTest {
             () -> assertThat(docStringYml.getContent(), equalTo(converter.convert(docStringYml, String.class))));
     }
 
+    @Test
+    void memoized_doc_string_type_converts_same_content_once() {
+        AtomicInteger transformations = new AtomicInteger();
+        registry.defineDocStringType(new DocStringType(
+            Greet.class,
+            "text",
+            (String content) -> {
+                transformations.incrementAndGet();
+                return new Greet(content);
+            }).memoized(2));
+
+        Greet first = converter.convert(DocString.create("hello world", "text"), Greet.class);
+        Greet second = converter.convert(DocString.create("hello " + "world", "text"), Greet.class);
+        Greet other = converter.convert(DocString.create("goodbye", "text"), Greet.class);
+
+        assertAll(
+            () -> assertThat(second, sameInstance(first)),
+            () -> assertThat(other, equalTo(new Greet("goodbye"))),
+            () -> assertThat(transformations.get(), is(2)));
+    }
+
+    @Test
+    void memoized_doc_string_type_forgets_least_recently_used_content() {
+        AtomicInteger transformations = new AtomicInteger();
+        registry.defineDocStringType(new DocStringType(
+            Greet.class,
+            "text",
+            (String content) -> {
+                transformations.incrementAndGet();
+                return new Greet(content);
+            }).memoized(1));
+
+        converter.convert(DocString.create("hello world", "text"), Greet.class);
+        converter.convert(DocString.create("goodbye", "text"), Greet.class);
+        converter.convert(DocString.create("hello world", "text"), Greet.class);
+
+        assertThat(transformations.get(), is(3));
+    }
+
     @Test
     void same_docstring_content_type_can_convert_to_different_registered_doc_string_types() {
         registry.defineDocStringType(new DocStringType(